@@ -0,0 +1,93 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.lang.System.err;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.PlaygroundClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary Runs the benchmarks for this module.}</p>
+ *  <p>The benchmarks are run with the
+ *  {@link GCProfiler},
+ *  so that the results include the allocations per operation
+ *  ({@code gc.alloc.rate.norm}). The results are written to
+ *  {@code jmh-result.json}, too.</p>
+ *  <p>The first command line argument, if given, is used as a regular
+ *  expression to select the benchmarks to run.</p>
+ *  <p>The program terminates with the exit code 0 if all benchmarks were
+ *  run successfully, and with 1 if a benchmark failed, or if no benchmark
+ *  matched the selection.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@PlaygroundClass
+@ClassVersion( sourceVersion = "$Id: BenchmarkRunner.java 1310 2026-10-18 19:31:52Z tquadrat $" )
+public final class BenchmarkRunner
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private BenchmarkRunner() { throw new PrivateConstructorForStaticClassCalledError( BenchmarkRunner.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments.
+     */
+    public static final void main( final String... args )
+    {
+        var exitCode = 0;
+        try
+        {
+            final var include = args.length > 0 ? args [0] : BenchmarkRunner.class.getPackageName() + ".*Benchmark";
+            final var options = new OptionsBuilder()
+                .include( include )
+                .addProfiler( GCProfiler.class )
+                .resultFormat( ResultFormatType.JSON )
+                .result( "jmh-result.json" )
+                .shouldFailOnError( true )
+                .build();
+            if( new Runner( options ).run().isEmpty() ) exitCode = 1;
+        }
+        catch( final RunnerException e )
+        {
+            err.printf( "Benchmarks failed: %s%n", e.getMessage() );
+            exitCode = 1;
+        }
+        System.exit( exitCode );
+    }   //  main()
+}
+//  class BenchmarkRunner
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,143 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.tquadrat.foundation.i18n.TextUse.CAPTION;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  Compares the composition of message and text keys through
+ *  {@link I18nUtil#composeMessageKey(String, int)}
+ *  and
+ *  {@link I18nUtil#composeTextKey(String, TextUse, String)}
+ *  with the former implementation that was based on
+ *  {@link String#format(String, Object...)}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: ComposeKeyBenchmark.java 1262 2026-10-17 10:37:19Z tquadrat $" )
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( NANOSECONDS )
+@Warmup( iterations = 5, time = 1, timeUnit = SECONDS )
+@Measurement( iterations = 5, time = 1, timeUnit = SECONDS )
+@Fork( 1 )
+public class ComposeKeyBenchmark
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of distinct message ids that are used in turn; a small
+     *  number simulates a hot loop, a large number defeats the key cache.
+     */
+    @Param( {"1", "64", "100000"} )
+    public int m_DistinctIds;
+
+    /**
+     *  The counter for the message ids.
+     */
+    private int m_Counter = 0;
+
+    /**
+     *  The message prefix.
+     */
+    private final String m_MessagePrefix = "SFX";
+
+    /**
+     *  The class name for the text keys.
+     */
+    private final String m_SourceClass = ComposeKeyBenchmark.class.getName();
+
+    /**
+     *  The text ids.
+     */
+    private final String [] m_TextIds = { "Name", "Address", "City", "Country" };
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  The message key, composed the former way.
+     *
+     *  @return The message key.
+     */
+    @Benchmark
+    public String legacyComposeMessageKey()
+    {
+        final var id = 1700 + (m_Counter++ % m_DistinctIds);
+        return format( "%s-%06d", m_MessagePrefix, id );
+    }   //  legacyComposeMessageKey()
+
+    /**
+     *  The text key, composed the former way.
+     *
+     *  @return The text key.
+     */
+    @Benchmark
+    public String legacyComposeTextKey()
+    {
+        final var id = m_TextIds [m_Counter++ & 3];
+        return format( "%s.%s_%s", m_SourceClass, CAPTION.name(), id );
+    }   //  legacyComposeTextKey()
+
+    /**
+     *  The message key, composed through
+     *  {@link I18nUtil#composeMessageKey(String, int)}.
+     *
+     *  @return The message key.
+     */
+    @Benchmark
+    public String composeMessageKey()
+    {
+        final var id = 1700 + (m_Counter++ % m_DistinctIds);
+        return I18nUtil.composeMessageKey( m_MessagePrefix, id );
+    }   //  composeMessageKey()
+
+    /**
+     *  The text key, composed through
+     *  {@link I18nUtil#composeTextKey(String, TextUse, String)}.
+     *
+     *  @return The text key.
+     */
+    @Benchmark
+    public String composeTextKey()
+    {
+        final var id = m_TextIds [m_Counter++ & 3];
+        return I18nUtil.composeTextKey( m_SourceClass, CAPTION, id );
+    }   //  composeTextKey()
+}
+//  class ComposeKeyBenchmark
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,388 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.tquadrat.foundation.i18n.TextUse.CAPTION;
+import static org.tquadrat.foundation.i18n.TextUse.TXT;
+
+import java.time.Month;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The benchmarks for the methods of
+ *  {@link I18nUtil}.}</p>
+ *  <p>Each benchmark is measured for the throughput and for the latency
+ *  distribution
+ *  ({@link Mode#SampleTime});
+ *  when run through
+ *  {@link BenchmarkRunner},
+ *  the GC profiler adds the allocation rate per operation
+ *  ({@code gc.alloc.rate.norm}).</p>
+ *  <p>The texts are taken from the resource bundle {@code BenchmarkTexts}
+ *  in {@code src/jmh/resources}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: I18nUtilBenchmark.java 1291 2026-10-18 13:05:52Z tquadrat $" )
+@State( Scope.Benchmark )
+@BenchmarkMode( {Mode.Throughput, Mode.SampleTime} )
+@Warmup( iterations = 5, time = 1, timeUnit = SECONDS )
+@Measurement( iterations = 5, time = 1, timeUnit = SECONDS )
+@Fork( 1 )
+public class I18nUtilBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "BenchmarkTexts";
+
+    /**
+     *  The message prefix: {@value}.
+     */
+    public static final String MESSAGE_PREFIX = "SFX";
+
+    /**
+     *  The id for a message that is in the bundle: {@value}.
+     */
+    public static final int MSG_CannotConnect = 1704;
+
+    /**
+     *  The id for a message that is not in the bundle: {@value}.
+     */
+    public static final int MSG_Missing = 1799;
+
+    /**
+     *  The id for a message with a {@code long} argument: {@value}.
+     */
+    public static final int MSG_TimedOut = 1705;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The resource bundle.
+     */
+    private ResourceBundle m_Bundle;
+
+    /**
+     *  The resource bundle, wrapped into an instance of
+     *  {@link Optional}.
+     */
+    @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+    private Optional<ResourceBundle> m_OptionalBundle;
+
+    /**
+     *  The key for a text with arguments.
+     */
+    private String m_KeyWithArgs;
+
+    /**
+     *  The key for a text without arguments.
+     */
+    private String m_KeyStatic;
+
+    /**
+     *  The language tag for the locale that is used for the benchmark.
+     */
+    @Param( {"en", "de"} )
+    public String m_LanguageTag;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Loads the resource bundle.
+     */
+    @Setup( Level.Trial )
+    public void setup()
+    {
+        Locale.setDefault( Locale.forLanguageTag( m_LanguageTag ) );
+        m_OptionalBundle = I18nUtil.loadResourceBundle( BASE_BUNDLE_NAME );
+        m_Bundle = m_OptionalBundle.orElseThrow();
+        m_KeyStatic = I18nUtil.composeTextKey( I18nUtilBenchmark.class, CAPTION, "Static" );
+        m_KeyWithArgs = I18nUtil.composeTextKey( I18nUtilBenchmark.class, TXT, "WithArgs" );
+    }   //  setup()
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#composeMessageKey(String, int)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String composeMessageKeyInt() { return I18nUtil.composeMessageKey( MESSAGE_PREFIX, MSG_CannotConnect ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#composeMessageKey(String, String)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String composeMessageKeyString() { return I18nUtil.composeMessageKey( MESSAGE_PREFIX, "001704" ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#composeTextKey(Class, TextUse, String)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String composeTextKeyClass() { return I18nUtil.composeTextKey( I18nUtilBenchmark.class, CAPTION, "Static" ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#composeTextKey(String, TextUse, String)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String composeTextKeyString() { return I18nUtil.composeTextKey( "org.tquadrat.foundation.i18n.I18nUtilBenchmark", CAPTION, "Static" ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#composeTextKey(Enum)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String composeTextKeyEnum() { return I18nUtil.composeTextKey( Month.JUNE ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#loadResourceBundle(String)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public Optional<ResourceBundle> loadResourceBundle() { return I18nUtil.loadResourceBundle( BASE_BUNDLE_NAME ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#loadResourceBundle(String)}
+     *  with a bundle that does not exist.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public Optional<ResourceBundle> loadResourceBundleMissing() { return I18nUtil.loadResourceBundle( "This.One.Does.Not.Exist" ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#loadResourceBundle(String, Module)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public Optional<ResourceBundle> loadResourceBundleModule() { return I18nUtil.loadResourceBundle( BASE_BUNDLE_NAME, I18nUtilBenchmark.class.getModule() ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#resolveText(Optional, String, String, Object...)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String resolveText() { return I18nUtil.resolveText( m_OptionalBundle, "Customer Details", m_KeyStatic ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#resolveText(Optional, Optional, Optional, Object...)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String resolveTextOptional() { return I18nUtil.resolveText( m_OptionalBundle, Optional.of( "Customer '%1$s' has %2$d open orders" ), Optional.of( m_KeyWithArgs ), "Smith", 3 ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#resolveText(Optional, Enum)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String resolveTextEnum() { return I18nUtil.resolveText( m_OptionalBundle, Month.JUNE ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#resolveText(Optional, String, String, Object...)}
+     *  without a bundle.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String resolveTextNoBundle() { return I18nUtil.resolveText( Optional.empty(), "Customer Details", m_KeyStatic ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  with the key.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageWithKey() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, MSG_CannotConnect, true, new Object [] {8080} ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  without the key.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageWithoutKey() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, MSG_CannotConnect, false, new Object [] {8080} ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  for a message that is not in the bundle.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageMissing() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, MSG_Missing, true, new Object [] {8080} ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageObject() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, MSG_CannotConnect, true, (Object) 8080 ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, int)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageInt() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, MSG_CannotConnect, true, 8080 ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, long)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageLong() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, MSG_TimedOut, true, 30_000L ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, String, boolean, Object...)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageStringId() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, "001704", true, new Object [] {8080} ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, String, boolean, int)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveMessageStringIdInt() { return I18nUtil.retrieveMessage( m_Bundle, MESSAGE_PREFIX, "001704", true, 8080 ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveText(ResourceBundle, String, Object...)},
+     *  for a text without arguments.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveTextStatic() { return I18nUtil.retrieveText( m_Bundle, m_KeyStatic ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveText(ResourceBundle, String, Object...)},
+     *  for a text with arguments.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveTextWithArgs() { return I18nUtil.retrieveText( m_Bundle, m_KeyWithArgs, new Object [] {"Smith", 3} ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveText(ResourceBundle, String, Object, Object)},
+     *  for a text with arguments.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveTextTwoArgs() { return I18nUtil.retrieveText( m_Bundle, m_KeyWithArgs, "Smith", 3 ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveText(ResourceBundle, String, Object...)},
+     *  for a text that is not in the bundle.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveTextMissing() { return I18nUtil.retrieveText( m_Bundle, "does.not.exist", new Object [] {"Smith", 3} ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveText(ResourceBundle, Enum)}.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveTextEnum() { return I18nUtil.retrieveText( m_Bundle, Month.JUNE ); }
+
+    /**
+     *  Benchmark for
+     *  {@link I18nUtil#retrieveText(ResourceBundle, Enum)},
+     *  for a value that is not in the bundle.
+     *
+     *  @return The result.
+     */
+    @Benchmark
+    public String retrieveTextEnumMissing() { return I18nUtil.retrieveText( m_Bundle, Month.MAY ); }
+}
+//  class I18nUtilBenchmark
+
+/*
+ *  End of File
+ */
\ No newline at end of file
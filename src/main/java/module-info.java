@@ -25,6 +25,7 @@
 module org.tquadrat.foundation.i18n
 {
     requires java.base;
+    requires java.xml;
 
     //---* The foundation modules *--------------------------------------------
     requires transitive org.tquadrat.foundation.util;
@@ -0,0 +1,547 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.MpscQueue;
+
+/**
+ *  <p>{@summary Renders messages on a background thread.}</p>
+ *  <p>Any number of threads may
+ *  {@linkplain #offer(ResourceBundle, String, int, boolean, Object...) submit}
+ *  the data for a message; the request is put to a bounded, lock-free queue
+ *  and the calling thread continues immediately. A single background thread
+ *  takes the requests from the queue in batches, renders them with
+ *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)}
+ *  and delivers each batch of rendered messages to the sink, in the order
+ *  the requests were accepted.</p>
+ *  <p>If the queue is full,
+ *  {@link #offer(ResourceBundle, String, int, boolean, Object...) offer()}
+ *  rejects the request, while
+ *  {@link #submit(ResourceBundle, String, int, boolean, Object...) submit()}
+ *  waits until there is space again.</p>
+ *  <p>The arguments for a message are not copied; they should not be
+ *  modified after the request was submitted. Exceptions that are thrown
+ *  while a message is rendered, or by the sink, are counted, but they do not
+ *  stop the renderer.</p>
+ *  <p>{@link #close()}
+ *  stops accepting new requests and waits until all pending requests were
+ *  rendered and delivered. The background thread does not poll; while the
+ *  queue is empty, it sleeps until a new request arrives.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AsyncMessageRenderer.java 1301 2026-10-18 16:52:31Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AsyncMessageRenderer.java 1301 2026-10-18 16:52:31Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class AsyncMessageRenderer implements AutoCloseable
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  A request for rendering a message.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  {@code true} if the message should be prefixed with
+     *      the message key, {@code false} if not.
+     *  @param  args    The arguments for the message.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: AsyncMessageRenderer.java 1301 2026-10-18 16:52:31Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: AsyncMessageRenderer.java 1301 2026-10-18 16:52:31Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Request( ResourceBundle bundle, String messagePrefix, int id, boolean addKey, Object [] args ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default size for a batch: {@value}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of threads that are currently putting a request to the
+     *  queue.
+     */
+    private final AtomicInteger m_ActiveProducers = new AtomicInteger();
+
+    /**
+     *  The maximum number of messages in a batch.
+     */
+    private final int m_BatchSize;
+
+    /**
+     *  The number of messages that were delivered to the sink; messages
+     *  that failed are not counted.
+     */
+    private final AtomicLong m_DeliveredCount = new AtomicLong();
+
+    /**
+     *  The number of requests that failed, either when rendering the
+     *  message, or when delivering it to the sink.
+     */
+    private final LongAdder m_FailedCount = new LongAdder();
+
+    /**
+     *  The number of threads that are currently waiting in
+     *  {@link #flush(long, TimeUnit)}.
+     */
+    private final AtomicInteger m_FlushWaiters = new AtomicInteger();
+
+    /**
+     *  {@code true} if the renderer was closed.
+     */
+    private volatile boolean m_IsClosed = false;
+
+    /**
+     *  {@code true} if the background thread is about to sleep.
+     */
+    private volatile boolean m_IsParked = false;
+
+    /**
+     *  The number of requests that were processed, either successfully or
+     *  not.
+     */
+    private final AtomicLong m_ProcessedCount = new AtomicLong();
+
+    /**
+     *  The condition that is signalled when requests were processed.
+     */
+    private final Condition m_ProcessedCondition;
+
+    /**
+     *  The lock for
+     *  {@link #m_ProcessedCondition}.
+     */
+    private final ReentrantLock m_ProcessedLock = new ReentrantLock();
+
+    /**
+     *  The queue.
+     */
+    private final MpscQueue<Request> m_Queue;
+
+    /**
+     *  The number of requests that were rejected because the queue was full.
+     */
+    private final LongAdder m_RejectedCount = new LongAdder();
+
+    /**
+     *  The sink.
+     */
+    private final Consumer<? super List<String>> m_Sink;
+
+    /**
+     *  The number of requests that were accepted.
+     */
+    private final AtomicLong m_SubmittedCount = new AtomicLong();
+
+    /**
+     *  The background thread.
+     */
+    private final Thread m_Worker;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code AsyncMessageRenderer} instance that uses a
+     *  daemon thread for rendering, and the
+     *  {@linkplain #DEFAULT_BATCH_SIZE default batch size}.
+     *
+     *  @param  capacity    The capacity of the queue; it will be rounded up
+     *      to the next power of 2.
+     *  @param  sink    The sink for the rendered messages.
+     */
+    public AsyncMessageRenderer( final int capacity, final Consumer<? super List<String>> sink )
+    {
+        this( capacity, DEFAULT_BATCH_SIZE, Thread.ofPlatform().daemon().name( "AsyncMessageRenderer" ).factory(), sink );
+    }   //  AsyncMessageRenderer()
+
+    /**
+     *  Creates a new {@code AsyncMessageRenderer} instance.
+     *
+     *  @param  capacity    The capacity of the queue; it will be rounded up
+     *      to the next power of 2.
+     *  @param  batchSize   The maximum number of messages that are rendered
+     *      and delivered to the sink as one batch.
+     *  @param  threadFactory   The factory for the background thread.
+     *  @param  sink    The sink for the rendered messages.
+     */
+    public AsyncMessageRenderer( final int capacity, final int batchSize, final ThreadFactory threadFactory, final Consumer<? super List<String>> sink )
+    {
+        if( batchSize < 1 ) throw new IllegalArgumentException( "Invalid batch size: %d".formatted( batchSize ) );
+        m_Queue = new MpscQueue<>( capacity );
+        m_BatchSize = batchSize;
+        m_Sink = requireNonNullArgument( sink, "sink" );
+        m_ProcessedCondition = m_ProcessedLock.newCondition();
+        m_Worker = requireNonNullArgument( threadFactory, "threadFactory" ).newThread( this::run );
+        m_Worker.start();
+    }   //  AsyncMessageRenderer()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Stops accepting new requests, renders all pending requests
+     *  and waits}
+     *  until the background thread has terminated. Requests that were
+     *  accepted while the background thread was terminating are rendered by
+     *  the calling thread.</p>
+     *  <p>If the calling thread is interrupted while waiting, the method
+     *  returns immediately, with the interrupt status set; the background
+     *  thread will still render and deliver the pending requests before it
+     *  terminates.</p>
+     */
+    @Override
+    public final synchronized void close()
+    {
+        m_IsClosed = true;
+
+        /*
+         * A producer that has passed the check for m_IsClosed before the
+         * flag was set may still be about to put its request to the queue;
+         * wait until it is done, so that its request will not be lost.
+         */
+        while( m_ActiveProducers.get() > 0 ) Thread.onSpinWait();
+
+        LockSupport.unpark( m_Worker );
+        if( Thread.currentThread() != m_Worker )
+        {
+            try
+            {
+                m_Worker.join();
+            }
+            catch( final InterruptedException e )
+            {
+                /*
+                 * The background thread is still running and is the only
+                 * consumer of the queue; it will process the remaining
+                 * requests itself.
+                 */
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            //---* Process the stragglers *------------------------------------
+            final List<Request> batch = new ArrayList<>();
+            while( m_Queue.drain( batch::add, m_BatchSize ) > 0 )
+            {
+                process( batch );
+                batch.clear();
+            }
+        }
+    }   //  close()
+
+    /**
+     *  Waits until all requests that were accepted before this method was
+     *  called have been processed, that means that their messages were
+     *  either delivered to the sink, or failed.
+     *
+     *  @param  timeout The maximum time to wait.
+     *  @param  unit    The unit for the timeout.
+     *  @return {@code true} if all requests were delivered, {@code false} if
+     *      the timeout elapsed before.
+     *  @throws InterruptedException    The calling thread was interrupted
+     *      while waiting.
+     */
+    public final boolean flush( final long timeout, final TimeUnit unit ) throws InterruptedException
+    {
+        requireNonNullArgument( unit, "unit" );
+
+        final var target = m_SubmittedCount.get();
+        var retValue = m_ProcessedCount.get() >= target;
+        if( !retValue )
+        {
+            var nanos = unit.toNanos( timeout );
+            m_FlushWaiters.incrementAndGet();
+            m_ProcessedLock.lockInterruptibly();
+            try
+            {
+                WaitLoop: while( !(retValue = m_ProcessedCount.get() >= target) )
+                {
+                    if( nanos <= 0 ) break WaitLoop;
+                    nanos = m_ProcessedCondition.awaitNanos( nanos );
+                }   //  WaitLoop:
+            }
+            finally
+            {
+                m_ProcessedLock.unlock();
+                m_FlushWaiters.decrementAndGet();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  flush()
+
+    /**
+     *  Returns the capacity of the queue.
+     *
+     *  @return The capacity.
+     */
+    public final int getCapacity() { return m_Queue.getCapacity(); }
+
+    /**
+     *  Returns the number of messages that were delivered to the sink;
+     *  messages that could not be rendered, or for which the sink failed,
+     *  are not counted.
+     *
+     *  @return The number of delivered messages.
+     */
+    public final long getDeliveredCount() { return m_DeliveredCount.get(); }
+
+    /**
+     *  Returns the number of requests that failed, either when the message
+     *  was rendered, or when it was delivered to the sink.
+     *
+     *  @return The number of failed requests.
+     */
+    public final long getFailedCount() { return m_FailedCount.sum(); }
+
+    /**
+     *  Returns the current number of requests in the queue.
+     *
+     *  @return The queue depth.
+     */
+    public final int getQueueDepth() { return m_Queue.size(); }
+
+    /**
+     *  Returns the number of requests that were rejected because the queue
+     *  was full.
+     *
+     *  @return The number of rejected requests.
+     */
+    public final long getRejectedCount() { return m_RejectedCount.sum(); }
+
+    /**
+     *  Returns the number of requests that were accepted.
+     *
+     *  @return The number of accepted requests.
+     */
+    public final long getSubmittedCount() { return m_SubmittedCount.get(); }
+
+    /**
+     *  Checks whether this renderer was closed.
+     *
+     *  @return {@code true} if the renderer was closed, {@code false}
+     *      otherwise.
+     */
+    public final boolean isClosed() { return m_IsClosed; }
+
+    /**
+     *  Submits a message for rendering, if there is space left in the queue.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return {@code true} if the request was accepted, {@code false} if
+     *      the queue is full.
+     *  @throws IllegalStateException   The renderer was already closed.
+     */
+    public final boolean offer( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IllegalStateException
+    {
+        final var request = new Request( requireNonNullArgument( bundle, "bundle" ), requireNotEmptyArgument( messagePrefix, "messagePrefix" ), id, addKey, requireNonNullArgument( args, "args" ) );
+        final var retValue = offer( request );
+        if( !retValue ) m_RejectedCount.increment();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  offer()
+
+    /**
+     *  Puts the given request to the queue and wakes up the background
+     *  thread, if necessary.
+     *
+     *  @param  request The request.
+     *  @return {@code true} if the request was accepted, {@code false} if
+     *      the queue is full.
+     *  @throws IllegalStateException   The renderer was already closed.
+     */
+    private final boolean offer( final Request request ) throws IllegalStateException
+    {
+        final boolean retValue;
+        m_ActiveProducers.incrementAndGet();
+        try
+        {
+            if( m_IsClosed ) throw new IllegalStateException( "The renderer was closed" );
+            retValue = m_Queue.offer( request );
+            if( retValue )
+            {
+                m_SubmittedCount.incrementAndGet();
+                if( m_IsParked ) LockSupport.unpark( m_Worker );
+            }
+        }
+        finally
+        {
+            m_ActiveProducers.decrementAndGet();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  offer()
+
+    /**
+     *  Renders the given batch of requests and delivers the result to the
+     *  sink.
+     *
+     *  @param  batch   The requests.
+     */
+    private final void process( final List<Request> batch )
+    {
+        final List<String> messages = new ArrayList<>( batch.size() );
+        for( final var request : batch )
+        {
+            try
+            {
+                messages.add( I18nUtil.retrieveMessage( request.bundle(), request.messagePrefix(), request.id(), request.addKey(), request.args() ) );
+            }
+            catch( final RuntimeException ignored )
+            {
+                m_FailedCount.increment();
+            }
+        }
+        try
+        {
+            if( !messages.isEmpty() ) m_Sink.accept( messages );
+            m_DeliveredCount.addAndGet( messages.size() );
+        }
+        catch( final RuntimeException ignored )
+        {
+            m_FailedCount.add( messages.size() );
+        }
+        m_ProcessedCount.addAndGet( batch.size() );
+
+        //---* Wake up the threads that are waiting in flush() *---------------
+        if( m_FlushWaiters.get() > 0 )
+        {
+            m_ProcessedLock.lock();
+            try
+            {
+                m_ProcessedCondition.signalAll();
+            }
+            finally
+            {
+                m_ProcessedLock.unlock();
+            }
+        }
+    }   //  process()
+
+    /**
+     *  The loop for the background thread.
+     */
+    private final void run()
+    {
+        final List<Request> batch = new ArrayList<>( m_BatchSize );
+        RunLoop: while( true )
+        {
+            batch.clear();
+            if( m_Queue.drain( batch::add, m_BatchSize ) > 0 )
+            {
+                process( batch );
+                continue RunLoop;
+            }
+            if( m_IsClosed && m_Queue.isEmpty() ) break RunLoop;
+
+            /*
+             * Wait for new requests. A producer checks m_IsParked after it
+             * has put its request to the queue, and close() always unparks
+             * this thread; as the queue is checked again after m_IsParked
+             * was set, no wake-up can get lost.
+             */
+            m_IsParked = true;
+            if( m_Queue.isEmpty() && !m_IsClosed ) LockSupport.park( this );
+            m_IsParked = false;
+        }   //  RunLoop:
+    }   //  run()
+
+    /**
+     *  Submits a message for rendering; if the queue is full, the method
+     *  waits until there is space again.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @throws InterruptedException    The calling thread was interrupted
+     *      while waiting.
+     *  @throws IllegalStateException   The renderer was closed.
+     */
+    public final void submit( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws InterruptedException, IllegalStateException
+    {
+        final var request = new Request( requireNonNullArgument( bundle, "bundle" ), requireNotEmptyArgument( messagePrefix, "messagePrefix" ), id, addKey, requireNonNullArgument( args, "args" ) );
+        var spins = 0;
+        while( !offer( request ) )
+        {
+            if( Thread.interrupted() ) throw new InterruptedException();
+            if( ++spins < 64 )
+            {
+                Thread.onSpinWait();
+            }
+            else
+            {
+                LockSupport.unpark( m_Worker );
+                LockSupport.parkNanos( MILLISECONDS.toNanos( 1 ) / 10 );
+            }
+        }
+    }   //  submit()
+}
+//  class AsyncMessageRenderer
+
+/*
+ *  End of File
+ */
\ No newline at end of file
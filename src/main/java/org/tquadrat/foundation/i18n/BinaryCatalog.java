@@ -0,0 +1,285 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.i18n.internal.AdditionalTextsReader;
+import org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat;
+import org.tquadrat.foundation.i18n.internal.MappedTextCatalog;
+
+/**
+ *  <p>{@summary Compiles texts into binary catalog files, and opens those
+ *  files as
+ *  {@link TextCatalog}
+ *  instances.}</p>
+ *  <p>A binary catalog holds the texts for a single locale. A catalog that
+ *  was compiled from a
+ *  {@link ResourceBundle}
+ *  contains the texts from the parents of that bundle as well, while those
+ *  compiled from a properties file or from the additional texts hold only
+ *  the texts for their own locale;
+ *  {@link LocaleResolver#forCatalogs(Path, String, Locale)}
+ *  layers the catalogs for the parent locales beneath them. The keys are
+ *  stored in a table that is
+ *  addressed by a perfect hash function, so that a lookup needs exactly one
+ *  probe, and the strings are kept in a pool in either ISO-8859-1 or
+ *  UTF-8.</p>
+ *  <p>When opened, the file is mapped into memory; it is neither parsed nor
+ *  copied to the heap. A key or a text is decoded only when it is requested
+ *  for the first time. This makes opening a catalog cheap even if it holds
+ *  many thousand texts, of which only a few will be used.</p>
+ *  <p>Catalogs can be compiled from a
+ *  {@link ResourceBundle},
+ *  from a properties file as written by the annotation processor, or from a
+ *  file
+ *  {@value I18nUtil#ADDITIONAL_TEXT_FILE}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: BinaryCatalog.java 1288 2026-10-18 11:46:39Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: BinaryCatalog.java 1288 2026-10-18 11:46:39Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class BinaryCatalog
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The file extension for binary catalog files: {@value}.
+     */
+    public static final String CATALOG_FILE_EXTENSION = ".tqcat";
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private BinaryCatalog() { throw new PrivateConstructorForStaticClassCalledError( BinaryCatalog.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Compiles the given texts into a binary catalog file. The file is
+     *  written to a temporary file first, that is moved to the target
+     *  location when complete; an existing file will be replaced.
+     *
+     *  @param  locale  The locale for the texts.
+     *  @param  texts   The texts, by key.
+     *  @param  target  The catalog file.
+     *  @throws IOException The catalog file cannot be written.
+     */
+    public static final void compile( final Locale locale, final Map<String,String> texts, final Path target ) throws IOException
+    {
+        requireNonNullArgument( locale, "locale" );
+        requireNonNullArgument( texts, "texts" );
+        final var targetFile = requireNonNullArgument( target, "target" ).toAbsolutePath();
+
+        final var data = BinaryCatalogFormat.write( locale, texts );
+        final var folder = targetFile.getParent();
+        Files.createDirectories( folder );
+        final var tempFile = Files.createTempFile( folder, targetFile.getFileName().toString(), ".tmp" );
+        try
+        {
+            Files.write( tempFile, data );
+            try
+            {
+                Files.move( tempFile, targetFile, ATOMIC_MOVE, REPLACE_EXISTING );
+            }
+            catch( @SuppressWarnings( "unused" ) final AtomicMoveNotSupportedException e )
+            {
+                Files.move( tempFile, targetFile, REPLACE_EXISTING );
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists( tempFile );
+        }
+    }   //  compile()
+
+    /**
+     *  Compiles the texts from the given resource bundle, including those
+     *  from its parents, into a binary catalog file.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  target  The catalog file.
+     *  @throws IOException The catalog file cannot be written.
+     */
+    public static final void compile( final ResourceBundle bundle, final Path target ) throws IOException
+    {
+        requireNonNullArgument( bundle, "bundle" );
+
+        final Map<String,String> texts = new HashMap<>();
+        for( final var key : bundle.keySet() )
+        {
+            if( bundle.getObject( key ) instanceof final String text ) texts.put( key, text );
+        }
+        compile( bundle.getLocale(), texts, target );
+    }   //  compile()
+
+    /**
+     *  Compiles the texts from the given file
+     *  {@value I18nUtil#ADDITIONAL_TEXT_FILE}
+     *  into binary catalog files, one for each language that occurs in the
+     *  file. The names for the catalog files are composed from the given
+     *  base name, the language tag and the
+     *  {@linkplain #CATALOG_FILE_EXTENSION extension},
+     *  like {@code Texts_de.tqcat}.
+     *
+     *  @param  source  The file with the additional texts.
+     *  @param  targetFolder    The folder for the catalog files.
+     *  @param  baseName    The base name for the catalog files.
+     *  @return The catalog files that were written.
+     *  @throws IOException The source file cannot be read or parsed, or a
+     *      catalog file cannot be written.
+     */
+    public static final List<Path> compileAdditionalTexts( final Path source, final Path targetFolder, final String baseName ) throws IOException
+    {
+        requireNonNullArgument( source, "source" );
+        requireNonNullArgument( targetFolder, "targetFolder" );
+        requireNotEmptyArgument( baseName, "baseName" );
+
+        final Map<Locale,Map<String,String>> texts;
+        try( final var inputStream = Files.newInputStream( source ) )
+        {
+            texts = AdditionalTextsReader.read( inputStream );
+        }
+        final List<Path> retValue = new ArrayList<>( texts.size() );
+        for( final var entry : texts.entrySet() )
+        {
+            final var target = targetFolder.resolve( composeFileName( baseName, entry.getKey() ) );
+            compile( entry.getKey(), entry.getValue(), target );
+            retValue.add( target );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return List.copyOf( retValue );
+    }   //  compileAdditionalTexts()
+
+    /**
+     *  Compiles the texts from the given properties file into a binary
+     *  catalog file. The properties file has to be encoded in ISO-8859-1, as
+     *  those that are written by the annotation processor.
+     *
+     *  @param  source  The properties file.
+     *  @param  locale  The locale for the texts.
+     *  @param  target  The catalog file.
+     *  @throws IOException The properties file cannot be read, or the
+     *      catalog file cannot be written.
+     */
+    public static final void compileProperties( final Path source, final Locale locale, final Path target ) throws IOException
+    {
+        requireNonNullArgument( source, "source" );
+
+        final var properties = new Properties();
+        try( final var inputStream = Files.newInputStream( source ) )
+        {
+            properties.load( inputStream );
+        }
+        final Map<String,String> texts = new HashMap<>();
+        for( final var key : properties.stringPropertyNames() ) texts.put( key, properties.getProperty( key ) );
+        compile( locale, texts, target );
+    }   //  compileProperties()
+
+    /**
+     *  Composes the name for the catalog file for the given locale, like
+     *  {@code Texts_de.tqcat}
+     *  or
+     *  {@code Texts_zh_Hant_TW.tqcat}.
+     *  The file for
+     *  {@link Locale#ROOT}
+     *  has just the base name and the
+     *  {@linkplain #CATALOG_FILE_EXTENSION extension}.
+     *
+     *  @param  baseName    The base name for the catalog files.
+     *  @param  locale  The locale.
+     *  @return The file name.
+     */
+    public static final String composeFileName( final String baseName, final Locale locale )
+    {
+        requireNotEmptyArgument( baseName, "baseName" );
+        requireNonNullArgument( locale, "locale" );
+
+        final var retValue = Locale.ROOT.equals( locale )
+            ? baseName + CATALOG_FILE_EXTENSION
+            : baseName + '_' + locale.toLanguageTag().replace( '-', '_' ) + CATALOG_FILE_EXTENSION;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  composeFileName()
+
+    /**
+     *  Opens the given binary catalog file. The file will be mapped into
+     *  memory; it must not be modified while the catalog is in use, but it
+     *  can be replaced by a new file.
+     *
+     *  @param  file    The catalog file.
+     *  @return The text catalog.
+     *  @throws IOException The file cannot be read, or it is not a valid
+     *      binary catalog.
+     */
+    public static final TextCatalog open( final Path file ) throws IOException
+    {
+        requireNonNullArgument( file, "file" );
+
+        final TextCatalog retValue;
+        try
+        {
+            retValue = MappedTextCatalog.map( file );
+        }
+        catch( final IllegalArgumentException e )
+        {
+            throw new IOException( "'%s' is not a valid catalog file".formatted( file ), e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  open()
+}
+//  class BinaryCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,246 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The access to the texts that are defined by a specific
+ *  class.}</p>
+ *  <p>The instance for a class is obtained with
+ *  {@link #of(Class)};
+ *  it is created only once per class and then kept in a
+ *  {@link ClassValue}.
+ *  The prefixes {@code <class_name>.<USE>_} for all values of
+ *  {@link TextUse}
+ *  are composed when the instance is created, and the text keys are kept
+ *  in a separate table for each use, so that a class that retrieves its
+ *  own captions or tool tips repeatedly does not build the key each time;
+ *  as the same {@code String} instance is returned for a key, its hash code
+ *  is calculated only once, too.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ClassTexts.java 1304 2026-10-18 17:46:52Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ClassTexts.java 1304 2026-10-18 17:46:52Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class ClassTexts
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of keys that will be remembered for a text use:
+     *  {@value}. When this number is exceeded, the table for the use will be
+     *  reset.
+     */
+    public static final int MAX_KEYS_PER_USE = 1024;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The name of the class.
+     */
+    private final String m_ClassName;
+
+    /**
+     *  The text keys, by id, for each text use.
+     */
+    private final Map<TextUse,Map<String,String>> m_Keys = new EnumMap<>( TextUse.class );
+
+    /**
+     *  The key prefixes, indexed by the ordinal of the text use.
+     */
+    private final String [] m_Prefixes;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The instances of this class, by source class.
+     */
+    private static final ClassValue<ClassTexts> m_Registry = new ClassValue<>()
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final ClassTexts computeValue( final Class<?> type ) { return new ClassTexts( type.getName() ); }
+    };
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ClassTexts} instance.
+     *
+     *  @param  className   The name of the class.
+     */
+    private ClassTexts( final String className )
+    {
+        m_ClassName = className;
+        final var uses = TextUse.values();
+        m_Prefixes = new String [uses.length];
+        for( final var use : uses )
+        {
+            m_Keys.put( use, new ConcurrentHashMap<>() );
+            m_Prefixes [use.ordinal()] = className + '.' + use.name() + '_';
+        }
+    }   //  ClassTexts()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Composes the resource bundle key for a text of this
+     *  class.}</p>
+     *  <p>The result is the same as for
+     *  {@link I18nUtil#composeTextKey(Class, TextUse, String)}.</p>
+     *
+     *  @param  use The text use.
+     *  @param  id  The id for the text, as from
+     *      {@link org.tquadrat.foundation.i18n.Text#id() &#64;Text.id}.
+     *  @return The text key.
+     */
+    public final String composeTextKey( final TextUse use, final String id )
+    {
+        final var keys = m_Keys.get( requireNonNullArgument( use, "use" ) );
+        var retValue = keys.get( requireNotEmptyArgument( id, "id" ) );
+        if( retValue == null )
+        {
+            retValue = m_Prefixes [use.ordinal()] + id;
+            if( keys.size() >= MAX_KEYS_PER_USE ) keys.clear();
+            keys.put( id, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  composeTextKey()
+
+    /**
+     *  Returns the name of the class.
+     *
+     *  @return The class name.
+     */
+    public final String getClassName() { return m_ClassName; }
+
+    /**
+     *  Returns the key prefix for the given text use.
+     *
+     *  @param  use The text use.
+     *  @return The prefix, in the format
+     *      {@code <class_name>.<USE>_}.
+     */
+    public final String getPrefix( final TextUse use ) { return m_Prefixes [requireNonNullArgument( use, "use" ).ordinal()]; }
+
+    /**
+     *  Returns the instance for the given class.
+     *
+     *  @param  sourceClass The class where the texts were defined.
+     *  @return The instance.
+     */
+    public static final ClassTexts of( final Class<?> sourceClass )
+    {
+        final var retValue = m_Registry.get( requireNonNullArgument( sourceClass, "sourceClass" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given use and id from the
+     *  given resource bundle and applies the given arguments to it.}</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  use The text use.
+     *  @param  id  The id for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveText(ResourceBundle, String, Object...)
+     */
+    public final String retrieveText( final ResourceBundle bundle, final TextUse use, final String id, final Object... args )
+    {
+        final var retValue = I18nUtil.retrieveText( bundle, composeTextKey( use, id ), args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given use and id from the
+     *  given catalog and applies the given arguments to it.}</p>
+     *
+     *  @param  catalog The catalog.
+     *  @param  use The text use.
+     *  @param  id  The id for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     *
+     *  @see TextCatalog#retrieveText(String, Object...)
+     */
+    public final String retrieveText( final TextCatalog catalog, final TextUse use, final String id, final Object... args )
+    {
+        final var retValue = requireNonNullArgument( catalog, "catalog" ).retrieveText( composeTextKey( use, id ), args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given use and id from the
+     *  catalog of the current
+     *  {@link I18nContext}
+     *  and applies the given arguments to it.}</p>
+     *
+     *  @param  use The text use.
+     *  @param  id  The id for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     *  @throws IllegalStateException   No context is bound.
+     *
+     *  @see I18nContext#retrieveText(String, Object...)
+     */
+    public final String retrieveText( final TextUse use, final String id, final Object... args ) throws IllegalStateException
+    {
+        final var retValue = I18nContext.retrieveText( composeTextKey( use, id ), args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+}
+//  class ClassTexts
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,218 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import java.util.ResourceBundle;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A text or message that is retrieved from a resource bundle
+ *  and formatted only when it is requested for the first time.}</p>
+ *  <p>Instances are created through
+ *  {@link I18nUtil#deferMessage(ResourceBundle, String, int, boolean, Object...)},
+ *  {@link I18nUtil#deferMessage(ResourceBundle, String, String, boolean, Object...)}
+ *  or
+ *  {@link I18nUtil#deferText(ResourceBundle, String, Object...)};
+ *  the arguments are validated immediately, but the text is looked up and
+ *  formatted only on the first call to
+ *  {@link #toString()},
+ *  {@link #get()}
+ *  or any of the
+ *  {@link CharSequence}
+ *  methods. The result is then kept, so that subsequent calls return the same
+ *  {@code String} instance.</p>
+ *  <p>This makes it cheap to pass a localised message to a logger that may
+ *  discard it, like with</p>
+ *  <pre><code>  logger.debug( "{}", deferMessage( bundle, MSG_PREFIX, 1704, true, port ) );</code></pre>
+ *  <p>The arguments are not copied; they should not be modified until the
+ *  message was rendered. After that, the instance no longer references
+ *  them, so a message that is kept, for example in a log buffer, does not
+ *  keep its arguments alive.</p>
+ *  <p>Instances of this class are thread-safe; if two threads request the
+ *  text at the same time, it may be formatted twice, but both will get an
+ *  equal result.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: DeferredMessage.java 1292 2026-10-18 13:27:14Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: DeferredMessage.java 1292 2026-10-18 13:27:14Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class DeferredMessage implements CharSequence, Supplier<String>
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  {@code true} if the message should be prefixed with the message key,
+     *  {@code false} if not.
+     */
+    private final boolean m_AddKey;
+
+    /**
+     *  The arguments for the text; {@code null} after the text was
+     *  rendered.
+     */
+    private volatile Object [] m_Args;
+
+    /**
+     *  The resource bundle.
+     */
+    private final ResourceBundle m_Bundle;
+
+    /**
+     *  The key for the text or message.
+     */
+    private final String m_Key;
+
+    /**
+     *  The rendered text; {@code null} until it was requested for the first
+     *  time.
+     */
+    private volatile String m_Text;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code DeferredMessage} instance. The arguments are
+     *  validated by the caller.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text or message.
+     *  @param  addKey  {@code true} if the message should be prefixed with
+     *      the key, {@code false} if not.
+     *  @param  args    The arguments for the text.
+     */
+    DeferredMessage( final ResourceBundle bundle, final String key, final boolean addKey, final Object [] args )
+    {
+        m_Bundle = bundle;
+        m_Key = key;
+        m_AddKey = addKey;
+        m_Args = args;
+    }   //  DeferredMessage()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final char charAt( final int index ) { return toString().charAt( index ); }
+
+    /**
+     *  Returns the rendered text; this is the same as
+     *  {@link #toString()}.
+     *
+     *  @return The text.
+     */
+    @Override
+    public final String get() { return toString(); }
+
+    /**
+     *  Returns the key for the text or message.
+     *
+     *  @return The key.
+     */
+    public final String getKey() { return m_Key; }
+
+    /**
+     *  Checks whether the text was already rendered.
+     *
+     *  @return {@code true} if the text was rendered, {@code false} if it
+     *      was not requested yet.
+     */
+    public final boolean isRendered() { return m_Text != null; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int length() { return toString().length(); }
+
+    /**
+     *  Retrieves and formats the text.
+     *
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     */
+    private final String render( final Object [] args )
+    {
+        final var text = I18nUtil.retrieveText( m_Bundle, m_Key, args );
+        final var retValue = m_AddKey
+            ? "[" + m_Key + "] " + text
+            : text;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CharSequence subSequence( final int start, final int end ) { return toString().subSequence( start, end ); }
+
+    /**
+     *  Returns the rendered text; the text is retrieved and formatted on the
+     *  first call to this method only.
+     *
+     *  @return The text.
+     */
+    @Override
+    public final String toString()
+    {
+        var retValue = m_Text;
+        if( retValue == null )
+        {
+            /*
+             * The arguments are released only after the text was stored; if
+             * they are gone already, another thread has just rendered the
+             * text.
+             */
+            final var args = m_Args;
+            if( args == null )
+            {
+                retValue = m_Text;
+            }
+            else
+            {
+                retValue = render( args );
+                m_Text = retValue;
+                m_Args = null;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class DeferredMessage
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,423 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The locale and the catalog for the current request.} An
+ *  instance of {@code I18nContext} is bound to the current thread with
+ *  {@link #run(Runnable)}
+ *  or
+ *  {@link #call(Callable)};
+ *  within that scope, the static methods
+ *  {@link #retrieveText(String, Object...)}
+ *  and
+ *  {@link #retrieveMessage(String, int, boolean, Object...)}
+ *  read the texts from the bound catalog, so that it is no longer
+ *  necessary to pass a resource bundle through all layers of the
+ *  application.</p>
+ *  <p>The binding exists only while the operation runs: when the outermost
+ *  scope ends, normally or through an exception, it is removed from the
+ *  thread, so no per-thread storage is retained afterwards, even with a
+ *  large number of virtual threads. A nested scope hides the outer binding
+ *  and restores it when it ends. The binding is not inherited by other
+ *  threads; work that is handed over to another thread has to bind the
+ *  context there again.</p>
+ *  <p>The API follows that of {@code java.lang.ScopedValue}; as long as
+ *  that is a preview feature, the binding is held in a
+ *  {@link ThreadLocal},
+ *  so that this module does not require {@code --enable-preview}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: I18nContext.java 1299 2026-10-18 15:58:36Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: I18nContext.java 1299 2026-10-18 15:58:36Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class I18nContext
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The resource bundle; is {@code null} if the context was created for
+     *  a
+     *  {@link TextCatalog}.
+     */
+    private final ResourceBundle m_Bundle;
+
+    /**
+     *  The catalog; is {@code null} if the context was created for a
+     *  {@link ResourceBundle}.
+     */
+    private final TextCatalog m_Catalog;
+
+    /**
+     *  The locale.
+     */
+    private final Locale m_Locale;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The context that is bound to the current thread; it is set only
+     *  while an operation runs.
+     */
+    private static final ThreadLocal<I18nContext> m_Current = new ThreadLocal<>();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code I18nContext} instance.
+     *
+     *  @param  locale  The locale.
+     *  @param  bundle  The resource bundle, or {@code null}.
+     *  @param  catalog The catalog, or {@code null}.
+     */
+    private I18nContext( final Locale locale, final ResourceBundle bundle, final TextCatalog catalog )
+    {
+        m_Locale = requireNonNullArgument( locale, "locale" );
+        m_Bundle = bundle;
+        m_Catalog = catalog;
+    }   //  I18nContext()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Binds this context to the current thread.
+     *
+     *  @return The context that was bound before, or {@code null} if there
+     *      was none.
+     */
+    private final I18nContext bind()
+    {
+        final var retValue = current().orElse( null );
+        m_Current.set( this );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  bind()
+
+    /**
+     *  Executes the given operation with this context bound.
+     *
+     *  @param  <T> The type of the result.
+     *  @param  operation   The operation.
+     *  @return The result of the operation.
+     *  @throws Exception   The operation failed.
+     */
+    public final <T> T call( final Callable<? extends T> operation ) throws Exception
+    {
+        requireNonNullArgument( operation, "operation" );
+        final var previous = bind();
+        final T retValue;
+        try
+        {
+            retValue = operation.call();
+        }
+        finally
+        {
+            restore( previous );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  call()
+
+    /**
+     *  Returns the context that is bound to the current scope.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the current context.
+     */
+    public static final Optional<I18nContext> current()
+    {
+        final var retValue = Optional.ofNullable( m_Current.get() );
+
+        /*
+         * ThreadLocal.get() creates an entry for the thread if there was
+         * none; it is removed again, so that nothing is retained outside of
+         * a scope.
+         */
+        if( retValue.isEmpty() ) m_Current.remove();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  current()
+
+    /**
+     *  Returns the context that is bound to the current scope, or throws an
+     *  exception if there is none.
+     *
+     *  @return The current context.
+     *  @throws IllegalStateException   No context is bound.
+     */
+    private static final I18nContext currentOrFail() throws IllegalStateException
+    {
+        final var retValue = current().orElseThrow( () -> new IllegalStateException( "No I18nContext bound to the current scope" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  currentOrFail()
+
+    /**
+     *  Returns the locale of this context.
+     *
+     *  @return The locale.
+     */
+    public final Locale getLocale() { return m_Locale; }
+
+    /**
+     *  Creates a new context for the given resource bundle; the locale is
+     *  taken from the bundle.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The new context.
+     */
+    public static final I18nContext of( final ResourceBundle bundle )
+    {
+        final var retValue = of( requireNonNullArgument( bundle, "bundle" ).getLocale(), bundle );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Creates a new context for the given locale and resource bundle.
+     *
+     *  @param  locale  The locale; it may differ from the locale of the
+     *      bundle, if the bundle was found through a fallback.
+     *  @param  bundle  The resource bundle.
+     *  @return The new context.
+     */
+    public static final I18nContext of( final Locale locale, final ResourceBundle bundle )
+    {
+        final var retValue = new I18nContext( locale, requireNonNullArgument( bundle, "bundle" ), null );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Creates a new context for the given catalog; the locale is taken from
+     *  the catalog.
+     *
+     *  @param  catalog The catalog.
+     *  @return The new context.
+     */
+    public static final I18nContext of( final TextCatalog catalog )
+    {
+        final var retValue = of( requireNonNullArgument( catalog, "catalog" ).getLocale(), catalog );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Creates a new context for the given locale and catalog.
+     *
+     *  @param  locale  The locale; it may differ from the locale of the
+     *      catalog, if the catalog was found through a fallback.
+     *  @param  catalog The catalog.
+     *  @return The new context.
+     */
+    public static final I18nContext of( final Locale locale, final TextCatalog catalog )
+    {
+        final var retValue = new I18nContext( locale, null, requireNonNullArgument( catalog, "catalog" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Restores the given context as the context for the current thread.
+     *
+     *  @param  previous    The context that was bound before, or
+     *      {@code null} if there was none.
+     */
+    private static final void restore( final I18nContext previous )
+    {
+        if( previous == null )
+        {
+            m_Current.remove();
+        }
+        else
+        {
+            m_Current.set( previous );
+        }
+    }   //  restore()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the
+     *  catalog of the current context and applies the given arguments to
+     *  it.}</p>
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     *  @throws IllegalStateException   No context is bound.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)
+     */
+    public static final String retrieveMessage( final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IllegalStateException
+    {
+        final var context = currentOrFail();
+        final var retValue = context.m_Catalog == null
+            ? I18nUtil.retrieveMessage( context.m_Bundle, messagePrefix, id, addKey, args )
+            : context.m_Catalog.retrieveMessage( messagePrefix, id, addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the
+     *  catalog of the current context and applies the given arguments to
+     *  it.}</p>
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     *  @throws IllegalStateException   No context is bound.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, String, boolean, Object...)
+     */
+    public static final String retrieveMessage( final String messagePrefix, final String id, final boolean addKey, final Object... args ) throws IllegalStateException
+    {
+        final var context = currentOrFail();
+        final var retValue = context.m_Catalog == null
+            ? I18nUtil.retrieveMessage( context.m_Bundle, messagePrefix, id, addKey, args )
+            : context.m_Catalog.retrieveMessage( messagePrefix, id, addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the text for the given {@code enum} value from
+     *  the catalog of the current context.}</p>
+     *
+     *  @param  <E> The type of the {@code enum} value.
+     *  @param  value   The {@code enum} value.
+     *  @return The text.
+     *  @throws IllegalStateException   No context is bound.
+     *
+     *  @see I18nUtil#retrieveText(ResourceBundle, Enum)
+     */
+    public static final <E extends Enum<?>> String retrieveText( final E value ) throws IllegalStateException
+    {
+        final var context = currentOrFail();
+        final var retValue = context.m_Catalog == null
+            ? I18nUtil.retrieveText( context.m_Bundle, value )
+            : context.m_Catalog.retrieveText( value );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the catalog
+     *  of the current context and applies the given arguments to it.}</p>
+     *
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     *  @throws IllegalStateException   No context is bound.
+     *
+     *  @see I18nUtil#retrieveText(ResourceBundle, String, Object...)
+     */
+    public static final String retrieveText( final String key, final Object... args ) throws IllegalStateException
+    {
+        final var context = currentOrFail();
+        final var retValue = context.m_Catalog == null
+            ? I18nUtil.retrieveText( context.m_Bundle, key, args )
+            : context.m_Catalog.retrieveText( key, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the texts for the keys of the given batch from
+     *  the catalog of the current context.}</p>
+     *
+     *  @param  batch   The batch.
+     *  @return The texts, in the order of the keys.
+     *  @throws IllegalStateException   No context is bound.
+     *
+     *  @see TextBatch#render(ResourceBundle)
+     */
+    public static final String [] retrieveTexts( final TextBatch batch ) throws IllegalStateException
+    {
+        requireNonNullArgument( batch, "batch" );
+        final var context = currentOrFail();
+        final var retValue = context.m_Catalog == null
+            ? batch.render( context.m_Bundle )
+            : batch.render( context.m_Catalog );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveTexts()
+
+    /**
+     *  Executes the given operation with this context bound.
+     *
+     *  @param  operation   The operation.
+     */
+    public final void run( final Runnable operation )
+    {
+        requireNonNullArgument( operation, "operation" );
+        final var previous = bind();
+        try
+        {
+            operation.run();
+        }
+        finally
+        {
+            restore( previous );
+        }
+    }   //  run()
+}
+//  class I18nContext
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -19,18 +19,17 @@
 package org.tquadrat.foundation.i18n;
 
 import static java.lang.String.format;
-import static java.lang.System.setProperty;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.i18n.TextUse.STRING;
-import static org.tquadrat.foundation.lang.CommonConstants.ISO8859_1;
-import static org.tquadrat.foundation.lang.CommonConstants.PROPERTY_RESOURCEBUNDLE_ENCODING;
-import static org.tquadrat.foundation.lang.DebugOutput.ifDebug;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
 import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
 
-import java.util.MissingResourceException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.ResourceBundle;
 
@@ -38,19 +37,25 @@ import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.exception.UnexpectedExceptionError;
+import org.tquadrat.foundation.i18n.internal.BundleRegistry;
+import org.tquadrat.foundation.i18n.internal.BundleTexts;
+import org.tquadrat.foundation.i18n.internal.KeyCache;
+import org.tquadrat.foundation.i18n.internal.MessageTable;
+import org.tquadrat.foundation.i18n.internal.TextTemplate;
 import org.tquadrat.foundation.lang.Objects;
 
 /**
  *  Utilities that are related to the i18n feature.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: I18nUtil.java 1258 2026-06-04 18:33:06Z tquadrat $
+ *  @version $Id: I18nUtil.java 1309 2026-10-18 19:14:26Z tquadrat $
  *  @since 0.1.0
  *
  *  @UMLGraph.link
  */
 @UtilityClass
-@ClassVersion( sourceVersion = "$Id: I18nUtil.java 1258 2026-06-04 18:33:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: I18nUtil.java 1309 2026-10-18 19:14:26Z tquadrat $" )
 @API( status = STABLE, since = "0.1.0" )
 public final class I18nUtil
 {
@@ -95,6 +100,345 @@ public final class I18nUtil
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given target.}</p>
+     *  <p>The result is the same as for
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but no {@code String} instance will be created for it.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final <A extends Appendable> A appendMessage( final A target, final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IOException
+    {
+        final var retValue = appendMessage( target, bundle, composeMessageKey( messagePrefix, id ), addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  appendMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given target.}</p>
+     *  <p>The result is the same as for
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but no {@code String} instance will be created for it.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final <A extends Appendable> A appendMessage( final A target, final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object... args ) throws IOException
+    {
+        final var retValue = appendMessage( target, bundle, composeMessageKey( messagePrefix, id ), addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  appendMessage()
+
+    /**
+     *  The internal implementation for
+     *  {@link #appendMessage(Appendable, ResourceBundle, String, int, boolean, Object...)}
+     *  and
+     *  {@link #appendMessage(Appendable, ResourceBundle, String, String, boolean, Object...)}.
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    @API( status = INTERNAL, since = "0.26.0", consumers = "appendMessage()" )
+    private static final <A extends Appendable> A appendMessage( final A target, final ResourceBundle bundle, final String key, final boolean addKey, final Object... args ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( bundle, "bundle" );
+        requireNonNullArgument( args, "args" );
+
+        final A retValue;
+        if( target instanceof final CharBuffer charBuffer )
+        {
+            /*
+             * The buffer gets either the complete message, or nothing at
+             * all.
+             */
+            final var message = new StringBuilder();
+            if( addKey ) message.append( '[' ).append( key ).append( "] " );
+            appendText( message, bundle, key, args );
+            if( message.length() > charBuffer.remaining() ) throw new BufferOverflowException();
+            charBuffer.put( message.toString() );
+            retValue = target;
+        }
+        else
+        {
+            if( addKey ) target.append( '[' ).append( key ).append( "] " );
+            retValue = appendText( target, bundle, key, args );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  appendMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given buffer.}</p>
+     *  <p>If the buffer does not have enough space left for the message, a
+     *  {@link java.nio.BufferOverflowException}
+     *  will be thrown, and the buffer remains unchanged.</p>
+     *
+     *  @param  target  The target buffer.
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see #appendMessage(Appendable, ResourceBundle, String, int, boolean, Object...)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final CharBuffer appendMessage( final CharBuffer target, final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, bundle, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given buffer.}</p>
+     *  <p>If the buffer does not have enough space left for the message, a
+     *  {@link java.nio.BufferOverflowException}
+     *  will be thrown, and the buffer remains unchanged.</p>
+     *
+     *  @param  target  The target buffer.
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see #appendMessage(Appendable, ResourceBundle, String, String, boolean, Object...)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final CharBuffer appendMessage( final CharBuffer target, final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, bundle, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given buffer.} The text is rendered directly into the
+     *  buffer.</p>
+     *
+     *  @param  target  The target buffer.
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see #appendMessage(Appendable, ResourceBundle, String, int, boolean, Object...)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringBuilder appendMessage( final StringBuilder target, final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, bundle, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given buffer.} The text is rendered directly into the
+     *  buffer.</p>
+     *
+     *  @param  target  The target buffer.
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see #appendMessage(Appendable, ResourceBundle, String, String, boolean, Object...)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringBuilder appendMessage( final StringBuilder target, final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, bundle, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given target.}</p>
+     *  <p>The result is the same as for
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but no {@code String} instance will be created for it. If the target
+     *  is a
+     *  {@link StringBuilder},
+     *  the text is rendered directly into it.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final <A extends Appendable> A appendText( final A target, final ResourceBundle bundle, final String key, final Object... args ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( args, "args" );
+        final var template = BundleTexts.of( requireNonNullArgument( bundle, "bundle" ) ).getTemplate( requireNotEmptyArgument( key, "key" ) );
+        if( template == null )
+        {
+            target.append( createFallback( key, args ) );
+        }
+        else
+        {
+            template.appendTo( target, args );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given buffer.}</p>
+     *  <p>If the buffer does not have enough space left for the text, a
+     *  {@link java.nio.BufferOverflowException}
+     *  will be thrown, and the buffer remains unchanged.</p>
+     *
+     *  @param  target  The target buffer.
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The target buffer.
+     *
+     *  @see #appendText(Appendable, ResourceBundle, String, Object...)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final CharBuffer appendText( final CharBuffer target, final ResourceBundle bundle, final String key, final Object... args )
+    {
+        try
+        {
+            appendText( (Appendable) target, bundle, key, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle, applies the given arguments to it and appends the
+     *  result to the given buffer.} The text is rendered directly into the
+     *  buffer.</p>
+     *
+     *  @param  target  The target buffer.
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The target buffer.
+     *
+     *  @see #appendText(Appendable, ResourceBundle, String, Object...)
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final StringBuilder appendText( final StringBuilder target, final ResourceBundle bundle, final String key, final Object... args )
+    {
+        try
+        {
+            appendText( (Appendable) target, bundle, key, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendText()
+
     /**
      *  <p>{@summary Composes a message key.}</p>
      *  <p>The format for the key is like this</p>
@@ -107,7 +451,7 @@ public final class I18nUtil
     @API( status = STABLE, since = "0.1.0" )
     public static final String composeMessageKey( final String messagePrefix, final String id )
     {
-        final var retValue = format( "%s-%s", requireNotEmptyArgument( messagePrefix, "messagePrefix" ), requireNotEmptyArgument( id, "id" ) );
+        final var retValue = requireNotEmptyArgument( messagePrefix, "messagePrefix" ) + '-' + requireNotEmptyArgument( id, "id" );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -119,6 +463,8 @@ public final class I18nUtil
      *  <pre><code>&lt;<i>message_prefix</i>&gt;-&lt;<i>id</i>&gt;</code></pre>
      *  <p>The id will be a six-digit number, prepended with zeroes if
      *  required.</p>
+     *  <p>Recently composed keys are cached, so repeated calls with the same
+     *  arguments do not allocate a new String.</p>
      *
      *  @param  messagePrefix   The message prefix.
      *  @param  id  The message id.
@@ -127,7 +473,7 @@ public final class I18nUtil
     @API( status = STABLE, since = "0.1.0" )
     public static final String composeMessageKey( final String messagePrefix, final int id )
     {
-        final var retValue = format( "%s-%06d", requireNotEmptyArgument( messagePrefix, "messagePrefix" ), id );
+        final var retValue = KeyCache.composeMessageKey( requireNotEmptyArgument( messagePrefix, "messagePrefix" ), id );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -143,11 +489,13 @@ public final class I18nUtil
      *  @param  id  The id for the text, as from
      *      {@link org.tquadrat.foundation.i18n.Text#id() &#64;Text.id}.
      *  @return The text key.
+     *
+     *  @see ClassTexts#composeTextKey(TextUse, String)
      */
     @API( status = STABLE, since = "0.1.0" )
     public static final String composeTextKey( final Class<?> sourceClass, final TextUse use, final String id )
     {
-        final var retValue = composeTextKey( requireNonNullArgument( sourceClass, "sourceClass" ).getName(), use, id );
+        final var retValue = ClassTexts.of( sourceClass ).composeTextKey( use, id );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -157,6 +505,8 @@ public final class I18nUtil
      *  <p>{@summary Composes the resource bundle key for a text.}</p>
      *  <p>The format for the key is like this:</p>
      *  <pre><code>&lt;<i>class_name</i>&gt;.&lt;<i>use</i>&gt;_&lt;<i>id</i>&gt;</code></pre>
+     *  <p>Recently composed keys are cached, so repeated calls with the same
+     *  arguments do not allocate a new String.</p>
      *
      *  @param  sourceClass The name of the class where the text was defined.
      *  @param  use The text use.
@@ -167,7 +517,7 @@ public final class I18nUtil
     @API( status = STABLE, since = "0.1.0" )
     public static final String composeTextKey( final String sourceClass, final TextUse use, final String id )
     {
-        final var retValue = format( "%s.%s_%s", requireNotEmptyArgument( sourceClass, "sourceClass" ), requireNonNullArgument( use, "use" ).name(), requireNotEmptyArgument( id, "name" ) );
+        final var retValue = KeyCache.composeTextKey( requireNotEmptyArgument( sourceClass, "sourceClass" ), requireNonNullArgument( use, "use" ), requireNotEmptyArgument( id, "name" ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -213,6 +563,111 @@ public final class I18nUtil
         return retValue;
     }   //  createFallback()
 
+    /**
+     *  <p>{@summary Creates a message that will be retrieved from the given
+     *  resource bundle and formatted only when it is requested for the first
+     *  time.}</p>
+     *  <p>The rendered message will be the same as that returned from
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)}.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The deferred message.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final DeferredMessage deferMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        final var retValue = new DeferredMessage( requireNonNullArgument( bundle, "bundle" ), composeMessageKey( messagePrefix, id ), addKey, requireNonNullArgument( args, "args" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  deferMessage()
+
+    /**
+     *  <p>{@summary Creates a message that will be retrieved from the given
+     *  resource bundle and formatted only when it is requested for the first
+     *  time.}</p>
+     *  <p>The rendered message will be the same as that returned from
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)}.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The deferred message.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final DeferredMessage deferMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        final var retValue = new DeferredMessage( requireNonNullArgument( bundle, "bundle" ), composeMessageKey( messagePrefix, id ), addKey, requireNonNullArgument( args, "args" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  deferMessage()
+
+    /**
+     *  <p>{@summary Creates a text that will be retrieved from the given
+     *  resource bundle and formatted only when it is requested for the first
+     *  time.}</p>
+     *  <p>The rendered text will be the same as that returned from
+     *  {@link #retrieveText(ResourceBundle, String, Object...)}.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The deferred text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final DeferredMessage deferText( final ResourceBundle bundle, final String key, final Object... args )
+    {
+        final var retValue = new DeferredMessage( requireNonNullArgument( bundle, "bundle" ), requireNotEmptyArgument( key, "key" ), false, requireNonNullArgument( args, "args" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  deferText()
+
+    /**
+     *  Returns the entry for the message with the given prefix and numeric
+     *  id from the given resource bundle.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @return The entry with the message key and the template.
+     */
+    private static final MessageTable.Entry findMessage( final ResourceBundle bundle, final String messagePrefix, final int id )
+    {
+        final var retValue = BundleTexts.of( requireNonNullArgument( bundle, "bundle" ) )
+            .getMessageTable( requireNotEmptyArgument( messagePrefix, "messagePrefix" ) )
+            .getEntry( id );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findMessage()
+
+    /**
+     *  Returns the compiled template for the given key from the given
+     *  resource bundle.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @return The template, or {@code null} if the bundle does not contain
+     *      an entry for the given key.
+     */
+    private static final TextTemplate findTemplate( final ResourceBundle bundle, final String key )
+    {
+        final var retValue = BundleTexts.of( requireNonNullArgument( bundle, "bundle" ) ).getTemplate( requireNotEmptyArgument( key, "key" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findTemplate()
+
     /**
      *  <p>{@summary Loads the resource bundle with the given base bundle
      *  name.} If there is no resource bundle for the given base bundle name,
@@ -223,33 +678,20 @@ public final class I18nUtil
      *  all), or you should use
      *  {@link #loadResourceBundle(String, Module)}
      *  instead of this method.</p>
+     *  <p>The result is cached for the base bundle name and the current
+     *  {@linkplain Locale#getDefault() default locale};
+     *  subsequent calls for the same combination return the cached result
+     *  without probing for the bundle again.</p>
      *
      *  @param  baseBundleName  The base bundle name.
      *  @return An instance of
      *      {@link Optional}
      *      that holds the resource bundle.
      */
-    @SuppressWarnings( "AssignmentToNull" )
     @API( status = STABLE, since = "0.1.0" )
     public static final Optional<ResourceBundle> loadResourceBundle( final String baseBundleName )
     {
-        //---* Force the use of UTF-8 for the resource bundle files *----------
-        setProperty( PROPERTY_RESOURCEBUNDLE_ENCODING, ISO8859_1.name() );
-
-        ResourceBundle bundle;
-        try
-        {
-            final var bundleName = requireNotEmptyArgument( baseBundleName, "baseBundleName" );
-            bundle = ResourceBundle.getBundle( bundleName );
-        }
-        catch( final MissingResourceException e )
-        {
-            ifDebug( e );
-            //noinspection AssignmentToNull
-            bundle = null;
-        }
-
-        final var retValue = Optional.ofNullable( bundle );
+        final var retValue = BundleRegistry.loadResourceBundle( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), Locale.getDefault(), null );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -266,6 +708,10 @@ public final class I18nUtil
      *  <p>The resource bundle to load must be in a package that is open to
      *  this module ({@code org.tquadrat.foundation.i18n}) or in no package at
      *  all.</p>
+     *  <p>The result is cached for the base bundle name, the current
+     *  {@linkplain Locale#getDefault() default locale}
+     *  and the module; subsequent calls for the same combination return the
+     *  cached result without probing for the bundle again.</p>
      *
      *  @param  baseBundleName  The base bundle name.
      *  @param  module  The module that provides the resource bundle; usually,
@@ -274,30 +720,34 @@ public final class I18nUtil
      *      {@link Optional}
      *      that holds the resource bundle.
      */
-    @SuppressWarnings( "AssignmentToNull" )
     @API( status = STABLE, since = "0.1.0" )
     public static final Optional<ResourceBundle> loadResourceBundle( final String baseBundleName, final Module module )
     {
-        //---* Force the use of UTF-8 for the resource bundle files *----------
-        setProperty( PROPERTY_RESOURCEBUNDLE_ENCODING, ISO8859_1.name() );
-
-        ResourceBundle bundle;
-        try
-        {
-            bundle = ResourceBundle.getBundle( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), requireNonNullArgument( module, "module" ) );
-        }
-        catch( final MissingResourceException e )
-        {
-            ifDebug( e );
-            bundle = null;
-        }
-
-        final var retValue = Optional.ofNullable( bundle );
+        final var retValue = BundleRegistry.loadResourceBundle( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), Locale.getDefault(), requireNonNullArgument( module, "module" ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  loadResourceBundle()
 
+    /**
+     *  Prefixes the given message with the given message key, if requested.
+     *
+     *  @param  key The message key.
+     *  @param  addKey  {@code true} if the key should be added,
+     *      {@code false} if the message should be returned as it is.
+     *  @param  message The message.
+     *  @return The message, with or without the key.
+     */
+    private static final String prefixKey( final String key, final boolean addKey, final String message )
+    {
+        final var retValue = addKey
+             ? "[" + key + "] " + message
+             : message;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  prefixKey()
+
     /**
      *  <p>{@summary Returns the Text for the given key, or the alternative
      *  text.} This method is primarily used internally by the library, but can
@@ -396,6 +846,9 @@ public final class I18nUtil
      *  resource bundle and applies the given arguments to it.}</p>
      *  <p>If the resource bundle does not contain a message for the given key,
      *  the key itself will be returned, appended with the arguments.</p>
+     *  <p>The message is looked up by its numeric id in a table that is kept
+     *  per bundle and message prefix; the message key is composed only on
+     *  the first request for an id.</p>
      *
      *  @param  bundle  The resource bundle.
      *  @param  messagePrefix   The message prefix.
@@ -407,7 +860,12 @@ public final class I18nUtil
      */
     public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object... args )
     {
-        final var retValue = retrieveMessage( bundle, composeMessageKey( messagePrefix, id ), addKey, args );
+        requireNonNullArgument( args, "args" );
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), args )
+            : template.render( args ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -438,56 +896,906 @@ public final class I18nUtil
     }   //  retrieveMessage()
 
     /**
-     *  The internal implementation for
-     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)}
-     *  and
-     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)}.
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but the argument is not put into an array.</p>
      *
      *  @param  bundle  The resource bundle.
-     *  @param  key The key for the message.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
      *  @param  addKey  The recommended value is {@true}; this means that
      *      the message will be prefixed with the generated message key.
-     *  @param  args    The arguments for the message.
+     *  @param  arg0    The argument for the message.
      *  @return The text.
      */
-    @API( status = INTERNAL, since = "0.1.0", consumers = "retrieveMessage()" )
-    private static final String retrieveMessage( final ResourceBundle bundle, final String key, final boolean addKey, final Object... args )
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object arg0 )
     {
-        final var message = retrieveText( bundle, key, args );
-        final var retValue = addKey
-             ? format( "[%s] %s", key, message )
-             : message;
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0 )
+            : template.render( arg0 ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  retrieveMessage()
 
     /**
-     *  <p>{@summary Retrieves the text with the given key from the given
+     *  <p>{@summary Retrieves the message with the given key from the given
      *  resource bundle and applies the given arguments to it.}</p>
-     *  <p>If the resource bundle does not contain a text for the given key,
-     *  the key itself will be returned, appended with the arguments.</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but the arguments are not put into an array.</p>
      *
      *  @param  bundle  The resource bundle.
-     *  @param  key The key for the text.
-     *  @param  args    The arguments for the text.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The first argument for the message.
+     *  @param  arg1    The second argument for the message.
      *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object arg0, final Object arg1 )
+    {
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0, arg1 )
+            : template.render( arg0, arg1 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but the arguments are not put into an array.</p>
      *
-     *  @see Objects#toString(Object)
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The first argument for the message.
+     *  @param  arg1    The second argument for the message.
+     *  @param  arg2    The third argument for the message.
+     *  @return The text.
      */
-    public static final String retrieveText( final ResourceBundle bundle, final String key, final Object... args )
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object arg0, final Object arg1, final Object arg2 )
     {
-        requireNonNullArgument( args, "args" );
-        String retValue;
-        try
-        {
-            final var format = requireNonNullArgument( bundle, "bundle" ).getString( requireNotEmptyArgument( key, "key" ) );
-            retValue = format( format, args ).translateEscapes();
-        }
-        catch( final MissingResourceException ignored )
-        {
-            retValue = createFallback( key, args );
-        }
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0, arg1, arg2 )
+            : template.render( arg0, arg1, arg2 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The first argument for the message.
+     *  @param  arg1    The second argument for the message.
+     *  @param  arg2    The third argument for the message.
+     *  @param  arg3    The fourth argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final Object arg0, final Object arg1, final Object arg2, final Object arg3 )
+    {
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0, arg1, arg2, arg3 )
+            : template.render( arg0, arg1, arg2, arg3 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but as long as the pattern refers to the {@code int} argument
+     *  only through {@code %s} or {@code %d}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final int arg0 )
+    {
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0 )
+            : template.render( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but as long as the pattern refers to the {@code long} argument
+     *  only through {@code %s} or {@code %d}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final long arg0 )
+    {
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0 )
+            : template.render( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, int, boolean, Object...)},
+     *  but as long as the pattern refers to the {@code double} argument
+     *  only through {@code %s}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final double arg0 )
+    {
+        final var message = findMessage( bundle, messagePrefix, id );
+        final var template = message.template();
+        final var retValue = prefixKey( message.key(), addKey, template == null
+            ? createFallback( message.key(), arg0 )
+            : template.render( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code byte} argument is formatted
+     *  as a {@link Byte}, and not as an {@code int}; this makes a
+     *  difference for {@code %x} or {@code %o} with a negative value.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final byte arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Byte.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code short} argument is formatted
+     *  as a {@link Short}, and not as an {@code int}; this makes a
+     *  difference for {@code %x} or {@code %o} with a negative value.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final short arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Short.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code char} argument is formatted
+     *  as a {@link Character}, and not as its numeric code, as it would be
+     *  by the {@code int} overload.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final char arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Character.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code float} argument is formatted
+     *  as a {@link Float}, and not as the wider {@code double}, as it would
+     *  be by the {@code double} overload.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final int id, final boolean addKey, final float arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Float.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but the argument is not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object arg0 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The first argument for the message.
+     *  @param  arg1    The second argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object arg0, final Object arg1 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0, arg1 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The first argument for the message.
+     *  @param  arg1    The second argument for the message.
+     *  @param  arg2    The third argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object arg0, final Object arg1, final Object arg2 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0, arg1, arg2 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The first argument for the message.
+     *  @param  arg1    The second argument for the message.
+     *  @param  arg2    The third argument for the message.
+     *  @param  arg3    The fourth argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final Object arg0, final Object arg1, final Object arg2, final Object arg3 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0, arg1, arg2, arg3 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but as long as the pattern refers to the {@code int} argument
+     *  only through {@code %s} or {@code %d}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final int arg0 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but as long as the pattern refers to the {@code long} argument
+     *  only through {@code %s} or {@code %d}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final long arg0 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)},
+     *  but as long as the pattern refers to the {@code double} argument
+     *  only through {@code %s}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final double arg0 )
+    {
+        final var key = composeMessageKey( messagePrefix, id );
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code byte} argument is formatted
+     *  as a {@link Byte}, and not as an {@code int}; this makes a
+     *  difference for {@code %x} or {@code %o} with a negative value.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final byte arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Byte.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code short} argument is formatted
+     *  as a {@link Short}, and not as an {@code int}; this makes a
+     *  difference for {@code %x} or {@code %o} with a negative value.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final short arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Short.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code char} argument is formatted
+     *  as a {@link Character}, and not as its numeric code, as it would be
+     *  by the {@code int} overload.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final char arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Character.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code float} argument is formatted
+     *  as a {@link Float}, and not as the wider {@code double}, as it would
+     *  be by the {@code double} overload.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  arg0    The argument for the message.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveMessage( final ResourceBundle bundle, final String messagePrefix, final String id, final boolean addKey, final float arg0 )
+    {
+        final var retValue = retrieveMessage( bundle, messagePrefix, id, addKey, Float.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  The internal implementation for
+     *  {@link #retrieveMessage(ResourceBundle, String, String, boolean, Object...)};
+     *  messages with a numeric id are looked up through the message table
+     *  of the bundle instead.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     */
+    @API( status = INTERNAL, since = "0.1.0", consumers = "retrieveMessage()" )
+    private static final String retrieveMessage( final ResourceBundle bundle, final String key, final boolean addKey, final Object... args )
+    {
+        final var retValue = prefixKey( key, addKey, retrieveText( bundle, key, args ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>If the resource bundle does not contain a text for the given key,
+     *  the key itself will be returned, appended with the arguments.</p>
+     *  <p>The text pattern is compiled only once per bundle and key; the
+     *  result is the same as for</p>
+     *  <pre><code>String.format( pattern, args ).translateEscapes()</code></pre>
+     *  <p>A missing key is detected without throwing an exception, and it is
+     *  remembered, so that repeated misses are as cheap as hits.</p>
+     *  <p>Texts without format specifiers, like most captions, button labels
+     *  or tool tips, are not formatted at all: the method returns the same,
+     *  already unescaped {@code String} instance on each call.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     *
+     *  @see Objects#toString(Object)
+     */
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final Object... args )
+    {
+        requireNonNullArgument( args, "args" );
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, args )
+            : template.render( args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but the argument is not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final Object arg0 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0 )
+            : template.render( arg0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The first argument for the text.
+     *  @param  arg1    The second argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final Object arg0, final Object arg1 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0, arg1 )
+            : template.render( arg0, arg1 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The first argument for the text.
+     *  @param  arg1    The second argument for the text.
+     *  @param  arg2    The third argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final Object arg0, final Object arg1, final Object arg2 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0, arg1, arg2 )
+            : template.render( arg0, arg1, arg2 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given arguments to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but the arguments are not put into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The first argument for the text.
+     *  @param  arg1    The second argument for the text.
+     *  @param  arg2    The third argument for the text.
+     *  @param  arg3    The fourth argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final Object arg0, final Object arg1, final Object arg2, final Object arg3 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0, arg1, arg2, arg3 )
+            : template.render( arg0, arg1, arg2, arg3 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but as long as the pattern refers to the {@code int} argument
+     *  only through {@code %s} or {@code %d}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final int arg0 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0 )
+            : template.render( arg0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but as long as the pattern refers to the {@code long} argument
+     *  only through {@code %s} or {@code %d}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final long arg0 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0 )
+            : template.render( arg0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This is the same as
+     *  {@link #retrieveText(ResourceBundle, String, Object...)},
+     *  but as long as the pattern refers to the {@code double} argument
+     *  only through {@code %s}, it is neither boxed nor put
+     *  into an array.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final double arg0 )
+    {
+        final var template = findTemplate( bundle, key );
+        final var retValue = template == null
+            ? createFallback( key, arg0 )
+            : template.render( arg0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code byte} argument is formatted
+     *  as a {@link Byte}, and not as an {@code int}; this makes a
+     *  difference for {@code %x} or {@code %o} with a negative value.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final byte arg0 )
+    {
+        final var retValue = retrieveText( bundle, key, Byte.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code short} argument is formatted
+     *  as a {@link Short}, and not as an {@code int}; this makes a
+     *  difference for {@code %x} or {@code %o} with a negative value.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final short arg0 )
+    {
+        final var retValue = retrieveText( bundle, key, Short.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code char} argument is formatted
+     *  as a {@link Character}, and not as its numeric code, as it would be
+     *  by the {@code int} overload.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final char arg0 )
+    {
+        final var retValue = retrieveText( bundle, key, Character.valueOf( arg0 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key from the given
+     *  resource bundle and applies the given argument to it.}</p>
+     *  <p>This overload makes sure that a {@code float} argument is formatted
+     *  as a {@link Float}, and not as the wider {@code double}, as it would
+     *  be by the {@code double} overload.</p>
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  key The key for the text.
+     *  @param  arg0    The argument for the text.
+     *  @return The text.
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String retrieveText( final ResourceBundle bundle, final String key, final float arg0 )
+    {
+        final var retValue = retrieveText( bundle, key, Float.valueOf( arg0 ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -498,6 +1806,10 @@ public final class I18nUtil
      *  the given resource bundle.}</p>
      *  <p>If the resource bundle does not contain a text for the {@code enum},
      *  the text key for it will be returned.</p>
+     *  <p>The texts for the values of an {@code enum} type are cached per
+     *  resource bundle in a table that is indexed by the
+     *  {@linkplain Enum#ordinal() ordinal};
+     *  only the first call for a value will look up the bundle.</p>
      *
      *  @param  <E> The type of the {@code enum} value.
      *  @param  bundle  The resource bundle.
@@ -506,7 +1818,8 @@ public final class I18nUtil
      */
     public static final <E extends Enum<?>> String retrieveText( final ResourceBundle bundle, final E value )
     {
-        final var retValue = retrieveText( bundle, composeTextKey( requireNonNullArgument( value, "value" ) ) );
+        requireNonNullArgument( value, "value" );
+        final var retValue = BundleTexts.of( requireNonNullArgument( bundle, "bundle" ) ).getEnumText( value );
 
         //---* Done *----------------------------------------------------------
         return retValue;
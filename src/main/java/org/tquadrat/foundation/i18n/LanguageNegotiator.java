@@ -0,0 +1,237 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.TinyLfuCache;
+
+/**
+ *  <p>{@summary Negotiates the locale for an HTTP {@code Accept-Language}
+ *  header against the locales for which catalogs are available.}</p>
+ *  <p>The header is parsed with
+ *  {@link Locale.LanguageRange#parse(String)},
+ *  and the best available locale is chosen with
+ *  {@link Locale#lookup(List, Collection)};
+ *  if none matches, or the header is missing or malformed, the
+ *  {@linkplain LocaleResolver#getDefaultLocale() default locale}
+ *  of the
+ *  {@link LocaleResolver}
+ *  is used. The catalog for the negotiated locale is then taken from that
+ *  resolver.</p>
+ *  <p>As the number of distinct headers in real traffic is small, the
+ *  negotiated locale is memoised by the raw header string in a bounded
+ *  cache, so that a repeated header costs just a lock-free lookup. Headers
+ *  longer than
+ *  {@value #MAX_CACHED_HEADER_LENGTH}
+ *  characters are negotiated on each call, without being cached.</p>
+ *
+ *  @param  <C> The type of the catalogs.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LanguageNegotiator.java 1275 2026-10-17 19:54:12Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LanguageNegotiator.java 1275 2026-10-17 19:54:12Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class LanguageNegotiator<C>
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default number of headers whose result is cached: {@value}.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    /**
+     *  The maximum length for a header that will be cached: {@value}.
+     */
+    public static final int MAX_CACHED_HEADER_LENGTH = 256;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The available locales.
+     */
+    private final List<Locale> m_AvailableLocales;
+
+    /**
+     *  The negotiated locales, by header.
+     */
+    private final TinyLfuCache<String,Locale> m_Cache;
+
+    /**
+     *  The resolver for the catalogs.
+     */
+    private final LocaleResolver<C> m_Resolver;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code LanguageNegotiator} instance that caches the
+     *  results for up to
+     *  {@value #DEFAULT_CACHE_SIZE}
+     *  headers.
+     *
+     *  @param  availableLocales    The locales for which catalogs are
+     *      available.
+     *  @param  resolver    The resolver for the catalogs.
+     */
+    public LanguageNegotiator( final Collection<Locale> availableLocales, final LocaleResolver<C> resolver )
+    {
+        this( availableLocales, DEFAULT_CACHE_SIZE, resolver );
+    }   //  LanguageNegotiator()
+
+    /**
+     *  Creates a new {@code LanguageNegotiator} instance.
+     *
+     *  @param  availableLocales    The locales for which catalogs are
+     *      available.
+     *  @param  cacheSize   The number of headers whose result is cached;
+     *      must be greater than 0.
+     *  @param  resolver    The resolver for the catalogs.
+     */
+    public LanguageNegotiator( final Collection<Locale> availableLocales, final int cacheSize, final LocaleResolver<C> resolver )
+    {
+        m_AvailableLocales = List.copyOf( requireNonNullArgument( availableLocales, "availableLocales" ) );
+        m_Resolver = requireNonNullArgument( resolver, "resolver" );
+        m_Cache = new TinyLfuCache<>( cacheSize, locale -> 1, null );
+    }   //  LanguageNegotiator()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a negotiator for the resource bundles with the given base
+     *  bundle name.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  defaultLocale   The default locale.
+     *  @param  availableLocales    The locales for which resource bundles
+     *      are available.
+     *  @return The negotiator.
+     */
+    public static final LanguageNegotiator<ResourceBundle> forResourceBundles( final String baseBundleName, final Locale defaultLocale, final Collection<Locale> availableLocales )
+    {
+        final var retValue = new LanguageNegotiator<>( availableLocales, LocaleResolver.forResourceBundles( baseBundleName, defaultLocale ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  forResourceBundles()
+
+    /**
+     *  Returns the available locales.
+     *
+     *  @return The available locales.
+     */
+    public final List<Locale> getAvailableLocales() { return m_AvailableLocales; }
+
+    /**
+     *  Returns the resolver for the catalogs.
+     *
+     *  @return The resolver.
+     */
+    public final LocaleResolver<C> getResolver() { return m_Resolver; }
+
+    /**
+     *  Determines the best available locale for the given header, without
+     *  using the cache.
+     *
+     *  @param  acceptLanguage  The header.
+     *  @return The locale.
+     */
+    private final Locale lookup( final String acceptLanguage )
+    {
+        Locale retValue = null;
+        if( isNotEmptyOrBlank( acceptLanguage ) )
+        {
+            try
+            {
+                retValue = Locale.lookup( Locale.LanguageRange.parse( acceptLanguage ), m_AvailableLocales );
+            }
+            catch( final IllegalArgumentException ignored )
+            {
+                /*
+                 * A malformed header is treated as if there were no header
+                 * at all.
+                 */
+            }
+        }
+        if( retValue == null ) retValue = m_Resolver.getDefaultLocale();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lookup()
+
+    /**
+     *  <p>{@summary Returns the best available locale for the given
+     *  {@code Accept-Language} header.}</p>
+     *
+     *  @param  acceptLanguage  The header; can be {@code null} or empty.
+     *  @return The negotiated locale; if no available locale matches the
+     *      header, this is the default locale of the resolver.
+     */
+    public final Locale negotiate( final String acceptLanguage )
+    {
+        final var retValue = (acceptLanguage == null) || (acceptLanguage.length() > MAX_CACHED_HEADER_LENGTH)
+            ? lookup( acceptLanguage )
+            : m_Cache.get( acceptLanguage, this::lookup );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  negotiate()
+
+    /**
+     *  <p>{@summary Returns the catalog for the given
+     *  {@code Accept-Language} header.}</p>
+     *
+     *  @param  acceptLanguage  The header; can be {@code null} or empty.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the catalog for the
+     *      {@linkplain #negotiate(String) negotiated locale}.
+     */
+    public final Optional<C> resolve( final String acceptLanguage )
+    {
+        final var retValue = m_Resolver.resolve( negotiate( acceptLanguage ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  resolve()
+}
+//  class LanguageNegotiator
+
+/*
+ *  End of File
+ */
\ No newline at end of file
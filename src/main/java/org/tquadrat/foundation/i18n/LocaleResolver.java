@@ -0,0 +1,542 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.util.ResourceBundle.Control.FORMAT_DEFAULT;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.AbstractTextCatalog;
+import org.tquadrat.foundation.i18n.internal.BundleRegistry;
+import org.tquadrat.foundation.i18n.internal.ChainedTextCatalog;
+import org.tquadrat.foundation.i18n.internal.TinyLfuCache;
+
+/**
+ *  <p>{@summary Resolves a requested locale to the catalog that serves
+ *  it.}</p>
+ *  <p>For each requested locale, the resolver computes the chain of
+ *  candidate locales once: the candidates for the requested locale as
+ *  determined by
+ *  {@link ResourceBundle.Control#getCandidateLocales(String, Locale)}
+ *  (this covers scripts, variants and the special cases for Chinese and
+ *  Norwegian), followed by the candidates for the default locale &ndash; the
+ *  locale for the
+ *  {@linkplain BaseBundleName#defaultLanguage() default language}
+ *  &ndash; and finally
+ *  {@link Locale#ROOT}.
+ *  The first candidate in this chain for which the loader provides a
+ *  catalog is the <i>effective</i> locale for the requested locale.</p>
+ *  <p>The catalogs are cached by their effective locale, so that requests
+ *  for different locales with the same effective locale, like
+ *  {@code de-CH} and {@code de-LI}, get the same catalog instance. The
+ *  resolution for a requested locale is kept in a bounded cache; a repeated
+ *  request neither computes the chain again nor probes the loader.</p>
+ *  <p>The loader is called with a single candidate locale and must return
+ *  the catalog for exactly that locale, or {@code null} if there is none;
+ *  it must not apply any fallback on its own. It is called outside of any
+ *  lock.</p>
+ *
+ *  @param  <C> The type of the catalogs.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class LocaleResolver<C>
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The resolution for a requested locale.
+     *
+     *  @param  <C> The type of the catalog.
+     *  @param  candidates  The candidate locales.
+     *  @param  effectiveLocale The effective locale; {@code null} if no
+     *      candidate is backed by a catalog.
+     *  @param  catalog The catalog for the effective locale; {@code null} if
+     *      no candidate is backed by a catalog.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: LocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: LocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Resolution<C>( List<Locale> candidates, Locale effectiveLocale, C catalog ) {}
+
+    /**
+     *  The loader for the binary catalog files in a folder. It maps each
+     *  file only once and layers the catalogs for the parent locales beneath
+     *  the catalog for a locale; files that do not exist are not
+     *  remembered, so that a file that is deployed later will be found after
+     *  the next call to
+     *  {@link LocaleResolver#invalidateAll()}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: LocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: LocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class CatalogFileLoader implements Function<Locale,TextCatalog>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The base name for the catalog files.
+         */
+        private final String m_BaseName;
+
+        /**
+         *  The catalog files that are mapped already, by locale.
+         */
+        private final Map<Locale,AbstractTextCatalog> m_Files = new ConcurrentHashMap<>();
+
+        /**
+         *  The folder with the catalog files.
+         */
+        private final Path m_Folder;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code CatalogFileLoader} instance.
+         *
+         *  @param  folder  The folder with the catalog files.
+         *  @param  baseName    The base name for the catalog files.
+         */
+        public CatalogFileLoader( final Path folder, final String baseName )
+        {
+            m_Folder = folder;
+            m_BaseName = baseName;
+        }   //  CatalogFileLoader()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the catalog for the given locale, with the catalogs for
+         *  its parent locales layered beneath it.
+         *
+         *  @param  locale  The locale.
+         *  @return The catalog, or {@code null} if there is no catalog file
+         *      for the locale itself.
+         *  @throws UncheckedIOException    A catalog file exists, but it
+         *      cannot be opened.
+         */
+        @Override
+        public final TextCatalog apply( final Locale locale ) throws UncheckedIOException
+        {
+            TextCatalog retValue = null;
+            if( openCatalogFile( locale ).isPresent() )
+            {
+                final List<AbstractTextCatalog> chain = new ArrayList<>();
+                for( final var candidate : m_Control.getCandidateLocales( "", locale ) )
+                {
+                    openCatalogFile( candidate ).ifPresent( chain::add );
+                }
+                retValue = ChainedTextCatalog.of( chain );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  apply()
+
+        /**
+         *  Forgets all mapped catalog files; they will be mapped again on
+         *  the next request.
+         */
+        public final void clear() { m_Files.clear(); }
+
+        /**
+         *  Opens the binary catalog file for the given locale, if it exists.
+         *
+         *  @param  locale  The locale.
+         *  @return An instance of
+         *      {@link Optional}
+         *      that holds the catalog.
+         *  @throws UncheckedIOException    The file exists, but it cannot be
+         *      opened.
+         */
+        private final Optional<AbstractTextCatalog> openCatalogFile( final Locale locale ) throws UncheckedIOException
+        {
+            var retValue = Optional.ofNullable( m_Files.get( locale ) );
+            if( retValue.isEmpty() )
+            {
+                final var file = m_Folder.resolve( BinaryCatalog.composeFileName( m_BaseName, locale ) );
+                try
+                {
+                    if( Files.isRegularFile( file ) && (BinaryCatalog.open( file ) instanceof final AbstractTextCatalog catalog) )
+                    {
+                        final var previous = m_Files.putIfAbsent( locale, catalog );
+                        retValue = Optional.of( previous == null ? catalog : previous );
+                    }
+                }
+                catch( final IOException e )
+                {
+                    throw new UncheckedIOException( e );
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  openCatalogFile()
+    }
+    //  class CatalogFileLoader
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default number of requested locales whose resolution is cached:
+     *  {@value}.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    /**
+     *  The maximum number of locales without a catalog that will be
+     *  remembered: {@value}. When this number is exceeded, the negative
+     *  cache will be reset.
+     */
+    public static final int MAX_MISSING_LOCALES = 4096;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The catalogs, by their locale.
+     */
+    private final Map<Locale,C> m_Catalogs = new ConcurrentHashMap<>();
+
+    /**
+     *  The default locale.
+     */
+    private final Locale m_DefaultLocale;
+
+    /**
+     *  The loader for the catalogs.
+     */
+    private final Function<? super Locale,? extends C> m_Loader;
+
+    /**
+     *  The locales that are known to have no catalog.
+     */
+    private final Set<Locale> m_MissingLocales = ConcurrentHashMap.newKeySet();
+
+    /**
+     *  The resolutions, by requested locale.
+     */
+    private final TinyLfuCache<Locale,Resolution<C>> m_Resolutions;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The control that determines the candidate locales.
+     */
+    private static final ResourceBundle.Control m_Control = ResourceBundle.Control.getControl( FORMAT_DEFAULT );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code LocaleResolver} instance that caches the
+     *  resolutions for up to
+     *  {@value #DEFAULT_CACHE_SIZE}
+     *  requested locales.
+     *
+     *  @param  defaultLocale   The default locale.
+     *  @param  loader  The loader for the catalogs.
+     */
+    public LocaleResolver( final Locale defaultLocale, final Function<? super Locale,? extends C> loader )
+    {
+        this( defaultLocale, DEFAULT_CACHE_SIZE, loader );
+    }   //  LocaleResolver()
+
+    /**
+     *  Creates a new {@code LocaleResolver} instance.
+     *
+     *  @param  defaultLocale   The default locale.
+     *  @param  cacheSize   The number of requested locales whose resolution
+     *      is cached; must be greater than 0.
+     *  @param  loader  The loader for the catalogs.
+     */
+    public LocaleResolver( final Locale defaultLocale, final int cacheSize, final Function<? super Locale,? extends C> loader )
+    {
+        m_DefaultLocale = requireNonNullArgument( defaultLocale, "defaultLocale" );
+        m_Loader = requireNonNullArgument( loader, "loader" );
+        m_Resolutions = new TinyLfuCache<>( cacheSize, resolution -> 1, null );
+    }   //  LocaleResolver()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Computes the candidate locales for the given locale.
+     *
+     *  @param  locale  The requested locale.
+     *  @return The candidate locales.
+     */
+    private final List<Locale> computeCandidates( final Locale locale )
+    {
+        final Set<Locale> candidates = new LinkedHashSet<>();
+        for( final var candidate : m_Control.getCandidateLocales( "", locale ) )
+        {
+            if( !Locale.ROOT.equals( candidate ) ) candidates.add( candidate );
+        }
+        for( final var candidate : m_Control.getCandidateLocales( "", m_DefaultLocale ) )
+        {
+            if( !Locale.ROOT.equals( candidate ) ) candidates.add( candidate );
+        }
+        candidates.add( Locale.ROOT );
+        final var retValue = List.copyOf( candidates );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeCandidates()
+
+    /**
+     *  Computes the resolution for the given locale.
+     *
+     *  @param  locale  The requested locale.
+     *  @return The resolution.
+     */
+    private final Resolution<C> computeResolution( final Locale locale )
+    {
+        final var candidates = computeCandidates( locale );
+        Locale effectiveLocale = null;
+        C catalog = null;
+        SearchLoop: for( final var candidate : candidates )
+        {
+            catalog = findCatalog( candidate );
+            if( catalog != null )
+            {
+                effectiveLocale = candidate;
+                break SearchLoop;
+            }
+        }   //  SearchLoop:
+        final var retValue = new Resolution<>( candidates, effectiveLocale, catalog );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeResolution()
+
+    /**
+     *  Returns the catalog for exactly the given locale.
+     *
+     *  @param  locale  The locale.
+     *  @return The catalog, or {@code null} if there is none.
+     */
+    private final C findCatalog( final Locale locale )
+    {
+        var retValue = m_Catalogs.get( locale );
+        if( (retValue == null) && !m_MissingLocales.contains( locale ) )
+        {
+            final C catalog = m_Loader.apply( locale );
+            if( catalog == null )
+            {
+                if( m_MissingLocales.size() >= MAX_MISSING_LOCALES ) m_MissingLocales.clear();
+                m_MissingLocales.add( locale );
+            }
+            else
+            {
+                retValue = m_Catalogs.putIfAbsent( locale, catalog );
+                if( retValue == null ) retValue = catalog;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findCatalog()
+
+    /**
+     *  <p>{@summary Creates a resolver for the binary catalog files in the
+     *  given folder.} The names of the files are composed by
+     *  {@link BinaryCatalog#composeFileName(String, Locale)}.</p>
+     *  <p>The catalog for a locale falls back to the files for its parent
+     *  locales, like {@code Texts_de.tqcat} and {@code Texts.tqcat} for
+     *  {@code de-CH}, in the same way as a resource bundle falls back to
+     *  its parents; each file is mapped only once, until
+     *  {@link #invalidateAll()}
+     *  is called. A file that is deployed or replaced later will be used
+     *  after the next call to that method.</p>
+     *  <p>The loader of the returned resolver throws an
+     *  {@link UncheckedIOException}
+     *  if a catalog file exists but cannot be opened.</p>
+     *
+     *  @param  folder  The folder with the catalog files.
+     *  @param  baseName    The base name for the catalog files.
+     *  @param  defaultLocale   The default locale.
+     *  @return The resolver.
+     */
+    public static final LocaleResolver<TextCatalog> forCatalogs( final Path folder, final String baseName, final Locale defaultLocale )
+    {
+        requireNonNullArgument( folder, "folder" );
+        requireNotEmptyArgument( baseName, "baseName" );
+
+        final var retValue = new LocaleResolver<TextCatalog>( defaultLocale, new CatalogFileLoader( folder, baseName ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  forCatalogs()
+
+    /**
+     *  Creates a resolver for the resource bundles with the given base
+     *  bundle name. A bundle is accepted for a candidate locale only if its
+     *  {@linkplain ResourceBundle#getLocale() locale}
+     *  is that candidate.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  defaultLocale   The default locale.
+     *  @return The resolver.
+     */
+    public static final LocaleResolver<ResourceBundle> forResourceBundles( final String baseBundleName, final Locale defaultLocale )
+    {
+        requireNotEmptyArgument( baseBundleName, "baseBundleName" );
+
+        final var retValue = new LocaleResolver<ResourceBundle>( defaultLocale, locale -> BundleRegistry.load( baseBundleName, locale, null )
+            .filter( bundle -> locale.equals( bundle.getLocale() ) )
+            .orElse( null ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  forResourceBundles()
+
+    /**
+     *  <p>{@summary Returns the chain of candidate locales for the given
+     *  locale.} Like the other methods that take a requested locale, this
+     *  resolves the locale, if that was not done before.</p>
+     *
+     *  @param  locale  The requested locale.
+     *  @return The candidate locales, from the most specific to
+     *      {@link Locale#ROOT}.
+     */
+    public final List<Locale> getCandidateLocales( final Locale locale )
+    {
+        final var retValue = getResolution( locale ).candidates();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getCandidateLocales()
+
+    /**
+     *  Returns the default locale.
+     *
+     *  @return The default locale.
+     */
+    public final Locale getDefaultLocale() { return m_DefaultLocale; }
+
+    /**
+     *  Returns the effective locale for the given locale; this is the first
+     *  candidate locale that is backed by a catalog.
+     *
+     *  @param  locale  The requested locale.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the effective locale; empty if there is no catalog for
+     *      any candidate.
+     */
+    public final Optional<Locale> getEffectiveLocale( final Locale locale )
+    {
+        final var retValue = Optional.ofNullable( getResolution( locale ).effectiveLocale() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getEffectiveLocale()
+
+    /**
+     *  Returns the resolution for the given locale.
+     *
+     *  @param  locale  The requested locale.
+     *  @return The resolution.
+     */
+    private final Resolution<C> getResolution( final Locale locale )
+    {
+        final var retValue = m_Resolutions.get( requireNonNullArgument( locale, "locale" ), this::computeResolution );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getResolution()
+
+    /**
+     *  Discards all cached resolutions and catalogs, for example after new
+     *  catalogs were deployed. For a resolver that was created by
+     *  {@link #forCatalogs(Path, String, Locale)},
+     *  this discards the mapped catalog files, too.
+     */
+    public final void invalidateAll()
+    {
+        m_Resolutions.invalidateAll();
+        m_Catalogs.clear();
+        m_MissingLocales.clear();
+        if( m_Loader instanceof final CatalogFileLoader loader ) loader.clear();
+    }   //  invalidateAll()
+
+    /**
+     *  Returns the catalog for the given locale.
+     *
+     *  @param  locale  The requested locale.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the catalog for the effective locale; empty if there
+     *      is no catalog for any candidate.
+     */
+    public final Optional<C> resolve( final Locale locale )
+    {
+        final var retValue = Optional.ofNullable( getResolution( locale ).catalog() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  resolve()
+}
+//  class LocaleResolver
+
+/*
+ *  End of File
+ */
\ No newline at end of file
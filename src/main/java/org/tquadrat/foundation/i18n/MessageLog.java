@@ -0,0 +1,823 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.lang.System.currentTimeMillis;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A log for messages that stores the message prefix, the id
+ *  and the arguments in a compact binary form, so that the messages can be
+ *  rendered later, by another thread or even offline.}</p>
+ *  <p>Writing a message to the log does neither look up the text in a
+ *  resource bundle nor format it; the arguments are stored as they are if
+ *  they are {@code null}, a {@code String}, a {@code Boolean}, a
+ *  {@code Character} or a primitive wrapper for a number. Any other argument
+ *  is stored as the result of its
+ *  {@link Object#toString() toString()}
+ *  method; this means that
+ *  {@link java.util.Formattable}
+ *  arguments lose their special formatting, and that a conversion that
+ *  needs the original type, like {@code %.2f} for a
+ *  {@link java.math.BigDecimal}
+ *  or {@code %tF} for a
+ *  {@link java.util.Date}
+ *  or an
+ *  {@link java.time.Instant},
+ *  cannot be applied to the stored value.</p>
+ *  <p>The log is a ring buffer of a fixed size, either in memory, or in a
+ *  memory-mapped file. When it is full, the oldest messages will be
+ *  overwritten. The read and write positions are kept in the buffer itself,
+ *  so a log file that was written by one program can be read and rendered by
+ *  another one.</p>
+ *  <p>Messages are read by
+ *  {@link #read(Consumer)};
+ *  reading removes the messages from the log. The log can be written and
+ *  read by multiple threads concurrently; the lock is held only while the
+ *  raw bytes are copied, never while a text is rendered.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: MessageLog.java 1308 2026-10-18 18:57:40Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: MessageLog.java 1308 2026-10-18 18:57:40Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class MessageLog
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  A message that was read from the log.
+     *
+     *  @param  timestamp   The time when the message was written to the log,
+     *      in milliseconds since the epoch.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  {@code true} if the message should be prefixed with
+     *      the message key, {@code false} if not.
+     *  @param  args    The arguments for the message.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: MessageLog.java 1308 2026-10-18 18:57:40Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: MessageLog.java 1308 2026-10-18 18:57:40Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record Entry( long timestamp, String messagePrefix, int id, boolean addKey, Object [] args )
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Renders this message with the texts from the given resource
+         *  bundle.
+         *
+         *  @param  bundle  The resource bundle.
+         *  @return The message.
+         *
+         *  @see I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)
+         */
+        public final String render( final ResourceBundle bundle )
+        {
+            final var retValue = I18nUtil.retrieveMessage( bundle, messagePrefix, id, addKey, args );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  render()
+    }
+    //  record Entry
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The flag for {@code addKey}: {@value}.
+     */
+    private static final byte FLAG_ADDKEY = 1;
+
+    /**
+     *  The size of the file header: {@value}.
+     */
+    private static final int HEADER_SIZE = 32;
+
+    /**
+     *  The magic number for a message log file ("TQML"): {@value}.
+     */
+    private static final int MAGIC = 0x54514D4C;
+
+    /**
+     *  The minimum capacity for a message log: {@value} bytes.
+     */
+    public static final int MIN_CAPACITY = 1024;
+
+    /**
+     *  The marker for the unused space at the end of the ring buffer:
+     *  {@value}.
+     */
+    private static final int PADDING = -1;
+
+    /**
+     *  The position of the capacity in the header: {@value}.
+     */
+    private static final int POS_CAPACITY = 8;
+
+    /**
+     *  The position of the read position in the header: {@value}.
+     */
+    private static final int POS_HEAD = 16;
+
+    /**
+     *  The position of the write position in the header: {@value}.
+     */
+    private static final int POS_TAIL = 24;
+
+    /**
+     *  The position of the format version in the header: {@value}.
+     */
+    private static final int POS_VERSION = 4;
+
+    /**
+     *  The size of the fixed part of a record: {@value}; it holds the length
+     *  of the record, the timestamp, the id, the flags and the number of
+     *  arguments.
+     */
+    private static final int RECORD_HEADER_SIZE = 18;
+
+    /**
+     *  The type tag for a {@code Boolean}: {@value}.
+     */
+    private static final byte TYPE_BOOLEAN = 1;
+
+    /**
+     *  The type tag for a {@code Byte}: {@value}.
+     */
+    private static final byte TYPE_BYTE = 2;
+
+    /**
+     *  The type tag for a {@code Character}: {@value}.
+     */
+    private static final byte TYPE_CHAR = 4;
+
+    /**
+     *  The type tag for a {@code Double}: {@value}.
+     */
+    private static final byte TYPE_DOUBLE = 8;
+
+    /**
+     *  The type tag for a {@code Float}: {@value}.
+     */
+    private static final byte TYPE_FLOAT = 7;
+
+    /**
+     *  The type tag for an {@code Integer}: {@value}.
+     */
+    private static final byte TYPE_INT = 5;
+
+    /**
+     *  The type tag for a {@code String} with ISO-8859-1 characters only:
+     *  {@value}.
+     */
+    private static final byte TYPE_LATIN1 = 9;
+
+    /**
+     *  The type tag for a {@code Long}: {@value}.
+     */
+    private static final byte TYPE_LONG = 6;
+
+    /**
+     *  The type tag for {@code null}: {@value}.
+     */
+    private static final byte TYPE_NULL = 0;
+
+    /**
+     *  The type tag for a {@code Short}: {@value}.
+     */
+    private static final byte TYPE_SHORT = 3;
+
+    /**
+     *  The type tag for any other {@code String}: {@value}.
+     */
+    private static final byte TYPE_UTF16 = 10;
+
+    /**
+     *  The version of the log format: {@value}.
+     */
+    private static final int VERSION = 1;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The buffer.
+     */
+    private final ByteBuffer m_Buffer;
+
+    /**
+     *  The capacity of the ring buffer, without the header.
+     */
+    private final int m_Capacity;
+
+    /**
+     *  The guard for the buffer.
+     */
+    private final ReentrantLock m_Lock = new ReentrantLock();
+
+    /**
+     *  The number of messages that were overwritten before they were read.
+     */
+    private volatile long m_OverwrittenCount = 0;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MessageLog} instance.
+     *
+     *  @param  buffer  The buffer, with a valid header.
+     *  @throws IllegalArgumentException    The buffer does not contain a
+     *      valid message log.
+     */
+    private MessageLog( final ByteBuffer buffer ) throws IllegalArgumentException
+    {
+        m_Buffer = buffer;
+        if( (buffer.capacity() < HEADER_SIZE) || (buffer.getInt( 0 ) != MAGIC) ) throw new IllegalArgumentException( "Not a message log" );
+        if( buffer.getInt( POS_VERSION ) != VERSION ) throw new IllegalArgumentException( "Unsupported message log version: %d".formatted( buffer.getInt( POS_VERSION ) ) );
+        m_Capacity = buffer.getInt( POS_CAPACITY );
+        if( (m_Capacity < MIN_CAPACITY) || ((m_Capacity & 3) != 0) || (buffer.capacity() < HEADER_SIZE + m_Capacity) ) throw new IllegalArgumentException( "Invalid message log capacity: %d".formatted( m_Capacity ) );
+    }   //  MessageLog()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a new message log in memory.
+     *
+     *  @param  capacity    The capacity in bytes; it will be rounded up to a
+     *      multiple of 4, and it has to be at least
+     *      {@value #MIN_CAPACITY}.
+     *  @return The new message log.
+     */
+    public static final MessageLog allocate( final int capacity )
+    {
+        final var size = checkCapacity( capacity );
+        final var retValue = new MessageLog( initialise( ByteBuffer.allocateDirect( HEADER_SIZE + size ), size ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  allocate()
+
+    /**
+     *  Validates the given capacity and rounds it up to a multiple of 4.
+     *
+     *  @param  capacity    The requested capacity.
+     *  @return The effective capacity.
+     *  @throws IllegalArgumentException    The capacity is too small or too
+     *      large.
+     */
+    private static final int checkCapacity( final int capacity ) throws IllegalArgumentException
+    {
+        if( (capacity < MIN_CAPACITY) || (capacity > Integer.MAX_VALUE - HEADER_SIZE - 3) ) throw new IllegalArgumentException( "Invalid capacity: %d".formatted( capacity ) );
+        final var retValue = (capacity + 3) & ~3;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  checkCapacity()
+
+    /**
+     *  Creates a new message log in the given file; an existing file will be
+     *  overwritten.
+     *
+     *  @param  file    The file.
+     *  @param  capacity    The capacity in bytes; it will be rounded up to a
+     *      multiple of 4, and it has to be at least
+     *      {@value #MIN_CAPACITY}.
+     *  @return The new message log.
+     *  @throws IOException The file cannot be created.
+     */
+    public static final MessageLog create( final Path file, final int capacity ) throws IOException
+    {
+        requireNonNullArgument( file, "file" );
+        final var size = checkCapacity( capacity );
+
+        final ByteBuffer buffer;
+        try( final var channel = FileChannel.open( file, CREATE, TRUNCATE_EXISTING, READ, WRITE ) )
+        {
+            buffer = channel.map( READ_WRITE, 0, HEADER_SIZE + size );
+        }
+        final var retValue = new MessageLog( initialise( buffer, size ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  create()
+
+    /**
+     *  Decodes the record at the current position of the buffer.
+     *
+     *  @return The message.
+     */
+    private final Entry decode()
+    {
+        final var timestamp = m_Buffer.getLong();
+        final var id = m_Buffer.getInt();
+        final var flags = m_Buffer.get();
+        final var args = new Object [m_Buffer.get() & 0xFF];
+        final var messagePrefix = (String) decodeValue();
+        for( var i = 0; i < args.length; ++i ) args [i] = decodeValue();
+        final var retValue = new Entry( timestamp, messagePrefix, id, (flags & FLAG_ADDKEY) != 0, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  decode()
+
+    /**
+     *  Decodes the value at the current position of the buffer.
+     *
+     *  @return The value.
+     *  @throws IllegalStateException   The log is corrupted.
+     */
+    private final Object decodeValue() throws IllegalStateException
+    {
+        final var type = m_Buffer.get();
+        final Object retValue = switch( type )
+        {
+            case TYPE_NULL -> null;
+            case TYPE_BOOLEAN -> Boolean.valueOf( m_Buffer.get() != 0 );
+            case TYPE_BYTE -> Byte.valueOf( m_Buffer.get() );
+            case TYPE_SHORT -> Short.valueOf( m_Buffer.getShort() );
+            case TYPE_CHAR -> Character.valueOf( m_Buffer.getChar() );
+            case TYPE_INT -> Integer.valueOf( m_Buffer.getInt() );
+            case TYPE_LONG -> Long.valueOf( m_Buffer.getLong() );
+            case TYPE_FLOAT -> Float.valueOf( m_Buffer.getFloat() );
+            case TYPE_DOUBLE -> Double.valueOf( m_Buffer.getDouble() );
+            case TYPE_LATIN1 ->
+            {
+                final var chars = new char [m_Buffer.getInt()];
+                for( var i = 0; i < chars.length; ++i ) chars [i] = (char) (m_Buffer.get() & 0xFF);
+                yield new String( chars );
+            }
+            case TYPE_UTF16 ->
+            {
+                final var chars = new char [m_Buffer.getInt()];
+                for( var i = 0; i < chars.length; ++i ) chars [i] = m_Buffer.getChar();
+                yield new String( chars );
+            }
+            default -> throw new IllegalStateException( "Corrupted message log; unknown type: %d".formatted( type ) );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  decodeValue()
+
+    /**
+     *  Writes the given value at the current position of the buffer.
+     *
+     *  @param  value   The value; it was already converted by
+     *      {@link #sizeOf(Object)}.
+     */
+    private final void encodeValue( final Object value )
+    {
+        switch( value )
+        {
+            case null -> m_Buffer.put( TYPE_NULL );
+            case final Boolean b -> m_Buffer.put( TYPE_BOOLEAN ).put( b.booleanValue() ? (byte) 1 : (byte) 0 );
+            case final Byte b -> m_Buffer.put( TYPE_BYTE ).put( b.byteValue() );
+            case final Short s -> m_Buffer.put( TYPE_SHORT ).putShort( s.shortValue() );
+            case final Character c -> m_Buffer.put( TYPE_CHAR ).putChar( c.charValue() );
+            case final Integer i -> m_Buffer.put( TYPE_INT ).putInt( i.intValue() );
+            case final Long l -> m_Buffer.put( TYPE_LONG ).putLong( l.longValue() );
+            case final Float f -> m_Buffer.put( TYPE_FLOAT ).putFloat( f.floatValue() );
+            case final Double d -> m_Buffer.put( TYPE_DOUBLE ).putDouble( d.doubleValue() );
+            default ->
+            {
+                final var string = (String) value;
+                final var length = string.length();
+                if( isLatin1( string ) )
+                {
+                    m_Buffer.put( TYPE_LATIN1 ).putInt( length );
+                    for( var i = 0; i < length; ++i ) m_Buffer.put( (byte) string.charAt( i ) );
+                }
+                else
+                {
+                    m_Buffer.put( TYPE_UTF16 ).putInt( length );
+                    for( var i = 0; i < length; ++i ) m_Buffer.putChar( string.charAt( i ) );
+                }
+            }
+        }
+    }   //  encodeValue()
+
+    /**
+     *  Writes the contents of the buffer to the storage device, if the log
+     *  is backed by a file; otherwise, nothing happens.
+     */
+    public final void flush()
+    {
+        if( m_Buffer instanceof final MappedByteBuffer mappedBuffer )
+        {
+            m_Lock.lock();
+            try
+            {
+                mappedBuffer.force();
+            }
+            finally
+            {
+                m_Lock.unlock();
+            }
+        }
+    }   //  flush()
+
+    /**
+     *  Returns the capacity of this log.
+     *
+     *  @return The capacity in bytes.
+     */
+    public final int getCapacity() { return m_Capacity; }
+
+    /**
+     *  Returns the number of messages that were overwritten before they
+     *  could be read, since this instance was created.
+     *
+     *  @return The number of lost messages.
+     */
+    public final long getOverwrittenCount() { return m_OverwrittenCount; }
+
+    /**
+     *  Writes the header for an empty log to the given buffer.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  capacity    The capacity of the ring buffer.
+     *  @return The buffer.
+     */
+    private static final ByteBuffer initialise( final ByteBuffer buffer, final int capacity )
+    {
+        buffer.putInt( 0, MAGIC )
+            .putInt( POS_VERSION, VERSION )
+            .putInt( POS_CAPACITY, capacity )
+            .putLong( POS_HEAD, 0L )
+            .putLong( POS_TAIL, 0L );
+
+        //---* Done *----------------------------------------------------------
+        return buffer;
+    }   //  initialise()
+
+    /**
+     *  Checks whether the log is empty.
+     *
+     *  @return {@code true} if there are no messages to read, {@code false}
+     *      otherwise.
+     */
+    public final boolean isEmpty()
+    {
+        final boolean retValue;
+        m_Lock.lock();
+        try
+        {
+            retValue = m_Buffer.getLong( POS_HEAD ) == m_Buffer.getLong( POS_TAIL );
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isEmpty()
+
+    /**
+     *  Checks whether the given {@code String} contains only characters from
+     *  ISO-8859-1.
+     *
+     *  @param  string  The {@code String}.
+     *  @return {@code true} if all characters are from ISO-8859-1,
+     *      {@code false} otherwise.
+     */
+    private static final boolean isLatin1( final String string )
+    {
+        var retValue = true;
+        for( var i = 0; (i < string.length()) && retValue; ++i ) retValue = string.charAt( i ) < 256;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isLatin1()
+
+    /**
+     *  Checks whether the given value can be stored as it is.
+     *
+     *  @param  value   The value.
+     *  @return {@code true} if the value can be stored, {@code false} if it
+     *      has to be converted to a {@code String} first.
+     */
+    private static final boolean isSupported( final Object value )
+    {
+        final var retValue = (value == null)
+            || (value instanceof String)
+            || (value instanceof Integer)
+            || (value instanceof Long)
+            || (value instanceof Boolean)
+            || (value instanceof Double)
+            || (value instanceof Character)
+            || (value instanceof Short)
+            || (value instanceof Byte)
+            || (value instanceof Float);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isSupported()
+
+    /**
+     *  Removes the oldest messages from the log until there is enough space
+     *  for the given number of bytes.
+     *
+     *  @param  head    The current read position.
+     *  @param  tail    The current write position.
+     *  @param  size    The number of bytes that are needed.
+     *  @return The new read position.
+     */
+    private final long makeRoom( final long head, final long tail, final int size )
+    {
+        var retValue = head;
+        while( tail + size - retValue > m_Capacity )
+        {
+            final var offset = (int) (retValue % m_Capacity);
+            final var length = m_Buffer.getInt( HEADER_SIZE + offset );
+            if( length == PADDING )
+            {
+                retValue += m_Capacity - offset;
+            }
+            else
+            {
+                retValue += length;
+                ++m_OverwrittenCount;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  makeRoom()
+
+    /**
+     *  Opens an existing message log file, for example to read the messages
+     *  that were written by another program.
+     *
+     *  @param  file    The file.
+     *  @return The message log.
+     *  @throws IOException The file cannot be opened, or it is not a valid
+     *      message log.
+     */
+    public static final MessageLog open( final Path file ) throws IOException
+    {
+        requireNonNullArgument( file, "file" );
+
+        final ByteBuffer buffer;
+        try( final var channel = FileChannel.open( file, READ, WRITE ) )
+        {
+            buffer = channel.map( READ_WRITE, 0, channel.size() );
+        }
+        final MessageLog retValue;
+        try
+        {
+            retValue = new MessageLog( buffer );
+        }
+        catch( final IllegalArgumentException e )
+        {
+            throw new IOException( "'%s' is not a valid message log".formatted( file ), e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  open()
+
+    /**
+     *  Reads all messages from the log and hands them to the given consumer;
+     *  the messages are removed from the log. The consumer is called after
+     *  the messages were read, without holding the lock for the log.
+     *
+     *  @param  consumer    The consumer for the messages.
+     *  @return The number of messages that were read.
+     */
+    public final int read( final Consumer<? super Entry> consumer )
+    {
+        requireNonNullArgument( consumer, "consumer" );
+
+        final List<Entry> entries = new ArrayList<>();
+        m_Lock.lock();
+        try
+        {
+            var head = m_Buffer.getLong( POS_HEAD );
+            final var tail = m_Buffer.getLong( POS_TAIL );
+            ReadLoop: while( head < tail )
+            {
+                final var offset = (int) (head % m_Capacity);
+                final var length = m_Buffer.getInt( HEADER_SIZE + offset );
+                if( length == PADDING )
+                {
+                    head += m_Capacity - offset;
+                    continue ReadLoop;
+                }
+                m_Buffer.position( HEADER_SIZE + offset + Integer.BYTES );
+                entries.add( decode() );
+                head += length;
+            }   //  ReadLoop:
+            m_Buffer.putLong( POS_HEAD, head );
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+        entries.forEach( consumer );
+        final var retValue = entries.size();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  read()
+
+    /**
+     *  Reads all messages from the log, renders them with the texts from the
+     *  given resource bundle and hands the results to the given sink; the
+     *  messages are removed from the log.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  sink    The sink for the rendered messages.
+     *  @return The number of messages that were rendered.
+     */
+    public final int render( final ResourceBundle bundle, final Consumer<? super String> sink )
+    {
+        requireNonNullArgument( bundle, "bundle" );
+        requireNonNullArgument( sink, "sink" );
+
+        final var retValue = read( entry -> sink.accept( entry.render( bundle ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Returns the number of bytes that are needed to store the given value.
+     *
+     *  @param  value   The value; it has to be {@code null}, a
+     *      {@code String}, a {@code Boolean}, a {@code Character} or a
+     *      primitive wrapper for a number.
+     *  @return The size in bytes.
+     */
+    private static final int sizeOf( final Object value )
+    {
+        final var retValue = 1 + switch( value )
+        {
+            case null -> 0;
+            case final Boolean ignored -> Byte.BYTES;
+            case final Byte ignored -> Byte.BYTES;
+            case final Short ignored -> Short.BYTES;
+            case final Character ignored -> Character.BYTES;
+            case final Integer ignored -> Integer.BYTES;
+            case final Long ignored -> Long.BYTES;
+            case final Float ignored -> Float.BYTES;
+            case final Double ignored -> Double.BYTES;
+            default ->
+            {
+                final var string = (String) value;
+                yield Integer.BYTES + string.length() * (isLatin1( string ) ? 1 : Character.BYTES);
+            }
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sizeOf()
+
+    /**
+     *  <p>{@summary Writes a message to the log.}</p>
+     *  <p>If all arguments are {@code null}, a {@code String}, a
+     *  {@code Boolean}, a {@code Character} or a primitive wrapper for a
+     *  number, reading the message later and rendering it with
+     *  {@link Entry#render(ResourceBundle)}
+     *  will return the same result as</p>
+     *  <pre><code>I18nUtil.retrieveMessage( bundle, messagePrefix, id, addKey, args )</code></pre>
+     *  <p>would have returned.</p>
+     *  <p>Any other argument is stored as the result of its
+     *  {@link Object#toString() toString()}
+     *  method, and the message is rendered as if that {@code String} had been
+     *  passed. This gives the same result for the conversion {@code %s},
+     *  but a conversion that needs the original type, like {@code %.2f} for
+     *  a
+     *  {@link java.math.BigDecimal}
+     *  or {@code %tF} for a
+     *  {@link java.util.Date}
+     *  or an
+     *  {@link java.time.Instant},
+     *  as well as the special formatting of a
+     *  {@link java.util.Formattable},
+     *  is lost. Such arguments should be formatted by the caller before the
+     *  message is written.</p>
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message; not more than 255.
+     *  @throws IllegalArgumentException    There are too many arguments, or
+     *      the message is too large for the log.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)
+     */
+    public final void write( final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IllegalArgumentException
+    {
+        requireNotEmptyArgument( messagePrefix, "messagePrefix" );
+        requireNonNullArgument( args, "args" );
+        if( args.length > 255 ) throw new IllegalArgumentException( "Too many arguments: %d".formatted( args.length ) );
+
+        //---* Determine the size of the record *------------------------------
+        var values = args;
+        var size = RECORD_HEADER_SIZE + sizeOf( messagePrefix );
+        for( var i = 0; i < values.length; ++i )
+        {
+            if( !isSupported( values [i] ) )
+            {
+                if( values == args ) values = args.clone();
+                values [i] = values [i].toString();
+            }
+            size += sizeOf( values [i] );
+        }
+        final var recordSize = (size + 3) & ~3;
+        if( recordSize > m_Capacity ) throw new IllegalArgumentException( "Message too large for the log: %d bytes".formatted( recordSize ) );
+        final var timestamp = currentTimeMillis();
+
+        //---* Write the record *----------------------------------------------
+        m_Lock.lock();
+        try
+        {
+            var head = m_Buffer.getLong( POS_HEAD );
+            var tail = m_Buffer.getLong( POS_TAIL );
+            var offset = (int) (tail % m_Capacity);
+            final var remaining = m_Capacity - offset;
+            if( remaining < recordSize )
+            {
+                head = makeRoom( head, tail, remaining );
+                m_Buffer.putInt( HEADER_SIZE + offset, PADDING );
+                tail += remaining;
+                offset = 0;
+            }
+            head = makeRoom( head, tail, recordSize );
+
+            m_Buffer.position( HEADER_SIZE + offset );
+            m_Buffer.putInt( recordSize )
+                .putLong( timestamp )
+                .putInt( id )
+                .put( addKey ? FLAG_ADDKEY : 0 )
+                .put( (byte) values.length );
+            encodeValue( messagePrefix );
+            for( final var value : values ) encodeValue( value );
+
+            m_Buffer.putLong( POS_HEAD, head );
+            m_Buffer.putLong( POS_TAIL, tail + recordSize );
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+    }   //  write()
+}
+//  class MessageLog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,316 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary Routes messages to the resource bundles of the modules that
+ *  define them, by their message prefix.}</p>
+ *  <p>Each library registers its
+ *  {@linkplain MessagePrefix message prefix}
+ *  together with its
+ *  {@linkplain BaseBundleName base bundle name};
+ *  a message is then retrieved with just the locale and the prefix (or the
+ *  complete message key, like {@code SFX-001704}), and the router selects
+ *  the bundle with a single map lookup, instead of probing the bundles one
+ *  after the other. The bundles for all modules are taken from one shared
+ *  {@link ResourceBundleCache}.</p>
+ *  <p>If no bundle is registered for a prefix, or the bundle for the
+ *  locale cannot be loaded, the result is the same as for a bundle that
+ *  does not contain the message.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: MessageRouter.java 1295 2026-10-18 13:47:19Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: MessageRouter.java 1295 2026-10-18 13:47:19Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class MessageRouter
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The route for a message prefix.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  module  The module that provides the resource bundle, or
+     *      {@code null}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: MessageRouter.java 1295 2026-10-18 13:47:19Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: MessageRouter.java 1295 2026-10-18 13:47:19Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Route( String baseBundleName, Module module ) {}
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The cache for the resource bundles.
+     */
+    private final ResourceBundleCache m_Cache;
+
+    /**
+     *  The routes, by message prefix.
+     */
+    private final Map<String,Route> m_Routes = new ConcurrentHashMap<>();
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The resource bundle that is used when no bundle could be found.
+     */
+    private static final ResourceBundle m_EmptyBundle = new ListResourceBundle()
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final Object [][] getContents() { return new Object [0][]; }
+    };
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MessageRouter} instance.
+     *
+     *  @param  cache   The cache for the resource bundles.
+     */
+    public MessageRouter( final ResourceBundleCache cache )
+    {
+        m_Cache = requireNonNullArgument( cache, "cache" );
+    }   //  MessageRouter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the resource bundle for the given message prefix and locale.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  locale  The locale.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle; it is empty if no bundle is
+     *      registered for the prefix, or if the bundle could not be loaded.
+     */
+    public final Optional<ResourceBundle> getBundle( final String messagePrefix, final Locale locale )
+    {
+        final var route = m_Routes.get( requireNotEmptyArgument( messagePrefix, "messagePrefix" ) );
+        requireNonNullArgument( locale, "locale" );
+        final Optional<ResourceBundle> retValue;
+        if( route == null )
+        {
+            retValue = Optional.empty();
+        }
+        else
+        {
+            retValue = route.module() == null
+                ? m_Cache.getBundle( route.baseBundleName(), locale )
+                : m_Cache.getBundle( route.baseBundleName(), locale, route.module() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBundle()
+
+    /**
+     *  Returns the cache for the resource bundles.
+     *
+     *  @return The cache.
+     */
+    public final ResourceBundleCache getCache() { return m_Cache; }
+
+    /**
+     *  Returns the registered message prefixes.
+     *
+     *  @return The message prefixes.
+     */
+    public final Set<String> getMessagePrefixes() { return Set.copyOf( m_Routes.keySet() ); }
+
+    /**
+     *  Registers the resource bundle with the given base bundle name for the
+     *  given message prefix.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  baseBundleName  The base bundle name.
+     *  @throws IllegalArgumentException    Another bundle is already
+     *      registered for the message prefix.
+     */
+    public final void register( final String messagePrefix, final String baseBundleName ) throws IllegalArgumentException
+    {
+        register( messagePrefix, new Route( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), null ) );
+    }   //  register()
+
+    /**
+     *  Registers the resource bundle with the given base bundle name from
+     *  the given module for the given message prefix.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  module  The module that provides the resource bundle.
+     *  @throws IllegalArgumentException    Another bundle is already
+     *      registered for the message prefix.
+     */
+    public final void register( final String messagePrefix, final String baseBundleName, final Module module ) throws IllegalArgumentException
+    {
+        register( messagePrefix, new Route( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), requireNonNullArgument( module, "module" ) ) );
+    }   //  register()
+
+    /**
+     *  Registers the given route for the given message prefix.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  route   The route.
+     *  @throws IllegalArgumentException    Another route is already
+     *      registered for the message prefix.
+     */
+    private final void register( final String messagePrefix, final Route route ) throws IllegalArgumentException
+    {
+        final var previous = m_Routes.putIfAbsent( requireNotEmptyArgument( messagePrefix, "messagePrefix" ), route );
+        if( (previous != null) && !previous.equals( route ) )
+        {
+            throw new IllegalArgumentException( "Message prefix '%s' is already registered for '%s'".formatted( messagePrefix, previous.baseBundleName() ) );
+        }
+    }   //  register()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key from the
+     *  resource bundle that is registered for the prefix of the key, and
+     *  applies the given arguments to it.}</p>
+     *  <p>The prefix is the part of the key before the first hyphen that
+     *  leads to a registered prefix; this allows prefixes that contain a
+     *  hyphen, too.</p>
+     *
+     *  @param  locale  The locale.
+     *  @param  messageKey  The message key, like {@code SFX-001704}.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     */
+    public final String retrieveMessage( final Locale locale, final String messageKey, final boolean addKey, final Object... args )
+    {
+        requireNotEmptyArgument( messageKey, "messageKey" );
+        var bundle = m_EmptyBundle;
+        var position = messageKey.indexOf( '-' );
+        SearchLoop: while( position > 0 )
+        {
+            final var messagePrefix = messageKey.substring( 0, position );
+            if( m_Routes.containsKey( messagePrefix ) )
+            {
+                bundle = getBundle( messagePrefix, locale ).orElse( m_EmptyBundle );
+                break SearchLoop;
+            }
+            position = messageKey.indexOf( '-', position + 1 );
+        }   //  SearchLoop:
+        final var text = I18nUtil.retrieveText( bundle, messageKey, args );
+        final var retValue = addKey ? "[" + messageKey + "] " + text : text;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given prefix and id from
+     *  the resource bundle that is registered for the prefix, and applies
+     *  the given arguments to it.}</p>
+     *
+     *  @param  locale  The locale.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)
+     */
+    public final String retrieveMessage( final Locale locale, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        final var bundle = getBundle( messagePrefix, locale ).orElse( m_EmptyBundle );
+        final var retValue = I18nUtil.retrieveMessage( bundle, messagePrefix, id, addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given prefix and id from
+     *  the resource bundle that is registered for the prefix, and applies
+     *  the given arguments to it.}</p>
+     *
+     *  @param  locale  The locale.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, String, boolean, Object...)
+     */
+    public final String retrieveMessage( final Locale locale, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        final var bundle = getBundle( messagePrefix, locale ).orElse( m_EmptyBundle );
+        final var retValue = I18nUtil.retrieveMessage( bundle, messagePrefix, id, addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  Removes the registration for the given message prefix.
+     *
+     *  @param  messagePrefix   The message prefix.
+     */
+    public final void unregister( final String messagePrefix )
+    {
+        m_Routes.remove( requireNotEmptyArgument( messagePrefix, "messagePrefix" ) );
+    }   //  unregister()
+}
+//  class MessageRouter
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,1152 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.ResourceBundle.Control.FORMAT_DEFAULT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.i18n.I18nUtil.ADDITIONAL_TEXT_FILE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.AdditionalTextsReader;
+import org.tquadrat.foundation.i18n.internal.FlatTextCatalog;
+import org.tquadrat.foundation.i18n.internal.TextTemplate;
+
+/**
+ *  <p>{@summary Text catalogs that are built from the properties files in a
+ *  folder, and that are rebuilt when these files change.}</p>
+ *  <p>The folder holds the files
+ *  {@code <baseName>.properties}
+ *  (for
+ *  {@link Locale#ROOT})
+ *  and
+ *  {@code <baseName>_<locale>.properties},
+ *  like
+ *  {@code Texts_de.properties}
+ *  or
+ *  {@code Texts_zh_Hant_TW.properties},
+ *  and optionally the file
+ *  {@value I18nUtil#ADDITIONAL_TEXT_FILE}.
+ *  For each locale that has texts, a catalog is compiled that already
+ *  contains the texts of its parent locales, so that a lookup never has to
+ *  walk the fallback chain.</p>
+ *  <p>The catalogs for all locales are kept in an immutable map that is
+ *  referenced by a single volatile field. When a source file changes, the
+ *  catalogs for the locales that depend on it are rebuilt on a separate
+ *  thread, and the new map is published by just replacing that reference.
+ *  Readers never wait for a lock, and they see either the old or the new
+ *  catalogs, but never a partially updated one.</p>
+ *  <p>A reload is incremental: the texts of a changed file are compared
+ *  with those that were loaded before, and only the entries for the keys
+ *  that were added, modified or removed are compiled again. All other
+ *  entries, and the catalogs for the locales that are not affected, are
+ *  shared with the previous version.</p>
+ *  <p>The catalogs returned by
+ *  {@link #getCatalog(Locale)}
+ *  are live views: each call to one of their methods uses the most recent
+ *  catalog for the locale. If a source file cannot be read or parsed, the
+ *  previous texts from that file remain in effect, and the failure is
+ *  recorded; the watcher retries to read the file after
+ *  {@value #RETRY_DELAY} milliseconds. If the folder can no longer be
+ *  watched, for example because it was deleted, this is recorded as a
+ *  failure as well, and the watching stops.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ReloadableCatalog.java 1296 2026-10-18 13:50:02Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ReloadableCatalog.java 1296 2026-10-18 13:50:02Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class ReloadableCatalog implements AutoCloseable
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The catalog that a view has selected from a snapshot of the
+     *  catalogs.
+     *
+     *  @param  catalogs    The snapshot.
+     *  @param  catalog The selected catalog.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ReloadableCatalog.java 1296 2026-10-18 13:50:02Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ReloadableCatalog.java 1296 2026-10-18 13:50:02Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Binding( Map<Locale,FlatTextCatalog> catalogs, TextCatalog catalog ) {}
+
+    /**
+     *  The live view on the catalog for a locale.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ReloadableCatalog.java 1296 2026-10-18 13:50:02Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ReloadableCatalog.java 1296 2026-10-18 13:50:02Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private final class View implements TextCatalog
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The most recent binding; it will be replaced when the catalogs
+         *  were reloaded. As the binding is immutable, a race on this field
+         *  does no harm.
+         */
+        private Binding m_Binding;
+
+        /**
+         *  The candidate locales, in the order of their precedence.
+         */
+        private final List<Locale> m_Candidates;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code View} instance.
+         *
+         *  @param  locale  The requested locale.
+         */
+        public View( final Locale locale )
+        {
+            m_Candidates = List.copyOf( m_Control.getCandidateLocales( "", locale ) );
+        }   //  View()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final <A extends Appendable> A appendMessage( final A target, final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IOException
+        {
+            return current().appendMessage( target, messagePrefix, id, addKey, args );
+        }   //  appendMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final <A extends Appendable> A appendMessage( final A target, final String messagePrefix, final String id, final boolean addKey, final Object... args ) throws IOException
+        {
+            return current().appendMessage( target, messagePrefix, id, addKey, args );
+        }   //  appendMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final CharBuffer appendMessage( final CharBuffer target, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+        {
+            return current().appendMessage( target, messagePrefix, id, addKey, args );
+        }   //  appendMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final CharBuffer appendMessage( final CharBuffer target, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+        {
+            return current().appendMessage( target, messagePrefix, id, addKey, args );
+        }   //  appendMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final StringBuilder appendMessage( final StringBuilder target, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+        {
+            return current().appendMessage( target, messagePrefix, id, addKey, args );
+        }   //  appendMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final StringBuilder appendMessage( final StringBuilder target, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+        {
+            return current().appendMessage( target, messagePrefix, id, addKey, args );
+        }   //  appendMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final <A extends Appendable> A appendText( final A target, final String key, final Object... args ) throws IOException
+        {
+            return current().appendText( target, key, args );
+        }   //  appendText()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final CharBuffer appendText( final CharBuffer target, final String key, final Object... args )
+        {
+            return current().appendText( target, key, args );
+        }   //  appendText()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final StringBuilder appendText( final StringBuilder target, final String key, final Object... args )
+        {
+            return current().appendText( target, key, args );
+        }   //  appendText()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean containsKey( final String key ) { return current().containsKey( key ); }
+
+        /**
+         *  Returns the most recent catalog for the requested locale. This is
+         *  the catalog for the first candidate locale that has texts, or an
+         *  empty catalog if there is none.
+         *
+         *  @return The catalog.
+         */
+        private final TextCatalog current()
+        {
+            final var catalogs = m_Catalogs;
+            var binding = m_Binding;
+            if( (binding == null) || (binding.catalogs() != catalogs) )
+            {
+                TextCatalog catalog = m_EmptyCatalog;
+                SearchLoop: for( final var candidate : m_Candidates )
+                {
+                    final var found = catalogs.get( candidate );
+                    if( found != null )
+                    {
+                        catalog = found;
+                        break SearchLoop;
+                    }
+                }   //  SearchLoop:
+                binding = new Binding( catalogs, catalog );
+                m_Binding = binding;
+            }
+            final var retValue = binding.catalog();
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  current()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Locale getLocale() { return current().getLocale(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Optional<String> getPattern( final String key ) { return current().getPattern( key ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final Set<String> keySet() { return current().keySet(); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String retrieveMessage( final String messagePrefix, final int id, final boolean addKey, final Object... args )
+        {
+            return current().retrieveMessage( messagePrefix, id, addKey, args );
+        }   //  retrieveMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String retrieveMessage( final String messagePrefix, final String id, final boolean addKey, final Object... args )
+        {
+            return current().retrieveMessage( messagePrefix, id, addKey, args );
+        }   //  retrieveMessage()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String retrieveText( final String key, final Object... args ) { return current().retrieveText( key, args ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final <E extends Enum<?>> String retrieveText( final E value ) { return current().retrieveText( value ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final int size() { return current().size(); }
+    }
+    //  class View
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The time in milliseconds the watcher waits for further changes,
+     *  before the catalogs will be rebuilt: {@value}. Editors often write a
+     *  file in several steps, and this avoids rebuilding the catalogs for
+     *  each of them.
+     */
+    public static final long DEBOUNCE_DELAY = 100L;
+
+    /**
+     *  The maximum number of views that are kept: {@value}.
+     */
+    public static final int MAX_VIEWS = 1024;
+
+    /**
+     *  The extension for the properties files: {@value}.
+     */
+    public static final String PROPERTIES_FILE_EXTENSION = ".properties";
+
+    /**
+     *  The time in milliseconds after which the watcher tries again to read
+     *  the files that could not be read before: {@value}.
+     */
+    public static final long RETRY_DELAY = 1_000L;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The additional texts, by locale. Only accessed while holding the
+     *  lock.
+     */
+    private Map<Locale,Map<String,String>> m_AdditionalTexts = Map.of();
+
+    /**
+     *  The base name for the properties files.
+     */
+    private final String m_BaseName;
+
+    /**
+     *  The catalogs, by locale; the map is immutable and will be replaced
+     *  as a whole on each reload.
+     */
+    private volatile Map<Locale,FlatTextCatalog> m_Catalogs = Map.of();
+
+    /**
+     *  The number of reloads that failed.
+     */
+    private final AtomicLong m_FailureCount = new AtomicLong();
+
+    /**
+     *  The folder with the source files.
+     */
+    private final Path m_Folder;
+
+    /**
+     *  The last failure, or {@code null}.
+     */
+    private volatile Exception m_LastFailure;
+
+    /**
+     *  The lock that serialises the reloads.
+     */
+    private final ReentrantLock m_Lock = new ReentrantLock();
+
+    /**
+     *  The number of reloads that published changed catalogs.
+     */
+    private final AtomicLong m_ReloadCount = new AtomicLong();
+
+    /**
+     *  The texts from the properties files, by locale. Only accessed while
+     *  holding the lock.
+     */
+    private final Map<Locale,Map<String,String>> m_Sources = new HashMap<>();
+
+    /**
+     *  The views, by the requested locale.
+     */
+    private final Map<Locale,View> m_Views = new ConcurrentHashMap<>();
+
+    /**
+     *  The watch service, or {@code null} if the folder is not watched.
+     */
+    private volatile WatchService m_WatchService;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The control that determines the candidate locales.
+     */
+    private static final ResourceBundle.Control m_Control = ResourceBundle.Control.getControl( FORMAT_DEFAULT );
+
+    /**
+     *  The catalog that is used when no texts are available for a locale.
+     */
+    private static final FlatTextCatalog m_EmptyCatalog = new FlatTextCatalog( Locale.ROOT, Map.of() );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ReloadableCatalog} instance.
+     *
+     *  @param  folder  The folder with the source files.
+     *  @param  baseName    The base name for the properties files.
+     */
+    private ReloadableCatalog( final Path folder, final String baseName )
+    {
+        m_Folder = requireNonNullArgument( folder, "folder" );
+        m_BaseName = requireNotEmptyArgument( baseName, "baseName" );
+    }   //  ReloadableCatalog()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Rebuilds the catalogs that depend on any of the given locales, and
+     *  publishes the new catalogs. Must be called while holding the lock.
+     *
+     *  @param  changes The keys of the changed texts, by the locale of the
+     *      source file.
+     */
+    private final void applyChanges( final Map<Locale,Set<String>> changes )
+    {
+        final var sourceLocales = new HashSet<Locale>( m_Sources.keySet() );
+        sourceLocales.addAll( m_AdditionalTexts.keySet() );
+        sourceLocales.addAll( m_Catalogs.keySet() );
+
+        final var catalogs = new HashMap<>( m_Catalogs );
+        for( final var locale : sourceLocales )
+        {
+            final var candidates = m_Control.getCandidateLocales( "", locale );
+            if( candidates.stream().anyMatch( changes::containsKey ) )
+            {
+                if( m_Sources.containsKey( locale ) || m_AdditionalTexts.containsKey( locale ) )
+                {
+                    final var previous = catalogs.get( locale );
+                    if( previous == null )
+                    {
+                        catalogs.put( locale, buildCatalog( locale, candidates ) );
+                    }
+                    else
+                    {
+                        final Set<String> keys = new HashSet<>();
+                        for( final var candidate : candidates ) keys.addAll( changes.getOrDefault( candidate, Set.of() ) );
+                        catalogs.put( locale, updateCatalog( previous, candidates, keys ) );
+                    }
+                }
+                else
+                {
+                    catalogs.remove( locale );
+                }
+            }
+        }
+
+        //---* Publish the new catalogs *--------------------------------------
+        m_Catalogs = Map.copyOf( catalogs );
+        m_ReloadCount.incrementAndGet();
+    }   //  applyChanges()
+
+    /**
+     *  Builds the catalog for the given locale.
+     *
+     *  @param  locale  The locale.
+     *  @param  candidates  The candidate locales for the given locale, in
+     *      the order of their precedence.
+     *  @return The catalog.
+     */
+    private final FlatTextCatalog buildCatalog( final Locale locale, final List<Locale> candidates )
+    {
+        final var entries = new HashMap<String,TextTemplate>();
+        for( final var candidate : candidates )
+        {
+            for( final var texts : List.of( m_Sources.getOrDefault( candidate, Map.of() ), m_AdditionalTexts.getOrDefault( candidate, Map.of() ) ) )
+            {
+                for( final var entry : texts.entrySet() )
+                {
+                    if( !entries.containsKey( entry.getKey() ) ) entries.put( entry.getKey(), TextTemplate.compile( entry.getValue() ) );
+                }
+            }
+        }
+        final var retValue = new FlatTextCatalog( locale, entries );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  buildCatalog()
+
+    /**
+     *  Stops watching the folder. The catalogs remain usable, with the texts
+     *  they had when this method was called.
+     *
+     *  @throws IOException The watch service could not be closed.
+     */
+    @Override
+    public final void close() throws IOException
+    {
+        final var watchService = m_WatchService;
+        m_WatchService = null;
+        if( watchService != null ) watchService.close();
+    }   //  close()
+
+    /**
+     *  Closes the given watch service, ignoring any error.
+     *
+     *  @param  watchService    The watch service.
+     */
+    private static final void closeWatchService( final WatchService watchService )
+    {
+        try
+        {
+            watchService.close();
+        }
+        catch( final IOException ignored )
+        {
+            /*
+             * The watch service is not used any longer, so there is nothing
+             * that could be done about the error.
+             */
+        }
+    }   //  closeWatchService()
+
+    /**
+     *  Composes the name for the properties file for the given locale, like
+     *  {@code Texts_de.properties}.
+     *
+     *  @param  baseName    The base name for the properties files.
+     *  @param  locale  The locale.
+     *  @return The file name.
+     */
+    public static final String composeFileName( final String baseName, final Locale locale )
+    {
+        requireNotEmptyArgument( baseName, "baseName" );
+        requireNonNullArgument( locale, "locale" );
+
+        final var retValue = Locale.ROOT.equals( locale )
+            ? baseName + PROPERTIES_FILE_EXTENSION
+            : baseName + '_' + locale.toLanguageTag().replace( '-', '_' ) + PROPERTIES_FILE_EXTENSION;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  composeFileName()
+
+    /**
+     *  Determines the keys of the texts that differ between the given
+     *  versions of a source.
+     *
+     *  @param  oldTexts    The texts that were loaded before.
+     *  @param  newTexts    The texts that were loaded now.
+     *  @return The keys of the texts that were added, modified or removed.
+     */
+    private static final Set<String> diff( final Map<String,String> oldTexts, final Map<String,String> newTexts )
+    {
+        final Set<String> retValue = new HashSet<>();
+        for( final var entry : newTexts.entrySet() )
+        {
+            if( !entry.getValue().equals( oldTexts.get( entry.getKey() ) ) ) retValue.add( entry.getKey() );
+        }
+        for( final var key : oldTexts.keySet() )
+        {
+            if( !newTexts.containsKey( key ) ) retValue.add( key );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  diff()
+
+    /**
+     *  Finds the text with the given key for the given candidate locales.
+     *
+     *  @param  candidates  The candidate locales, in the order of their
+     *      precedence.
+     *  @param  key The key.
+     *  @return The text, or {@code null} if there is none.
+     */
+    private final String findText( final List<Locale> candidates, final String key )
+    {
+        String retValue = null;
+        SearchLoop: for( final var candidate : candidates )
+        {
+            retValue = m_Sources.getOrDefault( candidate, Map.of() ).get( key );
+            if( retValue == null ) retValue = m_AdditionalTexts.getOrDefault( candidate, Map.of() ).get( key );
+            if( retValue != null ) break SearchLoop;
+        }   //  SearchLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findText()
+
+    /**
+     *  Returns the base name for the properties files.
+     *
+     *  @return The base name.
+     */
+    public final String getBaseName() { return m_BaseName; }
+
+    /**
+     *  <p>{@summary Returns the catalog for the given locale.}</p>
+     *  <p>The returned catalog is a live view: it always uses the texts for
+     *  the first locale from the candidate chain of the given locale that
+     *  currently has texts. Retrieving a text costs one additional volatile
+     *  read, compared to a plain catalog.</p>
+     *
+     *  @param  locale  The locale.
+     *  @return The catalog.
+     */
+    public final TextCatalog getCatalog( final Locale locale )
+    {
+        requireNonNullArgument( locale, "locale" );
+
+        var retValue = m_Views.get( locale );
+        if( retValue == null )
+        {
+            if( m_Views.size() >= MAX_VIEWS ) m_Views.clear();
+            retValue = m_Views.computeIfAbsent( locale, View::new );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getCatalog()
+
+    /**
+     *  Returns the number of reloads that failed.
+     *
+     *  @return The number of failures.
+     */
+    public final long getFailureCount() { return m_FailureCount.get(); }
+
+    /**
+     *  Returns the folder with the source files.
+     *
+     *  @return The folder.
+     */
+    public final Path getFolder() { return m_Folder; }
+
+    /**
+     *  Returns the exception that caused the last failed reload.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the exception; it is empty if no reload has failed yet.
+     */
+    public final Optional<Exception> getLastFailure() { return Optional.ofNullable( m_LastFailure ); }
+
+    /**
+     *  Returns the locales for which texts are currently available.
+     *
+     *  @return The locales.
+     */
+    public final Set<Locale> getLocales() { return m_Catalogs.keySet(); }
+
+    /**
+     *  Returns how often changed catalogs were published, including the
+     *  initial load. A reload that finds no changed text does not count.
+     *
+     *  @return The number of reloads.
+     */
+    public final long getReloadCount() { return m_ReloadCount.get(); }
+
+    /**
+     *  Checks whether the folder is watched for changes.
+     *
+     *  @return {@code true} if the folder is watched, {@code false} if not.
+     */
+    public final boolean isWatching() { return m_WatchService != null; }
+
+    /**
+     *  Returns the names of all source files, including those for the
+     *  locales that are loaded currently, but whose files may have been
+     *  deleted.
+     *
+     *  @return The file names.
+     *  @throws IOException The folder cannot be read.
+     */
+    private final Set<Path> listSourceFiles() throws IOException
+    {
+        final Set<Path> retValue = new HashSet<>();
+        retValue.add( Path.of( ADDITIONAL_TEXT_FILE ) );
+        try( final var files = Files.list( m_Folder ) )
+        {
+            for( final var file : (Iterable<Path>) files::iterator )
+            {
+                if( parseLocale( file.getFileName().toString() ) != null ) retValue.add( file.getFileName() );
+            }
+        }
+        m_Lock.lock();
+        try
+        {
+            for( final var locale : m_Sources.keySet() ) retValue.add( Path.of( composeFileName( m_BaseName, locale ) ) );
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  listSourceFiles()
+
+    /**
+     *  Loads the additional texts.
+     *
+     *  @return The additional texts, by locale; the map is empty if the
+     *      file {@value I18nUtil#ADDITIONAL_TEXT_FILE} does not exist.
+     *  @throws IOException The file cannot be read or parsed.
+     */
+    private final Map<Locale,Map<String,String>> loadAdditionalTexts() throws IOException
+    {
+        Map<Locale,Map<String,String>> retValue = Map.of();
+        try( final var inputStream = Files.newInputStream( m_Folder.resolve( ADDITIONAL_TEXT_FILE ) ) )
+        {
+            retValue = AdditionalTextsReader.read( inputStream );
+        }
+        catch( final NoSuchFileException ignored )
+        {
+            /*
+             * The additional texts are optional.
+             */
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  loadAdditionalTexts()
+
+    /**
+     *  Loads the properties file with the given name.
+     *
+     *  @param  fileName    The name of the file.
+     *  @return The texts, or {@code null} if the file does not exist.
+     *  @throws IOException The file cannot be read.
+     */
+    private final Map<String,String> loadProperties( final Path fileName ) throws IOException
+    {
+        Map<String,String> retValue = null;
+        final var properties = new Properties();
+        try( final var inputStream = Files.newInputStream( m_Folder.resolve( fileName ) ) )
+        {
+            properties.load( inputStream );
+            retValue = new HashMap<>();
+            for( final var key : properties.stringPropertyNames() ) retValue.put( key, properties.getProperty( key ) );
+        }
+        catch( final NoSuchFileException ignored )
+        {
+            /*
+             * The file was deleted; this is not an error, the texts for the
+             * locale are just gone.
+             */
+        }
+        catch( final IllegalArgumentException e )
+        {
+            throw new IOException( "Cannot parse '%s'".formatted( fileName ), e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  loadProperties()
+
+    /**
+     *  Creates the catalogs from the source files in the given folder; the
+     *  folder is not watched.
+     *
+     *  @param  folder  The folder with the source files.
+     *  @param  baseName    The base name for the properties files.
+     *  @return The catalogs.
+     *  @throws IOException The source files cannot be read.
+     */
+    public static final ReloadableCatalog open( final Path folder, final String baseName ) throws IOException
+    {
+        final var retValue = new ReloadableCatalog( folder, baseName );
+        retValue.reload();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  open()
+
+    /**
+     *  Determines the locale from the name of a properties file.
+     *
+     *  @param  fileName    The file name.
+     *  @return The locale, or {@code null} if the file is not a properties
+     *      file for the base name of this instance.
+     */
+    private final Locale parseLocale( final String fileName )
+    {
+        Locale retValue = null;
+        if( fileName.startsWith( m_BaseName ) && fileName.endsWith( PROPERTIES_FILE_EXTENSION ) )
+        {
+            final var suffix = fileName.substring( m_BaseName.length(), fileName.length() - PROPERTIES_FILE_EXTENSION.length() );
+            if( suffix.isEmpty() )
+            {
+                retValue = Locale.ROOT;
+            }
+            else if( (suffix.length() > 1) && (suffix.charAt( 0 ) == '_') )
+            {
+                final var locale = Locale.forLanguageTag( suffix.substring( 1 ).replace( '_', '-' ) );
+                if( !Locale.ROOT.equals( locale ) ) retValue = locale;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parseLocale()
+
+    /**
+     *  Records the differences between the given versions of the texts for
+     *  the given locales.
+     *
+     *  @param  changes The keys of the changed texts, by locale.
+     *  @param  locales The locales to compare.
+     *  @param  oldTexts    The texts that were loaded before, by locale.
+     *  @param  newTexts    The texts that were loaded now, by locale.
+     */
+    private static final void recordChanges( final Map<Locale,Set<String>> changes, final Set<Locale> locales, final Map<Locale,Map<String,String>> oldTexts, final Map<Locale,Map<String,String>> newTexts )
+    {
+        for( final var locale : locales )
+        {
+            final var oldVersion = oldTexts.get( locale );
+            final var newVersion = newTexts.get( locale );
+            final var keys = diff( oldVersion == null ? Map.of() : oldVersion, newVersion == null ? Map.of() : newVersion );
+            if( !keys.isEmpty() || ((oldVersion == null) != (newVersion == null)) )
+            {
+                changes.computeIfAbsent( locale, l -> new HashSet<>() ).addAll( keys );
+            }
+        }
+    }   //  recordChanges()
+
+    /**
+     *  Records a failed reload.
+     *
+     *  @param  failure The exception that caused the failure.
+     */
+    private final void recordFailure( final Exception failure )
+    {
+        m_LastFailure = failure;
+        m_FailureCount.incrementAndGet();
+    }   //  recordFailure()
+
+    /**
+     *  <p>{@summary Reads all source files again and rebuilds all
+     *  catalogs.}</p>
+     *  <p>Only the texts that differ from those loaded before are compiled
+     *  again. If a file cannot be read or parsed, the current catalogs
+     *  remain in effect.</p>
+     *
+     *  @throws IOException The source files cannot be read.
+     */
+    public final void reload() throws IOException
+    {
+        m_Lock.lock();
+        try
+        {
+            final Map<Locale,Map<String,String>> sources = new HashMap<>();
+            try( final var files = Files.list( m_Folder ) )
+            {
+                for( final var file : (Iterable<Path>) files::iterator )
+                {
+                    final var locale = parseLocale( file.getFileName().toString() );
+                    if( locale != null )
+                    {
+                        final var texts = loadProperties( file.getFileName() );
+                        if( texts != null ) sources.put( locale, texts );
+                    }
+                }
+            }
+            final var additionalTexts = loadAdditionalTexts();
+
+            final Map<Locale,Set<String>> changes = new HashMap<>();
+            final var locales = new HashSet<Locale>( sources.keySet() );
+            locales.addAll( m_Sources.keySet() );
+            recordChanges( changes, locales, m_Sources, sources );
+            locales.clear();
+            locales.addAll( additionalTexts.keySet() );
+            locales.addAll( m_AdditionalTexts.keySet() );
+            recordChanges( changes, locales, m_AdditionalTexts, additionalTexts );
+
+            m_Sources.clear();
+            m_Sources.putAll( sources );
+            m_AdditionalTexts = additionalTexts;
+            if( !changes.isEmpty() ) applyChanges( changes );
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+    }   //  reload()
+
+    /**
+     *  Reads the given source files again and rebuilds the catalogs that
+     *  depend on them. A file that cannot be read or parsed is recorded as
+     *  a failure and skipped; the changes from all other files are
+     *  applied.
+     *
+     *  @param  fileNames   The names of the files that have changed.
+     *  @return The names of the files that could not be read.
+     */
+    private final Set<Path> reload( final Set<Path> fileNames )
+    {
+        final Set<Path> retValue = new HashSet<>();
+        m_Lock.lock();
+        try
+        {
+            final Map<Locale,Map<String,String>> sources = new HashMap<>();
+            final Set<Locale> removed = new HashSet<>();
+            Map<Locale,Map<String,String>> additionalTexts = null;
+            for( final var fileName : fileNames )
+            {
+                try
+                {
+                    if( ADDITIONAL_TEXT_FILE.equals( fileName.toString() ) )
+                    {
+                        additionalTexts = loadAdditionalTexts();
+                    }
+                    else
+                    {
+                        final var locale = parseLocale( fileName.toString() );
+                        if( locale != null )
+                        {
+                            final var texts = loadProperties( fileName );
+                            if( texts == null )
+                            {
+                                removed.add( locale );
+                            }
+                            else
+                            {
+                                sources.put( locale, texts );
+                            }
+                        }
+                    }
+                }
+                catch( final IOException e )
+                {
+                    recordFailure( e );
+                    retValue.add( fileName );
+                }
+            }
+
+            //---* Apply the changes from the files that could be read *-------
+            final Map<Locale,Set<String>> changes = new HashMap<>();
+            final var locales = new HashSet<Locale>( sources.keySet() );
+            locales.addAll( removed );
+            recordChanges( changes, locales, m_Sources, sources );
+            m_Sources.putAll( sources );
+            m_Sources.keySet().removeAll( removed );
+            if( additionalTexts != null )
+            {
+                locales.clear();
+                locales.addAll( additionalTexts.keySet() );
+                locales.addAll( m_AdditionalTexts.keySet() );
+                recordChanges( changes, locales, m_AdditionalTexts, additionalTexts );
+                m_AdditionalTexts = additionalTexts;
+            }
+            if( !changes.isEmpty() ) applyChanges( changes );
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  reload()
+
+    /**
+     *  The loop for the thread that watches the folder.
+     *
+     *  @param  watchService    The watch service.
+     */
+    private final void runWatcher( final WatchService watchService )
+    {
+        try
+        {
+            Set<Path> pending = Set.of();
+            WatchLoop: while( true )
+            {
+                /*
+                 * Files that could not be read last time are retried after
+                 * a delay, even without a new event for them.
+                 */
+                var key = pending.isEmpty() ? watchService.take() : watchService.poll( RETRY_DELAY, MILLISECONDS );
+                final Set<Path> fileNames = new HashSet<>( pending );
+                var overflow = false;
+                while( key != null )
+                {
+                    for( final var event : key.pollEvents() )
+                    {
+                        if( event.kind() == OVERFLOW )
+                        {
+                            overflow = true;
+                        }
+                        else if( event.context() instanceof final Path fileName )
+                        {
+                            fileNames.add( fileName );
+                        }
+                    }
+                    if( !key.reset() )
+                    {
+                        recordFailure( new IOException( "The folder '%s' can no longer be watched".formatted( m_Folder ) ) );
+                        m_WatchService = null;
+                        closeWatchService( watchService );
+                        break WatchLoop;
+                    }
+
+                    //---* Wait for further changes *--------------------------
+                    key = watchService.poll( DEBOUNCE_DELAY, MILLISECONDS );
+                }
+
+                try
+                {
+                    if( overflow ) fileNames.addAll( listSourceFiles() );
+                    pending = reload( fileNames );
+                }
+                catch( final IOException | RuntimeException e )
+                {
+                    recordFailure( e );
+                    pending = fileNames;
+                }
+            }   //  WatchLoop:
+        }
+        catch( final ClosedWatchServiceException | InterruptedException ignored )
+        {
+            /*
+             * The catalogs were closed; the thread terminates.
+             */
+        }
+    }   //  runWatcher()
+
+    /**
+     *  Updates the given catalog with the current texts for the given keys.
+     *  Templates are compiled only for the texts that have changed; all
+     *  other entries are shared with the given catalog.
+     *
+     *  @param  previous    The catalog to update.
+     *  @param  candidates  The candidate locales for the locale of the
+     *      catalog, in the order of their precedence.
+     *  @param  keys    The keys of the texts that may have changed.
+     *  @return The updated catalog.
+     */
+    private final FlatTextCatalog updateCatalog( final FlatTextCatalog previous, final List<Locale> candidates, final Set<String> keys )
+    {
+        final Map<String,TextTemplate> changedEntries = new HashMap<>();
+        final Set<String> removedKeys = new HashSet<>();
+        for( final var key : keys )
+        {
+            final var text = findText( candidates, key );
+            if( text == null )
+            {
+                removedKeys.add( key );
+            }
+            else
+            {
+                final var template = previous.getTemplate( key );
+                if( (template == null) || !template.getPattern().equals( text ) ) changedEntries.put( key, TextTemplate.compile( text ) );
+            }
+        }
+        final var retValue = previous.update( changedEntries, removedKeys );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  updateCatalog()
+
+    /**
+     *  <p>{@summary Creates the catalogs from the source files in the given
+     *  folder, and watches the folder for changes.}</p>
+     *  <p>A daemon thread rebuilds the catalogs when a source file was
+     *  created, modified or deleted;
+     *  {@link #close()}
+     *  stops it.</p>
+     *
+     *  @param  folder  The folder with the source files.
+     *  @param  baseName    The base name for the properties files.
+     *  @return The catalogs.
+     *  @throws IOException The source files cannot be read, or the folder
+     *      cannot be watched.
+     */
+    public static final ReloadableCatalog watch( final Path folder, final String baseName ) throws IOException
+    {
+        final var retValue = new ReloadableCatalog( folder, baseName );
+        final var watchService = folder.getFileSystem().newWatchService();
+        try
+        {
+            folder.register( watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE );
+            retValue.reload();
+        }
+        catch( final IOException | RuntimeException e )
+        {
+            watchService.close();
+            throw e;
+        }
+        retValue.m_WatchService = watchService;
+        Thread.ofPlatform()
+            .daemon()
+            .name( "ReloadableCatalog-%s".formatted( baseName ) )
+            .start( () -> retValue.runWatcher( watchService ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  watch()
+}
+//  class ReloadableCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
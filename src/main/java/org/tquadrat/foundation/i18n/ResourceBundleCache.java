@@ -0,0 +1,325 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.BundleRegistry;
+import org.tquadrat.foundation.i18n.internal.TinyLfuCache;
+
+/**
+ *  <p>{@summary A bounded cache for resource bundles.}</p>
+ *  <p>Other than
+ *  {@link I18nUtil#loadResourceBundle(String)},
+ *  that keeps each bundle that was ever loaded, this cache holds bundles
+ *  only up to a configurable maximum weight. The weight of a bundle is
+ *  {@linkplain #estimateWeight(ResourceBundle) estimated}
+ *  from the number of its entries and the length of its keys and
+ *  {@code String} values, roughly in bytes.</p>
+ *  <p>When the maximum weight is exceeded, the cache evicts bundles
+ *  according to the W-TinyLFU policy: a new bundle is admitted only if it
+ *  was requested more frequently than the bundle it would replace, so that
+ *  a burst of requests for rarely used locales does not flush the bundles
+ *  for the common ones. The texts that were compiled for an evicted bundle
+ *  are not discarded explicitly, as other callers may still use that bundle;
+ *  they become unreachable together with the bundle itself.</p>
+ *  <p>The lookup of a cached bundle does not acquire a lock. The result of
+ *  a failed load is cached, too, so that a request for a missing bundle
+ *  does not probe the class path again and again.</p>
+ *  <p>The bundles are loaded with
+ *  {@link ResourceBundle#getBundle(String, Locale)},
+ *  so the cache of
+ *  {@link ResourceBundle}
+ *  itself is still used underneath; as that holds the bundles only through
+ *  soft references, the memory for an evicted bundle can be reclaimed.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class ResourceBundleCache
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The key for a cached bundle.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the bundle; {@code null} if
+     *      the bundle is loaded without an explicit module.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Key( String baseBundleName, Locale locale, Module module ) {}
+
+    /**
+     *  A snapshot of the statistics for a
+     *  {@link ResourceBundleCache}.
+     *
+     *  @param  hitCount    The number of requests that were served from the
+     *      cache.
+     *  @param  missCount   The number of requests that caused a load.
+     *  @param  evictionCount   The number of bundles that were evicted.
+     *  @param  entryCount  The number of bundles currently in the cache,
+     *      including the cached misses.
+     *  @param  weightedSize    The current total weight of the cached
+     *      bundles.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $" )
+    @API( status = STABLE, since = "0.26.0" )
+    public record Statistics( long hitCount, long missCount, long evictionCount, int entryCount, long weightedSize )
+    {
+        /**
+         *  Returns the ratio of the requests that were served from the cache.
+         *
+         *  @return The hit rate, from 0.0 to 1.0; 1.0 if there were no
+         *      requests yet.
+         */
+        public final double hitRate()
+        {
+            final var requests = hitCount + missCount;
+            final var retValue = requests == 0 ? 1.0 : (double) hitCount / requests;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  hitRate()
+    }
+    //  record Statistics
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The estimated weight of a single bundle entry, without its key and its
+     *  value: {@value}.
+     */
+    public static final int ENTRY_WEIGHT = 32;
+
+    /**
+     *  The estimated weight of a value that is not a {@code String}:
+     *  {@value}.
+     */
+    private static final int OBJECT_WEIGHT = 16;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The cache.
+     */
+    private final TinyLfuCache<Key,Optional<ResourceBundle>> m_Cache;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ResourceBundleCache} instance.
+     *
+     *  @param  maximumWeight   The maximum total weight of the cached
+     *      bundles, roughly in bytes; must be greater than 0.
+     */
+    public ResourceBundleCache( final long maximumWeight )
+    {
+        m_Cache = new TinyLfuCache<>( maximumWeight, ResourceBundleCache::weigh, null );
+    }   //  ResourceBundleCache()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Estimates the weight of the given resource bundle, including the
+     *  entries that it inherits from its parents. Each entry weighs
+     *  {@value #ENTRY_WEIGHT},
+     *  plus two for each character of its key and, if the value is a
+     *  {@code String}, two for each character of its value.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The estimated weight.
+     */
+    public static final long estimateWeight( final ResourceBundle bundle )
+    {
+        requireNonNullArgument( bundle, "bundle" );
+
+        var retValue = 0L;
+        for( final var key : bundle.keySet() )
+        {
+            final var value = bundle.getObject( key );
+            retValue += ENTRY_WEIGHT + 2L * key.length() + (value instanceof final String string ? 2L * string.length() : OBJECT_WEIGHT);
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  estimateWeight()
+
+    /**
+     *  <p>{@summary Returns the resource bundle with the given base bundle
+     *  name for the given locale.} If the bundle is not yet in the cache, it
+     *  will be loaded.</p>
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    public final Optional<ResourceBundle> getBundle( final String baseBundleName, final Locale locale )
+    {
+        final var key = new Key( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), requireNonNullArgument( locale, "locale" ), null );
+        final var retValue = m_Cache.get( key, ResourceBundleCache::load );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBundle()
+
+    /**
+     *  <p>{@summary Returns the resource bundle with the given base bundle
+     *  name for the given locale from the given module.} If the bundle is not
+     *  yet in the cache, it will be loaded.</p>
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the resource bundle.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    public final Optional<ResourceBundle> getBundle( final String baseBundleName, final Locale locale, final Module module )
+    {
+        final var key = new Key( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), requireNonNullArgument( locale, "locale" ), requireNonNullArgument( module, "module" ) );
+        final var retValue = m_Cache.get( key, ResourceBundleCache::load );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBundle()
+
+    /**
+     *  Returns the maximum total weight of the cached bundles.
+     *
+     *  @return The maximum weight.
+     */
+    public final long getMaximumWeight() { return m_Cache.getMaximumWeight(); }
+
+    /**
+     *  Returns a snapshot of the statistics for this cache.
+     *
+     *  @return The statistics.
+     */
+    public final Statistics getStatistics()
+    {
+        final var retValue = new Statistics( m_Cache.getHitCount(), m_Cache.getMissCount(), m_Cache.getEvictionCount(), m_Cache.size(), m_Cache.getWeightedSize() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getStatistics()
+
+    /**
+     *  Removes the resource bundle with the given base bundle name for the
+     *  given locale from the cache; the next request for it will load it
+     *  again.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     */
+    public final void invalidate( final String baseBundleName, final Locale locale )
+    {
+        m_Cache.invalidate( new Key( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), requireNonNullArgument( locale, "locale" ), null ) );
+    }   //  invalidate()
+
+    /**
+     *  Removes the resource bundle with the given base bundle name for the
+     *  given locale from the given module from the cache; the next request
+     *  for it will load it again.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the resource bundle.
+     */
+    public final void invalidate( final String baseBundleName, final Locale locale, final Module module )
+    {
+        m_Cache.invalidate( new Key( requireNotEmptyArgument( baseBundleName, "baseBundleName" ), requireNonNullArgument( locale, "locale" ), requireNonNullArgument( module, "module" ) ) );
+    }   //  invalidate()
+
+    /**
+     *  Removes all resource bundles from the cache.
+     */
+    public final void invalidateAll() { m_Cache.invalidateAll(); }
+
+    /**
+     *  Loads the resource bundle for the given key.
+     *
+     *  @param  key The key.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    private static final Optional<ResourceBundle> load( final Key key )
+    {
+        final var retValue = BundleRegistry.load( key.baseBundleName(), key.locale(), key.module() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  load()
+
+    /**
+     *  Returns the weight for a cached bundle.
+     *
+     *  @param  bundle  The bundle.
+     *  @return The weight.
+     */
+    @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+    private static final int weigh( final Optional<ResourceBundle> bundle )
+    {
+        final var retValue = (int) Math.min( Integer.MAX_VALUE, bundle.map( ResourceBundleCache::estimateWeight ).orElse( (long) ENTRY_WEIGHT ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  weigh()
+}
+//  class ResourceBundleCache
+
+/*
+ *  End of File
+ */
\ No newline at end of file
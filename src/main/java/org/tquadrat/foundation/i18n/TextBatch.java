@@ -0,0 +1,316 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.BundleTexts;
+
+/**
+ *  <p>{@summary A fixed list of text keys that are retrieved together}, for
+ *  example all the labels, captions and tool tips for a form.</p>
+ *  <p>The keys are validated and composed once, when the batch is created;
+ *  rendering the batch looks up the compiled texts for the resource bundle
+ *  only once, and then fills a preallocated array (or a map) in a single
+ *  pass. As the texts are retrieved without arguments, the result for a
+ *  resource bundle does not change; the texts for the bundle that was used
+ *  last are kept, so that rendering the batch again for that bundle is
+ *  just an array copy.</p>
+ *  <p>For each key, the result is the same as for</p>
+ *  <pre><code>I18nUtil.retrieveText( bundle, key )</code></pre>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TextBatch.java 1293 2026-10-18 13:41:08Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: TextBatch.java 1293 2026-10-18 13:41:08Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public final class TextBatch
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The texts of the batch for a resource bundle.
+     *
+     *  @param  texts   The compiled texts of the resource bundle.
+     *  @param  values  The texts for the keys of the batch, in the same order.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TextBatch.java 1293 2026-10-18 13:41:08Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TextBatch.java 1293 2026-10-18 13:41:08Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Rendition( BundleTexts texts, String [] values ) {}
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The keys.
+     */
+    private final String [] m_Keys;
+
+    /**
+     *  The texts for the resource bundle that was used last.
+     */
+    private volatile Rendition m_LastRendition;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TextBatch} instance.
+     *
+     *  @param  keys    The keys; the array is not copied.
+     */
+    private TextBatch( final String [] keys )
+    {
+        m_Keys = keys;
+    }   //  TextBatch()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether the given target array is large enough for the texts
+     *  of this batch.
+     *
+     *  @param  target  The target array.
+     *  @return The target array.
+     *  @throws IllegalArgumentException    The target array is too small.
+     */
+    private final String [] checkTarget( final String [] target ) throws IllegalArgumentException
+    {
+        if( requireNonNullArgument( target, "target" ).length < m_Keys.length )
+        {
+            throw new IllegalArgumentException( "Invalid target length: %d".formatted( target.length ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  checkTarget()
+
+    /**
+     *  Returns the keys of this batch.
+     *
+     *  @return The keys, in the order of the rendered texts.
+     */
+    public final List<String> getKeys() { return List.of( m_Keys ); }
+
+    /**
+     *  Creates a batch for the given keys.
+     *
+     *  @param  keys    The resource bundle keys.
+     *  @return The new batch.
+     */
+    public static final TextBatch of( final Collection<String> keys )
+    {
+        final var retValue = of( requireNonNullArgument( keys, "keys" ).toArray( String []::new ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Creates a batch for the given keys.
+     *
+     *  @param  keys    The resource bundle keys.
+     *  @return The new batch.
+     */
+    public static final TextBatch of( final String... keys )
+    {
+        final var copy = requireNonNullArgument( keys, "keys" ).clone();
+        for( final var key : copy ) requireNotEmptyArgument( key, "key" );
+        final var retValue = new TextBatch( copy );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Creates a batch for the texts with the given ids and the same use
+     *  that are defined by the given class.
+     *
+     *  @param  sourceClass The class where the texts were defined.
+     *  @param  use The text use.
+     *  @param  ids The ids for the texts, as from
+     *      {@link org.tquadrat.foundation.i18n.Text#id() &#64;Text.id}.
+     *  @return The new batch.
+     *
+     *  @see ClassTexts#composeTextKey(TextUse, String)
+     */
+    public static final TextBatch of( final Class<?> sourceClass, final TextUse use, final String... ids )
+    {
+        final var texts = ClassTexts.of( sourceClass );
+        final var keys = new String [requireNonNullArgument( ids, "ids" ).length];
+        for( var i = 0; i < keys.length; ++i ) keys [i] = texts.composeTextKey( use, ids [i] );
+        final var retValue = new TextBatch( keys );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Retrieves the texts for the keys of this batch from the given
+     *  resource bundle.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The texts, in the order of the keys.
+     */
+    public final String [] render( final ResourceBundle bundle )
+    {
+        final var retValue = render( bundle, new String [m_Keys.length] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Retrieves the texts for the keys of this batch from the given
+     *  resource bundle into the given array.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @param  target  The array that takes the texts, in the order of the
+     *      keys; it must have at least
+     *      {@link #size()}
+     *      elements.
+     *  @return The target array.
+     *  @throws IllegalArgumentException    The target array is too small.
+     */
+    public final String [] render( final ResourceBundle bundle, final String [] target ) throws IllegalArgumentException
+    {
+        final var values = rendition( BundleTexts.of( requireNonNullArgument( bundle, "bundle" ) ) );
+        final var retValue = checkTarget( target );
+        System.arraycopy( values, 0, retValue, 0, values.length );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Retrieves the texts for the keys of this batch from the given
+     *  catalog.
+     *
+     *  @param  catalog The catalog.
+     *  @return The texts, in the order of the keys.
+     */
+    public final String [] render( final TextCatalog catalog )
+    {
+        final var retValue = render( catalog, new String [m_Keys.length] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Retrieves the texts for the keys of this batch from the given
+     *  catalog into the given array.
+     *
+     *  @param  catalog The catalog.
+     *  @param  target  The array that takes the texts, in the order of the
+     *      keys; it must have at least
+     *      {@link #size()}
+     *      elements.
+     *  @return The target array.
+     *  @throws IllegalArgumentException    The target array is too small.
+     */
+    public final String [] render( final TextCatalog catalog, final String [] target ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( catalog, "catalog" );
+        final var retValue = checkTarget( target );
+        for( var i = 0; i < m_Keys.length; ++i ) retValue [i] = catalog.retrieveText( m_Keys [i] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Retrieves the texts for the keys of this batch from the given
+     *  resource bundle into a map.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The texts, by key; the iteration order is that of the keys.
+     */
+    public final Map<String,String> renderToMap( final ResourceBundle bundle )
+    {
+        final var values = rendition( BundleTexts.of( requireNonNullArgument( bundle, "bundle" ) ) );
+        final Map<String,String> retValue = LinkedHashMap.newLinkedHashMap( m_Keys.length );
+        for( var i = 0; i < m_Keys.length; ++i ) retValue.put( m_Keys [i], values [i] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  renderToMap()
+
+    /**
+     *  Returns the texts for the given resource bundle.
+     *
+     *  @param  texts   The compiled texts of the resource bundle.
+     *  @return The texts; the array must not be modified.
+     */
+    private final String [] rendition( final BundleTexts texts )
+    {
+        var rendition = m_LastRendition;
+        if( (rendition == null) || (rendition.texts() != texts) )
+        {
+            final var values = new String [m_Keys.length];
+            for( var i = 0; i < values.length; ++i )
+            {
+                final var template = texts.getTemplate( m_Keys [i] );
+                values [i] = template == null
+                    ? I18nUtil.createFallback( m_Keys [i] )
+                    : template.render();
+            }
+            rendition = new Rendition( texts, values );
+            m_LastRendition = rendition;
+        }
+        final var retValue = rendition.values();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rendition()
+
+    /**
+     *  Returns the number of keys in this batch.
+     *
+     *  @return The number of keys.
+     */
+    public final int size() { return m_Keys.length; }
+}
+//  class TextBatch
+
+/*
+ *  End of File
+ */
\ No newline at end of file
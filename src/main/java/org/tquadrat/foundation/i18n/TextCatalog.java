@@ -0,0 +1,400 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.internal.FlatTextCatalog;
+
+/**
+ *  <p>{@summary An immutable collection of the texts and messages for a
+ *  single locale.}</p>
+ *  <p>Other than a
+ *  {@link ResourceBundle},
+ *  a text catalog does not delegate to a parent for missing keys: the texts
+ *  for the whole fallback chain of a bundle (for example
+ *  {@code Messages_de_AT} &rarr; {@code Messages_de} &rarr;
+ *  {@code Messages}) are merged into a single table when the catalog is
+ *  created, so that each lookup needs exactly one probe. The texts are stored
+ *  in their compiled form, with the escape sequences already translated.</p>
+ *  <p>The methods
+ *  {@link #retrieveText(String, Object...)}
+ *  and
+ *  {@link #retrieveMessage(String, int, boolean, Object...)}
+ *  behave exactly as their counterparts in
+ *  {@link I18nUtil}
+ *  do for the bundle that was used to create the catalog.</p>
+ *  <p>Creating a catalog is comparably expensive; the instance should be
+ *  kept and reused.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TextCatalog.java 1287 2026-10-18 10:58:06Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: TextCatalog.java 1287 2026-10-18 10:58:06Z tquadrat $" )
+@API( status = STABLE, since = "0.26.0" )
+public interface TextCatalog
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Retrieves the message with the given key, applies the
+     *  given arguments to it and appends the result to the given
+     *  target.}</p>
+     *  <p>The result is the same as for
+     *  {@link #retrieveMessage(String, int, boolean, Object...)},
+     *  but no {@code String} instance will be created for it.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see I18nUtil#appendMessage(Appendable, ResourceBundle, String, int, boolean, Object...)
+     */
+    public <A extends Appendable> A appendMessage( final A target, final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IOException;
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key, applies the
+     *  given arguments to it and appends the result to the given
+     *  target.}</p>
+     *  <p>The result is the same as for
+     *  {@link #retrieveMessage(String, String, boolean, Object...)},
+     *  but no {@code String} instance will be created for it.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see I18nUtil#appendMessage(Appendable, ResourceBundle, String, String, boolean, Object...)
+     */
+    public <A extends Appendable> A appendMessage( final A target, final String messagePrefix, final String id, final boolean addKey, final Object... args ) throws IOException;
+
+    /**
+     *  Retrieves the message with the given key, applies the given arguments
+     *  to it and appends the result to the given buffer.
+     *
+     *  @param  target  The target buffer.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see I18nUtil#appendMessage(CharBuffer, ResourceBundle, String, int, boolean, Object...)
+     */
+    public CharBuffer appendMessage( final CharBuffer target, final String messagePrefix, final int id, final boolean addKey, final Object... args );
+
+    /**
+     *  Retrieves the message with the given key, applies the given arguments
+     *  to it and appends the result to the given buffer.
+     *
+     *  @param  target  The target buffer.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see I18nUtil#appendMessage(CharBuffer, ResourceBundle, String, String, boolean, Object...)
+     */
+    public CharBuffer appendMessage( final CharBuffer target, final String messagePrefix, final String id, final boolean addKey, final Object... args );
+
+    /**
+     *  Retrieves the message with the given key, applies the given arguments
+     *  to it and renders the result directly into the given buffer.
+     *
+     *  @param  target  The target buffer.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see I18nUtil#appendMessage(StringBuilder, ResourceBundle, String, int, boolean, Object...)
+     */
+    public StringBuilder appendMessage( final StringBuilder target, final String messagePrefix, final int id, final boolean addKey, final Object... args );
+
+    /**
+     *  Retrieves the message with the given key, applies the given arguments
+     *  to it and renders the result directly into the given buffer.
+     *
+     *  @param  target  The target buffer.
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The target buffer.
+     *
+     *  @see I18nUtil#appendMessage(StringBuilder, ResourceBundle, String, String, boolean, Object...)
+     */
+    public StringBuilder appendMessage( final StringBuilder target, final String messagePrefix, final String id, final boolean addKey, final Object... args );
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key, applies the given
+     *  arguments to it and appends the result to the given target.}</p>
+     *  <p>The result is the same as for
+     *  {@link #retrieveText(String, Object...)},
+     *  but no {@code String} instance will be created for it.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see I18nUtil#appendText(Appendable, ResourceBundle, String, Object...)
+     */
+    public <A extends Appendable> A appendText( final A target, final String key, final Object... args ) throws IOException;
+
+    /**
+     *  Retrieves the text with the given key, applies the given arguments to
+     *  it and appends the result to the given buffer.
+     *
+     *  @param  target  The target buffer.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The target buffer.
+     *
+     *  @see I18nUtil#appendText(CharBuffer, ResourceBundle, String, Object...)
+     */
+    public CharBuffer appendText( final CharBuffer target, final String key, final Object... args );
+
+    /**
+     *  Retrieves the text with the given key, applies the given arguments to
+     *  it and renders the result directly into the given buffer.
+     *
+     *  @param  target  The target buffer.
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The target buffer.
+     *
+     *  @see I18nUtil#appendText(StringBuilder, ResourceBundle, String, Object...)
+     */
+    public StringBuilder appendText( final StringBuilder target, final String key, final Object... args );
+
+    /**
+     *  <p>{@summary Creates a new catalog from the given resource bundles.}
+     *  The catalog contains all the texts from the bundles and their
+     *  parents; they are merged into a single table when the catalog is
+     *  created, so that a lookup needs exactly one probe, regardless of the
+     *  number of bundles.</p>
+     *  <p>For a key that is contained in more than one bundle (or in the
+     *  parent of one bundle and in another bundle), the text from the first
+     *  of these bundles is taken. The locale of the new catalog is that of
+     *  the first bundle.</p>
+     *
+     *  @param  bundles The resource bundles, in the order of their
+     *      precedence; for example the bundle of the application first, and
+     *      then those of the libraries.
+     *  @return The new catalog.
+     */
+    public static TextCatalog compose( final ResourceBundle... bundles )
+    {
+        for( final var bundle : requireNotEmptyArgument( bundles, "bundles" ) ) requireNonNullArgument( bundle, "bundle" );
+        final TextCatalog retValue = FlatTextCatalog.compose( bundles );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compose()
+
+    /**
+     *  <p>{@summary Creates a new catalog from the given catalogs.} The
+     *  entries of the catalogs are merged into a single table, so that a
+     *  lookup needs exactly one probe, regardless of the number of
+     *  catalogs. The compiled texts are shared with the given catalogs if
+     *  these were created by this library; for any other implementation of
+     *  {@code TextCatalog}, the texts are compiled again from their
+     *  {@linkplain #getPattern(String) patterns}.</p>
+     *  <p>For a key that is contained in more than one catalog, the text
+     *  from the first of these catalogs is taken. The locale of the new
+     *  catalog is that of the first catalog.</p>
+     *
+     *  @param  catalogs    The catalogs, in the order of their precedence.
+     *  @return The new catalog.
+     */
+    public static TextCatalog compose( final TextCatalog... catalogs )
+    {
+        for( final var catalog : requireNotEmptyArgument( catalogs, "catalogs" ) ) requireNonNullArgument( catalog, "catalog" );
+        final TextCatalog retValue = FlatTextCatalog.compose( catalogs );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compose()
+
+    /**
+     *  Checks whether this catalog contains a text for the given key.
+     *
+     *  @param  key The key.
+     *  @return {@code true} if there is a text for the given key,
+     *      {@code false} otherwise.
+     */
+    public boolean containsKey( final String key );
+
+    /**
+     *  Returns the locale of this catalog. This is the locale of the
+     *  resource bundle that was used to create the catalog, and that may be
+     *  different from the requested locale.
+     *
+     *  @return The locale.
+     *
+     *  @see ResourceBundle#getLocale()
+     */
+    public Locale getLocale();
+
+    /**
+     *  Returns the pattern for the text with the given key, as it was
+     *  taken from the source of this catalog, before any arguments are
+     *  applied.
+     *
+     *  @param  key The key.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the pattern; it is empty if this catalog does not
+     *      contain a text for the given key.
+     */
+    public Optional<String> getPattern( final String key );
+
+    /**
+     *  Returns the keys for all the texts and messages in this catalog.
+     *
+     *  @return The keys.
+     */
+    public Set<String> keySet();
+
+    /**
+     *  Creates a new catalog from the given resource bundle; the catalog
+     *  will contain all the texts from the bundle and its parents.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The new catalog.
+     *
+     *  @see I18nUtil#loadResourceBundle(String)
+     */
+    public static TextCatalog of( final ResourceBundle bundle )
+    {
+        final TextCatalog retValue = FlatTextCatalog.of( requireNonNullArgument( bundle, "bundle" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key and applies the
+     *  given arguments to it.}</p>
+     *  <p>If the catalog does not contain a message for the given key, the
+     *  key itself will be returned, appended with the arguments.</p>
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)
+     */
+    public String retrieveMessage( final String messagePrefix, final int id, final boolean addKey, final Object... args );
+
+    /**
+     *  <p>{@summary Retrieves the message with the given key and applies the
+     *  given arguments to it.}</p>
+     *  <p>If the catalog does not contain a message for the given key, the
+     *  key itself will be returned, appended with the arguments.</p>
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The id for the message.
+     *  @param  addKey  The recommended value is {@true}; this means that
+     *      the message will be prefixed with the generated message key.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveMessage(ResourceBundle, String, String, boolean, Object...)
+     */
+    public String retrieveMessage( final String messagePrefix, final String id, final boolean addKey, final Object... args );
+
+    /**
+     *  <p>{@summary Retrieves the text with the given key and applies the
+     *  given arguments to it.}</p>
+     *  <p>If the catalog does not contain a text for the given key, the key
+     *  itself will be returned, appended with the arguments.</p>
+     *
+     *  @param  key The key for the text.
+     *  @param  args    The arguments for the text.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveText(ResourceBundle, String, Object...)
+     */
+    public String retrieveText( final String key, final Object... args );
+
+    /**
+     *  <p>{@summary Retrieves the text for the given {@code enum} value.}</p>
+     *  <p>If the catalog does not contain a text for the {@code enum}, the
+     *  text key for it will be returned.</p>
+     *
+     *  @param  <E> The type of the {@code enum} value.
+     *  @param  value   The {@code enum} value.
+     *  @return The text.
+     *
+     *  @see I18nUtil#retrieveText(ResourceBundle, Enum)
+     */
+    public <E extends Enum<?>> String retrieveText( final E value );
+
+    /**
+     *  Returns the number of texts and messages in this catalog.
+     *
+     *  @return The number of entries.
+     */
+    public int size();
+}
+//  interface TextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,365 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.i18n.I18nUtil.composeMessageKey;
+import static org.tquadrat.foundation.i18n.I18nUtil.composeTextKey;
+import static org.tquadrat.foundation.i18n.I18nUtil.createFallback;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.UnexpectedExceptionError;
+import org.tquadrat.foundation.i18n.TextCatalog;
+
+/**
+ *  The abstract base class for the implementations of
+ *  {@link TextCatalog};
+ *  the implementations need only to provide the lookup for the compiled
+ *  templates.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AbstractTextCatalog.java 1288 2026-10-18 11:46:39Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AbstractTextCatalog.java 1288 2026-10-18 11:46:39Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public abstract sealed class AbstractTextCatalog implements TextCatalog
+    permits ChainedTextCatalog, FlatTextCatalog, MappedTextCatalog
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code AbstractTextCatalog} instance.
+     */
+    protected AbstractTextCatalog() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final <A extends Appendable> A appendMessage( final A target, final String messagePrefix, final int id, final boolean addKey, final Object... args ) throws IOException
+    {
+        final var retValue = appendMessage( target, composeMessageKey( messagePrefix, id ), addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  appendMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final <A extends Appendable> A appendMessage( final A target, final String messagePrefix, final String id, final boolean addKey, final Object... args ) throws IOException
+    {
+        final var retValue = appendMessage( target, composeMessageKey( messagePrefix, id ), addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  appendMessage()
+
+    /**
+     *  The internal implementation for
+     *  {@link #appendMessage(Appendable, String, int, boolean, Object...)}
+     *  and
+     *  {@link #appendMessage(Appendable, String, String, boolean, Object...)}.
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  key The key for the message.
+     *  @param  addKey  {@code true} if the message should be prefixed with
+     *      the message key, {@code false} if not.
+     *  @param  args    The arguments for the message.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    private <A extends Appendable> A appendMessage( final A target, final String key, final boolean addKey, final Object... args ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( args, "args" );
+
+        if( addKey ) target.append( '[' ).append( key ).append( "] " );
+        final var retValue = appendText( target, key, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  appendMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CharBuffer appendMessage( final CharBuffer target, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CharBuffer appendMessage( final CharBuffer target, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final StringBuilder appendMessage( final StringBuilder target, final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final StringBuilder appendMessage( final StringBuilder target, final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        try
+        {
+            appendMessage( (Appendable) target, messagePrefix, id, addKey, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final <A extends Appendable> A appendText( final A target, final String key, final Object... args ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( args, "args" );
+        final var template = getTemplate( requireNotEmptyArgument( key, "key" ) );
+        if( template == null )
+        {
+            target.append( createFallback( key, args ) );
+        }
+        else
+        {
+            template.appendTo( target, args );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendText()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CharBuffer appendText( final CharBuffer target, final String key, final Object... args )
+    {
+        try
+        {
+            appendText( (Appendable) target, key, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendText()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final StringBuilder appendText( final StringBuilder target, final String key, final Object... args )
+    {
+        try
+        {
+            appendText( (Appendable) target, key, args );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendText()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey( final String key )
+    {
+        final var retValue = getTemplate( requireNonNullArgument( key, "key" ) ) != null;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  containsKey()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<String> getPattern( final String key )
+    {
+        final var retValue = Optional.ofNullable( getTemplate( requireNonNullArgument( key, "key" ) ) )
+            .map( TextTemplate::getPattern );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getPattern()
+
+    /**
+     *  Returns the compiled template for the given key.
+     *
+     *  @param  key The key.
+     *  @return The template, or {@code null} if the catalog does not contain
+     *      an entry for the given key.
+     */
+    public abstract TextTemplate getTemplate( final String key );
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String retrieveMessage( final String messagePrefix, final int id, final boolean addKey, final Object... args )
+    {
+        final var retValue = retrieveMessage( composeMessageKey( messagePrefix, id ), addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String retrieveMessage( final String messagePrefix, final String id, final boolean addKey, final Object... args )
+    {
+        final var retValue = retrieveMessage( composeMessageKey( messagePrefix, id ), addKey, args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  The internal implementation for
+     *  {@link #retrieveMessage(String, int, boolean, Object...)}
+     *  and
+     *  {@link #retrieveMessage(String, String, boolean, Object...)}.
+     *
+     *  @param  key The key for the message.
+     *  @param  addKey  {@code true} if the message should be prefixed with
+     *      the message key, {@code false} if not.
+     *  @param  args    The arguments for the message.
+     *  @return The text.
+     */
+    private String retrieveMessage( final String key, final boolean addKey, final Object... args )
+    {
+        final var message = retrieveText( key, args );
+        final var retValue = addKey
+            ? "[" + key + "] " + message
+            : message;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveMessage()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String retrieveText( final String key, final Object... args )
+    {
+        requireNonNullArgument( args, "args" );
+        final var template = getTemplate( requireNotEmptyArgument( key, "key" ) );
+        final var retValue = template == null
+            ? createFallback( key, args )
+            : template.render( args );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final <E extends Enum<?>> String retrieveText( final E value )
+    {
+        final var retValue = retrieveText( composeTextKey( requireNonNullArgument( value, "value" ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveText()
+}
+//  class AbstractTextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
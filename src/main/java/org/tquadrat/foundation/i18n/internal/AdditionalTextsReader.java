@@ -0,0 +1,130 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static javax.xml.XMLConstants.ACCESS_EXTERNAL_DTD;
+import static javax.xml.XMLConstants.ACCESS_EXTERNAL_SCHEMA;
+import static javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.i18n.I18nUtil;
+import org.w3c.dom.Element;
+import org.xml.sax.SAXException;
+
+/**
+ *  <p>{@summary Reads the texts from a file
+ *  {@value I18nUtil#ADDITIONAL_TEXT_FILE}.}</p>
+ *  <p>The file has to comply with {@code AdditionalText.dtd}; the DTD itself
+ *  will not be loaded, and the file will not be validated against it.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AdditionalTextsReader.java 1266 2026-10-17 13:20:48Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: AdditionalTextsReader.java 1266 2026-10-17 13:20:48Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class AdditionalTextsReader
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The feature that prevents the loading of external DTDs: {@value}.
+     */
+    private static final String FEATURE_LOAD_EXTERNAL_DTD = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private AdditionalTextsReader() { throw new PrivateConstructorForStaticClassCalledError( AdditionalTextsReader.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Reads the texts from the given input stream.
+     *
+     *  @param  inputStream The input stream with the contents of the file
+     *      {@value I18nUtil#ADDITIONAL_TEXT_FILE}.
+     *  @return The texts, by key, for each language that occurs in the file.
+     *  @throws IOException The file cannot be read or parsed.
+     */
+    public static final Map<Locale,Map<String,String>> read( final InputStream inputStream ) throws IOException
+    {
+        final Map<Locale,Map<String,String>> retValue = new TreeMap<>( (l1,l2) -> l1.toLanguageTag().compareTo( l2.toLanguageTag() ) );
+        try
+        {
+            final var factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature( FEATURE_SECURE_PROCESSING, true );
+            factory.setFeature( FEATURE_LOAD_EXTERNAL_DTD, false );
+            factory.setAttribute( ACCESS_EXTERNAL_DTD, "" );
+            factory.setAttribute( ACCESS_EXTERNAL_SCHEMA, "" );
+            factory.setExpandEntityReferences( false );
+            factory.setValidating( false );
+            final var document = factory.newDocumentBuilder().parse( inputStream );
+
+            final var texts = document.getElementsByTagName( "text" );
+            for( var i = 0; i < texts.getLength(); ++i )
+            {
+                final var text = (Element) texts.item( i );
+                final var key = text.getAttribute( "key" );
+                final var translations = text.getElementsByTagName( "translation" );
+                for( var j = 0; j < translations.getLength(); ++j )
+                {
+                    final var translation = (Element) translations.item( j );
+                    final var locale = Locale.forLanguageTag( translation.getAttribute( "language" ) );
+                    retValue.computeIfAbsent( locale, l -> new LinkedHashMap<>() )
+                        .put( key, translation.getTextContent().strip() );
+                }
+            }
+        }
+        catch( final ParserConfigurationException | SAXException e )
+        {
+            throw new IOException( "Cannot parse '%s'".formatted( I18nUtil.ADDITIONAL_TEXT_FILE ), e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  read()
+}
+//  class AdditionalTextsReader
+
+/*
+ *  End of File
+ */
\ No newline at end of file
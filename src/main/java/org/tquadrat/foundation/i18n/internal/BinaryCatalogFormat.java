@@ -0,0 +1,387 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static java.lang.Integer.remainderUnsigned;
+import static java.lang.Integer.rotateLeft;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary The definition of the binary format for text catalogs, and
+ *  the code to write it.}</p>
+ *  <p>A binary catalog file has the following layout; all numbers are
+ *  stored in big-endian order:</p>
+ *  <table>
+ *      <caption>Binary Catalog Layout</caption>
+ *      <tr><th>Position</th><th>Contents</th></tr>
+ *      <tr><td>0</td><td>The magic number
+ *      {@value #MAGIC}
+ *      ({@code int})</td></tr>
+ *      <tr><td>4</td><td>The format version ({@code short})</td></tr>
+ *      <tr><td>6</td><td>Flags, currently unused ({@code short})</td></tr>
+ *      <tr><td>8</td><td>The number of entries ({@code int})</td></tr>
+ *      <tr><td>12</td><td>The number of slots in the key index
+ *      ({@code int})</td></tr>
+ *      <tr><td>16</td><td>The number of buckets for the perfect hash
+ *      ({@code int})</td></tr>
+ *      <tr><td>20</td><td>The offset of the language tag for the locale in
+ *      the string pool ({@code int})</td></tr>
+ *      <tr><td>24</td><td>The position of the string pool ({@code int})</td></tr>
+ *      <tr><td>28</td><td>The seeds for the buckets, one {@code int} per
+ *      bucket; 0 for an empty bucket</td></tr>
+ *      <tr><td>&hellip;</td><td>The key index: for each slot, the offsets
+ *      of the key and of the value in the string pool (two {@code int}
+ *      values); -1 for an empty slot</td></tr>
+ *      <tr><td>&hellip;</td><td>The string pool: for each string its
+ *      length in bytes ({@code int}), the encoding ({@code byte}, 0 for
+ *      ISO-8859-1, 1 for UTF-8) and the encoded bytes</td></tr>
+ *  </table>
+ *  <p>The key index uses a perfect hash function that is built with the
+ *  <i>hash and displace</i> algorithm: the hash of a key with the seed 0
+ *  determines its bucket, and the hash with the seed for that bucket
+ *  determines the slot. This means that a lookup needs exactly one probe.
+ *  The hash function is a variant of MurmurHash3 over the UTF-16 characters
+ *  of the key, so it does not depend on
+ *  {@link String#hashCode()}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: BinaryCatalogFormat.java 1303 2026-10-18 17:31:05Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: BinaryCatalogFormat.java 1303 2026-10-18 17:31:05Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class BinaryCatalogFormat
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The encoding flag for ISO-8859-1: {@value}.
+     */
+    public static final byte ENCODING_LATIN1 = 0;
+
+    /**
+     *  The encoding flag for UTF-8: {@value}.
+     */
+    public static final byte ENCODING_UTF8 = 1;
+
+    /**
+     *  The size of the header: {@value}.
+     */
+    public static final int HEADER_SIZE = 28;
+
+    /**
+     *  The magic number for a binary catalog file ("TQCT"): {@value}.
+     */
+    public static final int MAGIC = 0x54514354;
+
+    /**
+     *  The maximum seed that will be tried for a bucket: {@value}.
+     */
+    private static final int MAX_SEED = 1 << 24;
+
+    /**
+     *  The position of the number of buckets: {@value}.
+     */
+    public static final int POS_BUCKET_COUNT = 16;
+
+    /**
+     *  The position of the number of entries: {@value}.
+     */
+    public static final int POS_ENTRY_COUNT = 8;
+
+    /**
+     *  The position of the offset for the language tag: {@value}.
+     */
+    public static final int POS_LOCALE = 20;
+
+    /**
+     *  The position of the position of the string pool: {@value}.
+     */
+    public static final int POS_POOL = 24;
+
+    /**
+     *  The position of the number of slots: {@value}.
+     */
+    public static final int POS_TABLE_SIZE = 12;
+
+    /**
+     *  The position of the format version: {@value}.
+     */
+    public static final int POS_VERSION = 4;
+
+    /**
+     *  The current version of the format: {@value}.
+     */
+    public static final short VERSION = 1;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private BinaryCatalogFormat() { throw new PrivateConstructorForStaticClassCalledError( BinaryCatalogFormat.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether the given position in the given buffer holds a String
+     *  from the string pool that lies completely inside the buffer.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  position    The absolute position of the String.
+     *  @return The length of the encoded String in bytes.
+     *  @throws IllegalArgumentException    The position or the length of the
+     *      String lies outside the buffer.
+     */
+    public static final int checkString( final ByteBuffer buffer, final long position ) throws IllegalArgumentException
+    {
+        if( (position < 0) || (position > buffer.limit() - 5) ) throw new IllegalArgumentException( "Invalid string position: %d".formatted( position ) );
+        final var retValue = buffer.getInt( (int) position );
+        if( (retValue < 0) || (retValue > buffer.limit() - position - 5) ) throw new IllegalArgumentException( "Invalid string length: %d".formatted( retValue ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  checkString()
+
+    /**
+     *  Calculates the hash value for the given key and seed.
+     *
+     *  @param  key The key.
+     *  @param  seed    The seed.
+     *  @return The hash value.
+     */
+    public static final int hash( final String key, final int seed )
+    {
+        var retValue = seed;
+        final var length = key.length();
+        for( var i = 0; i < length; ++i )
+        {
+            var k = key.charAt( i ) * 0xCC9E2D51;
+            k = rotateLeft( k, 15 ) * 0x1B873593;
+            retValue ^= k;
+            retValue = rotateLeft( retValue, 13 ) * 5 + 0xE6546B64;
+        }
+        retValue ^= length;
+        retValue ^= retValue >>> 16;
+        retValue *= 0x85EBCA6B;
+        retValue ^= retValue >>> 13;
+        retValue *= 0xC2B2AE35;
+        retValue ^= retValue >>> 16;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hash()
+
+    /**
+     *  Reads a String from the string pool.
+     *
+     *  @param  buffer  The buffer with the catalog.
+     *  @param  position    The absolute position of the String.
+     *  @return The String.
+     *  @throws IllegalArgumentException    The position or the length of the
+     *      String lies outside the buffer.
+     */
+    public static final String readString( final ByteBuffer buffer, final int position ) throws IllegalArgumentException
+    {
+        final var length = checkString( buffer, position );
+        final var encoding = buffer.get( position + 4 );
+        final var bytes = new byte [length];
+        buffer.get( position + 5, bytes );
+        final var retValue = new String( bytes, encoding == ENCODING_LATIN1 ? ISO_8859_1 : UTF_8 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  readString()
+
+    /**
+     *  Creates the binary catalog from the given texts.
+     *
+     *  @param  locale  The locale for the catalog.
+     *  @param  texts   The texts.
+     *  @return The binary catalog.
+     *  @throws IllegalStateException   No perfect hash function could be
+     *      found for the keys.
+     */
+    public static final byte [] write( final Locale locale, final Map<String,String> texts ) throws IllegalStateException
+    {
+        final var keys = texts.keySet().toArray( String []::new );
+        final var entryCount = keys.length;
+        final var tableSize = entryCount + (entryCount >> 2) + 1;
+        final var bucketCount = Math.max( 1, (entryCount + 3) / 4 );
+
+        //---* Distribute the keys to the buckets *----------------------------
+        @SuppressWarnings( "unchecked" )
+        final var buckets = (List<String> []) new List<?> [bucketCount];
+        for( final var key : keys )
+        {
+            final var bucket = remainderUnsigned( hash( key, 0 ), bucketCount );
+            if( buckets [bucket] == null ) buckets [bucket] = new ArrayList<>();
+            buckets [bucket].add( key );
+        }
+        final var order = new Integer [bucketCount];
+        Arrays.setAll( order, i -> i );
+        Arrays.sort( order, ( b1, b2 ) -> Integer.compare( size( buckets [b2] ), size( buckets [b1] ) ) );
+
+        //---* Find the seeds *------------------------------------------------
+        final var seeds = new int [bucketCount];
+        final var slots = new String [tableSize];
+        final var candidates = new int [Math.max( 1, order.length > 0 ? size( buckets [order [0]] ) : 1 )];
+        BucketLoop: for( final var bucket : order )
+        {
+            final var bucketKeys = buckets [bucket];
+            if( bucketKeys == null ) break BucketLoop;
+            var seed = 0;
+            SeedLoop: while( true )
+            {
+                if( ++seed > MAX_SEED ) throw new IllegalStateException( "No perfect hash function found" );
+                CandidateLoop: for( var i = 0; i < bucketKeys.size(); ++i )
+                {
+                    final var slot = remainderUnsigned( hash( bucketKeys.get( i ), seed ), tableSize );
+                    if( slots [slot] != null ) continue SeedLoop;
+                    for( var j = 0; j < i; ++j )
+                    {
+                        if( candidates [j] == slot ) continue SeedLoop;
+                    }
+                    candidates [i] = slot;
+                }   //  CandidateLoop:
+                break SeedLoop;
+            }   //  SeedLoop:
+            seeds [bucket] = seed;
+            for( var i = 0; i < bucketKeys.size(); ++i ) slots [candidates [i]] = bucketKeys.get( i );
+        }   //  BucketLoop:
+
+        //---* Build the string pool *-----------------------------------------
+        final var pool = new ByteArrayOutputStream();
+        final var poolOffsets = new HashMap<String,Integer>();
+        final var localeOffset = writeString( pool, poolOffsets, locale.toLanguageTag() );
+        final var index = new int [tableSize * 2];
+        for( var slot = 0; slot < tableSize; ++slot )
+        {
+            final var key = slots [slot];
+            if( key == null )
+            {
+                index [slot * 2] = -1;
+                index [slot * 2 + 1] = -1;
+            }
+            else
+            {
+                index [slot * 2] = writeString( pool, poolOffsets, key );
+                index [slot * 2 + 1] = writeString( pool, poolOffsets, texts.get( key ) );
+            }
+        }
+
+        //---* Write the catalog *---------------------------------------------
+        final var poolPosition = HEADER_SIZE + bucketCount * Integer.BYTES + index.length * Integer.BYTES;
+        final var buffer = new ByteArrayOutputStream( poolPosition + pool.size() );
+        try( final var output = new DataOutputStream( buffer ) )
+        {
+            output.writeInt( MAGIC );
+            output.writeShort( VERSION );
+            output.writeShort( 0 );
+            output.writeInt( entryCount );
+            output.writeInt( tableSize );
+            output.writeInt( bucketCount );
+            output.writeInt( localeOffset );
+            output.writeInt( poolPosition );
+            for( final var seed : seeds ) output.writeInt( seed );
+            for( final var offset : index ) output.writeInt( offset );
+            pool.writeTo( output );
+        }
+        catch( final IOException e )
+        {
+            //---* Cannot happen with a ByteArrayOutputStream *----------------
+            throw new UncheckedIOException( e );
+        }
+        final var retValue = buffer.toByteArray();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  write()
+
+    /**
+     *  Returns the size of the given list, or 0 if the list is
+     *  {@code null}.
+     *
+     *  @param  list    The list.
+     *  @return The size.
+     */
+    private static final int size( final List<?> list ) { return list == null ? 0 : list.size(); }
+
+    /**
+     *  Writes the given String to the string pool, if it is not already
+     *  there.
+     *
+     *  @param  pool    The string pool.
+     *  @param  offsets The offsets for the Strings that were already
+     *      written.
+     *  @param  string  The String.
+     *  @return The offset of the String in the pool.
+     */
+    private static final int writeString( final ByteArrayOutputStream pool, final Map<String,Integer> offsets, final String string )
+    {
+        var retValue = offsets.get( string );
+        if( retValue == null )
+        {
+            retValue = pool.size();
+            offsets.put( string, retValue );
+            final var isLatin1 = string.chars().allMatch( c -> c < 0x100 );
+            final var bytes = string.getBytes( isLatin1 ? ISO_8859_1 : UTF_8 );
+            final var length = bytes.length;
+            pool.write( length >>> 24 );
+            pool.write( length >>> 16 );
+            pool.write( length >>> 8 );
+            pool.write( length );
+            pool.write( isLatin1 ? ENCODING_LATIN1 : ENCODING_UTF8 );
+            pool.writeBytes( bytes );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue.intValue();
+    }   //  writeString()
+}
+//  class BinaryCatalogFormat
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,338 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static java.lang.System.nanoTime;
+import static java.lang.System.setProperty;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.CommonConstants.ISO8859_1;
+import static org.tquadrat.foundation.lang.CommonConstants.PROPERTY_RESOURCEBUNDLE_ENCODING;
+import static org.tquadrat.foundation.lang.DebugOutput.ifDebug;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary The registry for the resource bundles that were loaded
+ *  through
+ *  {@link org.tquadrat.foundation.i18n.I18nUtil#loadResourceBundle(String) I18nUtil.loadResourceBundle()}.}</p>
+ *  <p>The encoding for the resource bundle files is configured only once,
+ *  when this class is initialised, and the result of each load is kept by
+ *  base bundle name, locale and module, so that a repeated request neither
+ *  writes to the system properties nor probes
+ *  {@link ResourceBundle#getBundle(String) ResourceBundle.getBundle()}
+ *  again.</p>
+ *  <p>The locale is part of the key as it was when the bundle was
+ *  requested; usually, this is a snapshot of
+ *  {@link Locale#getDefault()}.
+ *  Changing the default locale later on does not invalidate the bundles
+ *  that were loaded before, it just causes the bundles for the new locale
+ *  to be loaded on the next request.</p>
+ *  <p>The loaded bundles are referenced only weakly, so the registry keeps
+ *  neither the bundles nor their class loaders or module layers alive;
+ *  the cache of {@code ResourceBundle} itself holds them softly, and as
+ *  long as it does, the registry returns the same instance. The entry for
+ *  a bundle that was garbage collected is removed on the next request.</p>
+ *  <p>A miss is remembered for
+ *  {@value #MISSING_BUNDLE_TTL}
+ *  milliseconds only, and for not more than
+ *  {@value #MAX_MISSING_BUNDLES}
+ *  keys, so that a bundle that becomes available later, for example
+ *  through a new class loader or module layer, will be found eventually.
+ *  When the limit is reached, a single entry is evicted for each new
+ *  one.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: BundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: BundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class BundleRegistry
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The key for the registry.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the bundle; {@code null} if
+     *      the bundle is loaded without an explicit module.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: BundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: BundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Key( String baseBundleName, Locale locale, Module module ) {}
+
+    /**
+     *  The weak reference to a loaded bundle; it knows its key, so that the
+     *  entry can be removed from the registry when the bundle was garbage
+     *  collected.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: BundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: BundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class BundleReference extends WeakReference<ResourceBundle>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The key for the bundle.
+         */
+        private final Key m_Key;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code BundleReference} instance.
+         *
+         *  @param  key The key for the bundle.
+         *  @param  bundle  The bundle.
+         */
+        public BundleReference( final Key key, final ResourceBundle bundle )
+        {
+            super( bundle, m_Queue );
+            m_Key = key;
+        }   //  BundleReference()
+    }
+    //  class BundleReference
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of missing bundles that will be remembered:
+     *  {@value}. When this number is reached, an entry will be evicted for
+     *  each new one.
+     */
+    public static final int MAX_MISSING_BUNDLES = 4096;
+
+    /**
+     *  The time in milliseconds for that a missing bundle will be
+     *  remembered: {@value}.
+     */
+    public static final long MISSING_BUNDLE_TTL = 60_000L;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The loaded bundles.
+     */
+    private static final Map<Key,BundleReference> m_Bundles = new ConcurrentHashMap<>();
+
+    /**
+     *  The keys for the bundles that were not found, with the value for
+     *  {@link System#nanoTime()}
+     *  after that the bundle will be looked up again.
+     */
+    private static final Map<Key,Long> m_MissingBundles = new ConcurrentHashMap<>();
+
+    /**
+     *  The queue for the references to the bundles that were garbage
+     *  collected.
+     */
+    private static final ReferenceQueue<ResourceBundle> m_Queue = new ReferenceQueue<>();
+
+    static
+    {
+        //---* Force the use of UTF-8 for the resource bundle files *----------
+        setProperty( PROPERTY_RESOURCEBUNDLE_ENCODING, ISO8859_1.name() );
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private BundleRegistry() { throw new PrivateConstructorForStaticClassCalledError( BundleRegistry.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Removes the entries for the bundles that were garbage collected.
+     */
+    private static final void expungeStaleEntries()
+    {
+        for( var reference = m_Queue.poll(); reference != null; reference = m_Queue.poll() )
+        {
+            if( reference instanceof final BundleReference bundleReference ) m_Bundles.remove( bundleReference.m_Key, bundleReference );
+        }
+    }   //  expungeStaleEntries()
+
+    /**
+     *  Loads the resource bundle for the given key.
+     *
+     *  @param  key The key.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    private static final Optional<ResourceBundle> load( final Key key ) { return load( key.baseBundleName(), key.locale(), key.module() ); }
+
+    /**
+     *  Loads the resource bundle with the given base bundle name for the
+     *  given locale, without looking into or adding to this registry. The
+     *  arguments are not validated.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the resource bundle; can be
+     *      {@code null}.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    @SuppressWarnings( "AssignmentToNull" )
+    public static final Optional<ResourceBundle> load( final String baseBundleName, final Locale locale, final Module module )
+    {
+        ResourceBundle bundle;
+        try
+        {
+            bundle = module == null
+                ? ResourceBundle.getBundle( baseBundleName, locale )
+                : ResourceBundle.getBundle( baseBundleName, locale, module );
+        }
+        catch( final MissingResourceException e )
+        {
+            ifDebug( e );
+            bundle = null;
+        }
+
+        final var retValue = Optional.ofNullable( bundle );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  load()
+
+    /**
+     *  Returns the resource bundle with the given base bundle name for the
+     *  given locale. The arguments are not validated.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the resource bundle; can be
+     *      {@code null}.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    public static final Optional<ResourceBundle> loadResourceBundle( final String baseBundleName, final Locale locale, final Module module )
+    {
+        return loadResourceBundle( baseBundleName, locale, module, nanoTime() );
+    }   //  loadResourceBundle()
+
+    /**
+     *  Returns the resource bundle with the given base bundle name for the
+     *  given locale, at the given time. The arguments are not validated.
+     *
+     *  @param  baseBundleName  The base bundle name.
+     *  @param  locale  The locale.
+     *  @param  module  The module that provides the resource bundle; can be
+     *      {@code null}.
+     *  @param  now The current value of
+     *      {@link System#nanoTime()}.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the resource bundle.
+     */
+    static final Optional<ResourceBundle> loadResourceBundle( final String baseBundleName, final Locale locale, final Module module, final long now )
+    {
+        expungeStaleEntries();
+        final var key = new Key( baseBundleName, locale, module );
+        final var reference = m_Bundles.get( key );
+        var retValue = Optional.ofNullable( reference == null ? null : reference.get() );
+        if( retValue.isEmpty() )
+        {
+            final var retryTime = m_MissingBundles.get( key );
+            if( (retryTime == null) || (now - retryTime >= 0) )
+            {
+                /*
+                 * The bundle is loaded outside the map's lock: loading a
+                 * bundle may cause the loading of another bundle.
+                 */
+                retValue = load( key );
+                if( retValue.isPresent() )
+                {
+                    final var bundle = retValue.get();
+                    m_Bundles.put( key, new BundleReference( key, bundle ) );
+                    m_MissingBundles.remove( key );
+                }
+                else
+                {
+                    if( (retryTime == null) && (m_MissingBundles.size() >= MAX_MISSING_BUNDLES) )
+                    {
+                        final var iterator = m_MissingBundles.keySet().iterator();
+                        if( iterator.hasNext() )
+                        {
+                            iterator.next();
+                            iterator.remove();
+                        }
+                    }
+                    m_MissingBundles.put( key, now + MISSING_BUNDLE_TTL * 1_000_000L );
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  loadResourceBundle()
+
+    /**
+     *  Returns the number of missing bundles that are currently remembered.
+     *
+     *  @return The number of missing bundles.
+     */
+    static final int missingBundleCount() { return m_MissingBundles.size(); }
+}
+//  class BundleRegistry
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,281 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.i18n.TextUse.STRING;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.I18nUtil;
+
+/**
+ *  <p>{@summary The compiled texts for a single
+ *  {@link ResourceBundle}.}</p>
+ *  <p>The templates are compiled lazily, on the first request for a key, and
+ *  are kept for the lifetime of the bundle instance; as resource bundles are
+ *  immutable, the cached templates never become stale. The registry for the
+ *  instances references the bundles only weakly, so the compiled texts are
+ *  discarded together with the bundle, for example after
+ *  {@link ResourceBundle#clearCache()}
+ *  or when the class loader of the bundle is unloaded. The lookup in the
+ *  registry does not acquire a lock, so threads that use different bundles
+ *  do not contend with each other.</p>
+ *  <p>Keys that were requested but are not in the bundle are remembered as
+ *  well, so that a repeated miss costs no more than a hit. A miss is detected
+ *  through
+ *  {@link ResourceBundle#containsKey(String)},
+ *  without provoking a
+ *  {@link MissingResourceException}.</p>
+ *  <p>The texts for {@code enum} values are kept in arrays that are indexed
+ *  by the
+ *  {@linkplain Enum#ordinal() ordinal}
+ *  of the value; once a text was rendered, its retrieval is just an array
+ *  access. The keys for the {@code enum} values are composed only once per
+ *  {@code enum} type.</p>
+ *  <p>Messages with numeric ids are looked up through a
+ *  {@link MessageTable}
+ *  per message prefix, without composing the message key again.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: BundleTexts.java 1305 2026-10-18 18:04:17Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: BundleTexts.java 1305 2026-10-18 18:04:17Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class BundleTexts
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of missing keys that will be remembered: {@value}.
+     *  When this number is exceeded, the negative cache will be reset.
+     */
+    public static final int MAX_MISSING_KEYS = 4096;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The resource bundle. It is referenced only weakly, as otherwise the
+     *  entry in the registry would keep it alive; as long as the caller
+     *  uses the bundle, the reference cannot be cleared.
+     */
+    private final WeakReference<ResourceBundle> m_Bundle;
+
+    /**
+     *  The rendered texts for {@code enum} values, by {@code enum} type; the
+     *  arrays are indexed by the ordinal.
+     */
+    private final Map<Class<?>,String []> m_EnumTexts = new ConcurrentHashMap<>();
+
+    /**
+     *  The message tables, by message prefix.
+     */
+    private final Map<String,MessageTable> m_MessageTables = new ConcurrentHashMap<>();
+
+    /**
+     *  The keys that are known to be missing in the resource bundle.
+     */
+    private final Set<String> m_MissingKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     *  The compiled templates, by key.
+     */
+    private final Map<String,TextTemplate> m_Templates = new ConcurrentHashMap<>();
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The text keys for the values of {@code enum} types, indexed by the
+     *  ordinal.
+     */
+    private static final ClassValue<String []> m_EnumKeys = new ClassValue<>()
+    {
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final String [] computeValue( final Class<?> type )
+        {
+            final var values = type.getEnumConstants();
+            final var className = type.getName();
+            final var retValue = new String [values.length];
+            for( var i = 0; i < values.length; ++i )
+            {
+                retValue [i] = KeyCache.composeTextKey( className, STRING, ((Enum<?>) values [i]).name() );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  computeValue()
+    };
+
+    /**
+     *  The registry for the instances of this class; the bundles are
+     *  referenced weakly. As
+     *  {@link ResourceBundle}
+     *  does not override
+     *  {@link Object#equals(Object)},
+     *  the lookup is by identity.
+     */
+    private static final WeakIdentityMap<ResourceBundle,BundleTexts> m_Registry = new WeakIdentityMap<>();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code BundleTexts} instance.
+     *
+     *  @param  bundle  The resource bundle.
+     */
+    private BundleTexts( final ResourceBundle bundle )
+    {
+        m_Bundle = new WeakReference<>( bundle );
+    }   //  BundleTexts()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Returns the text for the given {@code enum} value.} If
+     *  the resource bundle does not contain a text for the value, the
+     *  {@linkplain I18nUtil#createFallback(String, Object...) fallback}
+     *  will be returned.</p>
+     *  <p>The text is rendered only on the first request; subsequent requests
+     *  will return the cached result.</p>
+     *
+     *  @param  value   The {@code enum} value.
+     *  @return The text.
+     */
+    public final String getEnumText( final Enum<?> value )
+    {
+        final var enumClass = value.getDeclaringClass();
+        var texts = m_EnumTexts.get( enumClass );
+        if( texts == null )
+        {
+            texts = m_EnumTexts.computeIfAbsent( enumClass, c -> new String [m_EnumKeys.get( c ).length] );
+        }
+        final var ordinal = value.ordinal();
+        var retValue = texts [ordinal];
+        if( retValue == null )
+        {
+            final var key = m_EnumKeys.get( enumClass ) [ordinal];
+            final var template = getTemplate( key );
+            retValue = template == null
+                ? I18nUtil.createFallback( key )
+                : template.render();
+
+            /*
+             * Concurrent writes to the same slot are harmless, as all threads
+             * will write an equal String.
+             */
+            texts [ordinal] = retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getEnumText()
+
+    /**
+     *  Returns the message table for the given message prefix.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @return The message table.
+     */
+    public final MessageTable getMessageTable( final String messagePrefix )
+    {
+        var retValue = m_MessageTables.get( messagePrefix );
+        if( retValue == null )
+        {
+            retValue = m_MessageTables.computeIfAbsent( messagePrefix, p -> new MessageTable( this, p ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getMessageTable()
+
+    /**
+     *  Returns the compiled template for the given key.
+     *
+     *  @param  key The resource bundle key.
+     *  @return The template, or {@code null} if the bundle does not contain
+     *      an entry for the given key.
+     */
+    public final TextTemplate getTemplate( final String key )
+    {
+        var retValue = m_Templates.get( key );
+        if( (retValue == null) && !m_MissingKeys.contains( key ) )
+        {
+            final var bundle = m_Bundle.get();
+            if( (bundle != null) && bundle.containsKey( key ) )
+            {
+                retValue = m_Templates.computeIfAbsent( key, k -> TextTemplate.compile( bundle.getString( k ) ) );
+            }
+            else
+            {
+                if( m_MissingKeys.size() >= MAX_MISSING_KEYS ) m_MissingKeys.clear();
+                m_MissingKeys.add( key );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTemplate()
+
+    /**
+     *  Returns the number of keys that are currently known to be missing in
+     *  the resource bundle.
+     *
+     *  @return The number of missing keys.
+     */
+    final int missingKeyCount() { return m_MissingKeys.size(); }
+
+    /**
+     *  Returns the instance of {@code BundleTexts} for the given resource
+     *  bundle.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The compiled texts for the bundle.
+     */
+    public static final BundleTexts of( final ResourceBundle bundle )
+    {
+        final var retValue = m_Registry.computeIfAbsent( requireNonNullArgument( bundle, "bundle" ), BundleTexts::new );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+}
+//  class BundleTexts
+
+/*
+ *  End of File
+ */
\ No newline at end of file
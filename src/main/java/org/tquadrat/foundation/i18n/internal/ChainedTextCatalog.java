@@ -0,0 +1,161 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.TextCatalog;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link TextCatalog}
+ *  that layers the catalogs for the parent locales beneath the catalog for
+ *  a locale.}</p>
+ *  <p>A text is taken from the first catalog in the chain that contains
+ *  it; as with the parent chain of a
+ *  {@link java.util.ResourceBundle},
+ *  a miss in the first catalog costs one more probe for each parent. The
+ *  catalogs are not copied, so a chain of
+ *  {@link MappedTextCatalog}
+ *  instances still decodes each text only when it is requested.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ChainedTextCatalog.java 1288 2026-10-18 11:46:39Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ChainedTextCatalog.java 1288 2026-10-18 11:46:39Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class ChainedTextCatalog extends AbstractTextCatalog
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The catalogs, in the order of their precedence.
+     */
+    private final AbstractTextCatalog [] m_Catalogs;
+
+    /**
+     *  The keys of all catalogs; determined on first request.
+     */
+    private volatile Set<String> m_Keys;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ChainedTextCatalog} instance.
+     *
+     *  @param  catalogs    The catalogs, in the order of their precedence.
+     */
+    private ChainedTextCatalog( final AbstractTextCatalog [] catalogs )
+    {
+        m_Catalogs = catalogs;
+    }   //  ChainedTextCatalog()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     *  <p>This is the locale of the first catalog in the chain.</p>
+     */
+    @Override
+    public final Locale getLocale() { return m_Catalogs [0].getLocale(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final TextTemplate getTemplate( final String key )
+    {
+        TextTemplate retValue = null;
+        SearchLoop: for( final var catalog : m_Catalogs )
+        {
+            retValue = catalog.getTemplate( key );
+            if( retValue != null ) break SearchLoop;
+        }   //  SearchLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTemplate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Set<String> keySet()
+    {
+        var retValue = m_Keys;
+        if( retValue == null )
+        {
+            final var keys = new HashSet<String>();
+            for( final var catalog : m_Catalogs ) keys.addAll( catalog.keySet() );
+            retValue = Set.copyOf( keys );
+            m_Keys = retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  keySet()
+
+    /**
+     *  Creates a catalog from the given chain of catalogs.
+     *
+     *  @param  catalogs    The catalogs, in the order of their precedence;
+     *      may not be empty.
+     *  @return The catalog; if the chain has just one element, this is that
+     *      catalog itself.
+     */
+    public static final AbstractTextCatalog of( final List<? extends AbstractTextCatalog> catalogs )
+    {
+        final AbstractTextCatalog retValue = catalogs.size() == 1
+            ? catalogs.getFirst()
+            : new ChainedTextCatalog( catalogs.toArray( AbstractTextCatalog []::new ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int size() { return keySet().size(); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return "%s[locale=%s, chain=%d]".formatted( getClass().getSimpleName(), getLocale(), m_Catalogs.length ); }
+}
+//  class ChainedTextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
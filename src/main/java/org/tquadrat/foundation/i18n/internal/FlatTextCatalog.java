@@ -0,0 +1,375 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.TextCatalog;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link TextCatalog}
+ *  that holds all its entries in a single hash table.}</p>
+ *  <p>The table uses open addressing with linear probing on two parallel
+ *  arrays, one for the keys and one for the compiled templates; the load
+ *  factor is at most 0.5.</p>
+ *  <p>The arrays are never modified after construction; an
+ *  {@linkplain #update(Map, Set) updated copy}
+ *  of a catalog therefore shares them with the original wherever
+ *  possible.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: FlatTextCatalog.java 1287 2026-10-18 10:58:06Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: FlatTextCatalog.java 1287 2026-10-18 10:58:06Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class FlatTextCatalog extends AbstractTextCatalog
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The keys.
+     */
+    private final String [] m_Keys;
+
+    /**
+     *  The locale for this catalog.
+     */
+    private final Locale m_Locale;
+
+    /**
+     *  The mask for the slot index.
+     */
+    private final int m_Mask;
+
+    /**
+     *  The number of entries.
+     */
+    private final int m_Size;
+
+    /**
+     *  The templates.
+     */
+    private final TextTemplate [] m_Templates;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code FlatTextCatalog} instance.
+     *
+     *  @param  locale  The locale for the catalog.
+     *  @param  entries The entries for the catalog.
+     */
+    public FlatTextCatalog( final Locale locale, final Map<String,TextTemplate> entries )
+    {
+        m_Locale = locale;
+        m_Size = entries.size();
+
+        var capacity = 2;
+        while( capacity < m_Size * 2 ) capacity <<= 1;
+        m_Mask = capacity - 1;
+        m_Keys = new String [capacity];
+        m_Templates = new TextTemplate [capacity];
+
+        for( final var entry : entries.entrySet() )
+        {
+            final var key = entry.getKey();
+            var slot = spread( key.hashCode() ) & m_Mask;
+            while( m_Keys [slot] != null ) slot = (slot + 1) & m_Mask;
+            m_Keys [slot] = key;
+            m_Templates [slot] = entry.getValue();
+        }
+    }   //  FlatTextCatalog()
+
+    /**
+     *  Creates a new {@code FlatTextCatalog} instance from the given
+     *  arrays; these will not be copied.
+     *
+     *  @param  locale  The locale for the catalog.
+     *  @param  keys    The keys.
+     *  @param  templates   The compiled templates.
+     *  @param  size    The number of entries.
+     */
+    private FlatTextCatalog( final Locale locale, final String [] keys, final TextTemplate [] templates, final int size )
+    {
+        m_Locale = locale;
+        m_Size = size;
+        m_Mask = keys.length - 1;
+        m_Keys = keys;
+        m_Templates = templates;
+    }   //  FlatTextCatalog()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a new catalog from the given resource bundles; for a key that
+     *  is contained in more than one bundle, the text from the first of
+     *  these bundles is taken. The locale for the new catalog is that of the
+     *  first bundle.
+     *
+     *  @param  bundles The resource bundles, in the order of their
+     *      precedence.
+     *  @return The new catalog.
+     */
+    public static final FlatTextCatalog compose( final ResourceBundle... bundles )
+    {
+        final var entries = new HashMap<String,TextTemplate>();
+        for( final var bundle : bundles )
+        {
+            for( final var key : bundle.keySet() )
+            {
+                if( !entries.containsKey( key ) && (bundle.getObject( key ) instanceof final String pattern) )
+                {
+                    entries.put( key, TextTemplate.compile( pattern ) );
+                }
+            }
+        }
+        final var retValue = new FlatTextCatalog( bundles [0].getLocale(), entries );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compose()
+
+    /**
+     *  Creates a new catalog from the given catalogs; for a key that is
+     *  contained in more than one catalog, the text from the first of these
+     *  catalogs is taken. The locale for the new catalog is that of the
+     *  first catalog. The compiled templates are shared with the given
+     *  catalogs if these are instances of
+     *  {@link AbstractTextCatalog};
+     *  for other catalogs, the templates are compiled from the
+     *  {@linkplain TextCatalog#getPattern(String) patterns}.
+     *
+     *  @param  catalogs    The catalogs, in the order of their precedence.
+     *  @return The new catalog.
+     */
+    public static final FlatTextCatalog compose( final TextCatalog... catalogs )
+    {
+        final var entries = new HashMap<String,TextTemplate>();
+        for( final var catalog : catalogs )
+        {
+            for( final var key : catalog.keySet() )
+            {
+                if( !entries.containsKey( key ) )
+                {
+                    final var template = catalog instanceof final AbstractTextCatalog source
+                        ? source.getTemplate( key )
+                        : catalog.getPattern( key ).map( TextTemplate::compile ).orElse( null );
+
+                    /*
+                     * The template can be null if the catalog has changed
+                     * since the keys were retrieved.
+                     */
+                    if( template != null ) entries.put( key, template );
+                }
+            }
+        }
+        final var retValue = new FlatTextCatalog( catalogs [0].getLocale(), entries );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compose()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Locale getLocale() { return m_Locale; }
+
+    /**
+     *  Returns the slot for the given key.
+     *
+     *  @param  key The key.
+     *  @return The slot, or -1 if the catalog does not contain the key.
+     */
+    private final int findSlot( final String key )
+    {
+        var retValue = -1;
+        var slot = spread( key.hashCode() ) & m_Mask;
+        ProbeLoop: while( true )
+        {
+            final var candidate = m_Keys [slot];
+            if( candidate == null ) break ProbeLoop;
+            //noinspection StringEquality
+            if( (candidate == key) || candidate.equals( key ) )
+            {
+                retValue = slot;
+                break ProbeLoop;
+            }
+            slot = (slot + 1) & m_Mask;
+        }   //  ProbeLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findSlot()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final TextTemplate getTemplate( final String key )
+    {
+        final var slot = findSlot( key );
+        final var retValue = slot < 0 ? null : m_Templates [slot];
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTemplate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Set<String> keySet()
+    {
+        final var retValue = Arrays.stream( m_Keys )
+            .filter( Objects::nonNull )
+            .collect( toUnmodifiableSet() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  keySet()
+
+    /**
+     *  Creates a new catalog from the given resource bundle; the catalog
+     *  will contain all the texts from the bundle and its parents. Entries
+     *  that are not Strings will be ignored.
+     *
+     *  @param  bundle  The resource bundle.
+     *  @return The new catalog.
+     */
+    public static final FlatTextCatalog of( final ResourceBundle bundle )
+    {
+        final var entries = new HashMap<String,TextTemplate>();
+        for( final var key : bundle.keySet() )
+        {
+            if( bundle.getObject( key ) instanceof final String pattern )
+            {
+                entries.put( key, TextTemplate.compile( pattern ) );
+            }
+        }
+        final var retValue = new FlatTextCatalog( bundle.getLocale(), entries );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int size() { return m_Size; }
+
+    /**
+     *  Spreads the bits of the given hash code.
+     *
+     *  @param  hash    The hash code.
+     *  @return The spread hash value.
+     */
+    private static final int spread( final int hash ) { return hash ^ (hash >>> 16); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return "%s[locale=%s, size=%d]".formatted( getClass().getSimpleName(), m_Locale, m_Size ); }
+
+    /**
+     *  <p>{@summary Returns a copy of this catalog with the given
+     *  changes.}</p>
+     *  <p>The templates for all entries that are not changed are shared
+     *  with this catalog. If the changes do not add or remove a key, the
+     *  copy shares the array with the keys, too, and just the array with
+     *  the templates is copied; otherwise the table is rebuilt, without
+     *  compiling any template again.</p>
+     *
+     *  @param  changes The new or changed entries.
+     *  @param  removed The keys of the entries to remove; keys that are not
+     *      in this catalog are ignored.
+     *  @return The updated catalog; this is the catalog itself if there are
+     *      no changes.
+     */
+    public final FlatTextCatalog update( final Map<String,TextTemplate> changes, final Set<String> removed )
+    {
+        var retValue = this;
+        var isStructural = false;
+        CheckLoop: for( final var key : removed )
+        {
+            if( findSlot( key ) >= 0 )
+            {
+                isStructural = true;
+                break CheckLoop;
+            }
+        }   //  CheckLoop:
+        if( !isStructural )
+        {
+            CheckLoop: for( final var key : changes.keySet() )
+            {
+                if( findSlot( key ) < 0 )
+                {
+                    isStructural = true;
+                    break CheckLoop;
+                }
+            }   //  CheckLoop:
+        }
+
+        if( isStructural )
+        {
+            final Map<String,TextTemplate> entries = HashMap.newHashMap( m_Size + changes.size() );
+            for( var slot = 0; slot < m_Keys.length; ++slot )
+            {
+                final var key = m_Keys [slot];
+                if( (key != null) && !removed.contains( key ) ) entries.put( key, m_Templates [slot] );
+            }
+            entries.putAll( changes );
+            retValue = new FlatTextCatalog( m_Locale, entries );
+        }
+        else if( !changes.isEmpty() )
+        {
+            final var templates = m_Templates.clone();
+            for( final var entry : changes.entrySet() ) templates [findSlot( entry.getKey() )] = entry.getValue();
+            retValue = new FlatTextCatalog( m_Locale, m_Keys, templates, m_Size );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  update()
+}
+//  class FlatTextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
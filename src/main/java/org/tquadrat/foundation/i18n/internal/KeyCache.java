@@ -0,0 +1,210 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.i18n.TextUse;
+
+/**
+ *  <p>{@summary The composition of message and text keys, with a bounded
+ *  cache for the composed keys.}</p>
+ *  <p>The keys are built by plain concatenation, instead of using
+ *  {@link String#format(String, Object...)};
+ *  the results are kept in direct-mapped caches of a fixed size, so a key
+ *  that is requested repeatedly, as usual in a loop, is returned without any
+ *  allocation. A collision in a cache slot just replaces the older entry.</p>
+ *  <p>The cache slots are read and written without synchronisation; this is
+ *  safe as the entries are immutable.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: KeyCache.java 1262 2026-10-17 10:37:19Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@UtilityClass
+@ClassVersion( sourceVersion = "$Id: KeyCache.java 1262 2026-10-17 10:37:19Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class KeyCache
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  A cache entry for a message key.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The message id.
+     *  @param  key The composed key.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: KeyCache.java 1262 2026-10-17 10:37:19Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: KeyCache.java 1262 2026-10-17 10:37:19Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record MessageKey( String messagePrefix, int id, String key ) {}
+
+    /**
+     *  A cache entry for a text key.
+     *
+     *  @param  sourceClass The name of the class where the text was defined.
+     *  @param  use The text use.
+     *  @param  id  The text id.
+     *  @param  key The composed key.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: KeyCache.java 1262 2026-10-17 10:37:19Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: KeyCache.java 1262 2026-10-17 10:37:19Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record TextKey( String sourceClass, TextUse use, String id, String key ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of slots for each cache; it has to be a power of 2:
+     *  {@value}.
+     */
+    public static final int CACHE_SIZE = 1024;
+
+    /**
+     *  The minimum number of digits for a numeric message id: {@value}.
+     */
+    private static final int MESSAGE_ID_DIGITS = 6;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The cache for the message keys.
+     */
+    private static final MessageKey [] m_MessageKeys = new MessageKey [CACHE_SIZE];
+
+    /**
+     *  The cache for the text keys.
+     */
+    private static final TextKey [] m_TextKeys = new TextKey [CACHE_SIZE];
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private KeyCache() { throw new PrivateConstructorForStaticClassCalledError( KeyCache.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Composes a message key from the given prefix and the given numeric id.
+     *  The id will have at least six digits, prepended with zeroes if
+     *  required; for a negative id, the minus sign counts as one of the six
+     *  digits. The result is the same as for
+     *  <code>String.format( "%s-%06d", messagePrefix, id )</code>,
+     *  but the digits are always ASCII, independent of the current locale.
+     *
+     *  @param  messagePrefix   The message prefix.
+     *  @param  id  The message id.
+     *  @return The message key.
+     */
+    public static final String composeMessageKey( final String messagePrefix, final int id )
+    {
+        final var slot = spread( messagePrefix.hashCode() * 31 + id );
+        final var entry = m_MessageKeys [slot];
+        final String retValue;
+        if( (entry != null) && (entry.id() == id) && entry.messagePrefix().equals( messagePrefix ) )
+        {
+            retValue = entry.key();
+        }
+        else
+        {
+            final var isNegative = id < 0;
+            final var magnitude = Math.abs( (long) id );
+            var digits = 1;
+            for( var value = magnitude / 10; value > 0; value /= 10 ) ++digits;
+            final var padding = Math.max( 0, MESSAGE_ID_DIGITS - digits - (isNegative ? 1 : 0) );
+
+            final var buffer = new StringBuilder( messagePrefix.length() + 1 + (isNegative ? 1 : 0) + padding + digits );
+            buffer.append( messagePrefix ).append( '-' );
+            if( isNegative ) buffer.append( '-' );
+            buffer.repeat( '0', padding );
+            buffer.append( magnitude );
+            retValue = buffer.toString();
+            m_MessageKeys [slot] = new MessageKey( messagePrefix, id, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  composeMessageKey()
+
+    /**
+     *  Composes a text key from the given class name, text use and id. The
+     *  result is the same as for
+     *  <code>String.format( "%s.%s_%s", sourceClass, use.name(), id )</code>.
+     *
+     *  @param  sourceClass The name of the class where the text was defined.
+     *  @param  use The text use.
+     *  @param  id  The text id.
+     *  @return The text key.
+     */
+    public static final String composeTextKey( final String sourceClass, final TextUse use, final String id )
+    {
+        final var slot = spread( (sourceClass.hashCode() * 31 + use.ordinal()) * 31 + id.hashCode() );
+        final var entry = m_TextKeys [slot];
+        final String retValue;
+        if( (entry != null) && (entry.use() == use) && entry.id().equals( id ) && entry.sourceClass().equals( sourceClass ) )
+        {
+            retValue = entry.key();
+        }
+        else
+        {
+            retValue = sourceClass + '.' + use.name() + '_' + id;
+            m_TextKeys [slot] = new TextKey( sourceClass, use, id, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  composeTextKey()
+
+    /**
+     *  Calculates the cache slot from the given hash value.
+     *
+     *  @param  hash    The hash value.
+     *  @return The slot.
+     */
+    private static final int spread( final int hash ) { return (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1); }
+}
+//  class KeyCache
+
+/*
+ *  End of File
+ */
\ No newline at end of file
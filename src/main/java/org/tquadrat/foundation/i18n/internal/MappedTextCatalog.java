@@ -0,0 +1,299 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static java.lang.Integer.remainderUnsigned;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.HEADER_SIZE;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.MAGIC;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.POS_BUCKET_COUNT;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.POS_ENTRY_COUNT;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.POS_LOCALE;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.POS_POOL;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.POS_TABLE_SIZE;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.POS_VERSION;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.VERSION;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.checkString;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.hash;
+import static org.tquadrat.foundation.i18n.internal.BinaryCatalogFormat.readString;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.TextCatalog;
+
+/**
+ *  <p>{@summary The implementation of
+ *  {@link TextCatalog}
+ *  for a binary catalog file that is mapped into memory.}</p>
+ *  <p>Keys and texts are decoded only on their first access; the decoded
+ *  keys and the compiled templates are kept in arrays that are indexed by
+ *  the slot in the key index. The format of the file is described in
+ *  {@link BinaryCatalogFormat}.</p>
+ *  <p>The offsets in the key index are validated when the catalog is
+ *  created, so that a corrupted file is rejected at once, instead of
+ *  failing later on the access to a single text.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: MappedTextCatalog.java 1303 2026-10-18 17:31:05Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: MappedTextCatalog.java 1303 2026-10-18 17:31:05Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class MappedTextCatalog extends AbstractTextCatalog
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of buckets.
+     */
+    private final int m_BucketCount;
+
+    /**
+     *  The buffer with the contents of the catalog file.
+     */
+    private final ByteBuffer m_Buffer;
+
+    /**
+     *  The number of entries.
+     */
+    private final int m_EntryCount;
+
+    /**
+     *  The keys that were already decoded, by slot.
+     */
+    private final String [] m_Keys;
+
+    /**
+     *  The locale for this catalog.
+     */
+    private final Locale m_Locale;
+
+    /**
+     *  The position of the string pool.
+     */
+    private final int m_PoolPosition;
+
+    /**
+     *  The position of the key index.
+     */
+    private final int m_SlotsPosition;
+
+    /**
+     *  The number of slots in the key index.
+     */
+    private final int m_TableSize;
+
+    /**
+     *  The templates that were already compiled, by slot.
+     */
+    private final TextTemplate [] m_Templates;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MappedTextCatalog} instance.
+     *
+     *  @param  buffer  The buffer with the contents of the catalog file.
+     *  @throws IllegalArgumentException    The buffer does not contain a
+     *      valid catalog.
+     */
+    public MappedTextCatalog( final ByteBuffer buffer ) throws IllegalArgumentException
+    {
+        m_Buffer = buffer;
+        if( (buffer.limit() < HEADER_SIZE) || (buffer.getInt( 0 ) != MAGIC) ) throw new IllegalArgumentException( "Not a binary text catalog" );
+        if( buffer.getShort( POS_VERSION ) != VERSION ) throw new IllegalArgumentException( "Unsupported catalog version: %d".formatted( buffer.getShort( POS_VERSION ) ) );
+        m_EntryCount = buffer.getInt( POS_ENTRY_COUNT );
+        m_TableSize = buffer.getInt( POS_TABLE_SIZE );
+        m_BucketCount = buffer.getInt( POS_BUCKET_COUNT );
+        m_PoolPosition = buffer.getInt( POS_POOL );
+
+        /*
+         * The sizes are checked against the size of the buffer before any
+         * array is allocated, so that a truncated or corrupted file is
+         * reported as such instead of causing an OutOfMemoryError.
+         */
+        final long limit = buffer.limit();
+        if( (m_EntryCount < 0) || (m_EntryCount > limit) ) throw new IllegalArgumentException( "Invalid entry count: %d".formatted( m_EntryCount ) );
+        if( (m_TableSize < 1) || (m_TableSize < m_EntryCount) || (m_TableSize > limit) ) throw new IllegalArgumentException( "Invalid table size: %d".formatted( m_TableSize ) );
+        if( (m_BucketCount < 1) || (m_BucketCount > limit) ) throw new IllegalArgumentException( "Invalid bucket count: %d".formatted( m_BucketCount ) );
+        final var indexEnd = HEADER_SIZE + (long) m_BucketCount * Integer.BYTES + (long) m_TableSize * 2 * Integer.BYTES;
+        if( (m_PoolPosition < indexEnd) || (m_PoolPosition > limit) ) throw new IllegalArgumentException( "Invalid pool position: %d".formatted( m_PoolPosition ) );
+        m_SlotsPosition = HEADER_SIZE + m_BucketCount * Integer.BYTES;
+        m_Locale = Locale.forLanguageTag( readString( buffer, m_PoolPosition + buffer.getInt( POS_LOCALE ) ) );
+
+        //---* Validate the key index *----------------------------------------
+        var entries = 0;
+        for( var slot = 0; slot < m_TableSize; ++slot )
+        {
+            final var keyOffset = buffer.getInt( m_SlotsPosition + slot * 2 * Integer.BYTES );
+            final var textOffset = buffer.getInt( m_SlotsPosition + (slot * 2 + 1) * Integer.BYTES );
+            if( keyOffset == -1 )
+            {
+                if( textOffset != -1 ) throw new IllegalArgumentException( "Invalid text offset in empty slot %d: %d".formatted( slot, textOffset ) );
+            }
+            else
+            {
+                if( keyOffset < 0 ) throw new IllegalArgumentException( "Invalid key offset in slot %d: %d".formatted( slot, keyOffset ) );
+                if( textOffset < 0 ) throw new IllegalArgumentException( "Invalid text offset in slot %d: %d".formatted( slot, textOffset ) );
+                checkString( buffer, (long) m_PoolPosition + keyOffset );
+                checkString( buffer, (long) m_PoolPosition + textOffset );
+                ++entries;
+            }
+        }
+        if( entries != m_EntryCount ) throw new IllegalArgumentException( "Invalid entry count: %d".formatted( m_EntryCount ) );
+
+        m_Keys = new String [m_TableSize];
+        m_Templates = new TextTemplate [m_TableSize];
+    }   //  MappedTextCatalog()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the key in the given slot.
+     *
+     *  @param  slot    The slot.
+     *  @return The key, or {@code null} if the slot is empty.
+     */
+    private final String getKey( final int slot )
+    {
+        var retValue = m_Keys [slot];
+        if( retValue == null )
+        {
+            final var offset = m_Buffer.getInt( m_SlotsPosition + slot * 2 * Integer.BYTES );
+            if( offset >= 0 )
+            {
+                retValue = readString( m_Buffer, m_PoolPosition + offset );
+                m_Keys [slot] = retValue;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getKey()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Locale getLocale() { return m_Locale; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final TextTemplate getTemplate( final String key )
+    {
+        TextTemplate retValue = null;
+        final var bucket = remainderUnsigned( hash( key, 0 ), m_BucketCount );
+        final var seed = m_Buffer.getInt( HEADER_SIZE + bucket * Integer.BYTES );
+        if( seed != 0 )
+        {
+            final var slot = remainderUnsigned( hash( key, seed ), m_TableSize );
+            if( key.equals( getKey( slot ) ) )
+            {
+                retValue = m_Templates [slot];
+                if( retValue == null )
+                {
+                    final var offset = m_Buffer.getInt( m_SlotsPosition + (slot * 2 + 1) * Integer.BYTES );
+                    retValue = TextTemplate.compile( readString( m_Buffer, m_PoolPosition + offset ) );
+
+                    /*
+                     * Concurrent writes to the same slot are harmless, as all
+                     * threads will write equivalent templates.
+                     */
+                    m_Templates [slot] = retValue;
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTemplate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Set<String> keySet()
+    {
+        final var retValue = new HashSet<String>( m_EntryCount * 2 );
+        for( var slot = 0; slot < m_TableSize; ++slot )
+        {
+            final var key = getKey( slot );
+            if( key != null ) retValue.add( key );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return Set.copyOf( retValue );
+    }   //  keySet()
+
+    /**
+     *  Maps the given file into memory and creates a catalog from it.
+     *
+     *  @param  file    The catalog file.
+     *  @return The catalog.
+     *  @throws IOException The file cannot be read.
+     *  @throws IllegalArgumentException    The file is not a valid binary
+     *      catalog file.
+     */
+    public static final MappedTextCatalog map( final Path file ) throws IOException, IllegalArgumentException
+    {
+        final ByteBuffer buffer;
+        try( final var channel = FileChannel.open( file, READ ) )
+        {
+            buffer = channel.map( READ_ONLY, 0, channel.size() );
+        }
+        final var retValue = new MappedTextCatalog( buffer );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  map()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int size() { return m_EntryCount; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return "%s[locale=%s, size=%d]".formatted( getClass().getSimpleName(), m_Locale, m_EntryCount ); }
+}
+//  class MappedTextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
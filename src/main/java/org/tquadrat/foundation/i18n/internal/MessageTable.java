@@ -0,0 +1,233 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The messages with a single message prefix from the compiled
+ *  texts of a resource bundle, indexed by their numeric id.}</p>
+ *  <p>Message ids are usually small, dense numbers; therefore the entries
+ *  for the ids from 0 to
+ *  {@value #DENSE_LIMIT}
+ *  (exclusive) are kept in an array that grows on demand, so that a
+ *  lookup is just an array access, without composing or hashing the
+ *  message key. Negative ids and larger ids are kept in a map as a
+ *  fallback.</p>
+ *  <p>Each entry holds the composed message key, as it is needed for the
+ *  message prefix, and the compiled template; the key is composed only on
+ *  the first request for the id.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: MessageTable.java 1294 2026-10-18 13:44:31Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: MessageTable.java 1294 2026-10-18 13:44:31Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class MessageTable
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  An entry of the message table.
+     *
+     *  @param  key The message key.
+     *  @param  template    The compiled template, or {@code null} if the
+     *      resource bundle does not contain a message for the key.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: MessageTable.java 1294 2026-10-18 13:44:31Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: MessageTable.java 1294 2026-10-18 13:44:31Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    public record Entry( String key, TextTemplate template ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The limit for the ids that are kept in the array: {@value}.
+     */
+    public static final int DENSE_LIMIT = 1 << 14;
+
+    /**
+     *  The initial size of the array: {@value}.
+     */
+    private static final int INITIAL_SIZE = 64;
+
+    /**
+     *  The maximum number of entries in the fallback map: {@value}. When
+     *  this number is exceeded, the map will be reset.
+     */
+    public static final int MAX_SPARSE_ENTRIES = 4096;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The entries for the ids from 0 to
+     *  {@value #DENSE_LIMIT}
+     *  (exclusive).
+     */
+    private volatile Entry [] m_Dense = new Entry [0];
+
+    /**
+     *  The lock for the growth of the array.
+     */
+    private final ReentrantLock m_Lock = new ReentrantLock();
+
+    /**
+     *  The message prefix.
+     */
+    private final String m_MessagePrefix;
+
+    /**
+     *  The entries for the other ids.
+     */
+    private final Map<Integer,Entry> m_Sparse = new ConcurrentHashMap<>();
+
+    /**
+     *  The compiled texts of the resource bundle.
+     */
+    private final BundleTexts m_Texts;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MessageTable} instance.
+     *
+     *  @param  texts   The compiled texts of the resource bundle.
+     *  @param  messagePrefix   The message prefix.
+     */
+    public MessageTable( final BundleTexts texts, final String messagePrefix )
+    {
+        m_Texts = texts;
+        m_MessagePrefix = messagePrefix;
+    }   //  MessageTable()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the entry for the given id.
+     *
+     *  @param  id  The message id.
+     *  @return The new entry.
+     */
+    private final Entry createEntry( final int id )
+    {
+        final var key = KeyCache.composeMessageKey( m_MessagePrefix, id );
+        final var retValue = new Entry( key, m_Texts.getTemplate( key ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createEntry()
+
+    /**
+     *  Returns the entry for the given id.
+     *
+     *  @param  id  The message id.
+     *  @return The entry.
+     */
+    public final Entry getEntry( final int id )
+    {
+        Entry retValue;
+        if( (id >= 0) && (id < DENSE_LIMIT) )
+        {
+            final var dense = m_Dense;
+            retValue = id < dense.length ? dense [id] : null;
+            if( retValue == null )
+            {
+                retValue = createEntry( id );
+                store( id, retValue );
+            }
+        }
+        else
+        {
+            retValue = m_Sparse.get( id );
+            if( retValue == null )
+            {
+                retValue = createEntry( id );
+                if( m_Sparse.size() >= MAX_SPARSE_ENTRIES ) m_Sparse.clear();
+                m_Sparse.put( id, retValue );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getEntry()
+
+    /**
+     *  Returns the message prefix.
+     *
+     *  @return The message prefix.
+     */
+    public final String getMessagePrefix() { return m_MessagePrefix; }
+
+    /**
+     *  Stores the given entry in the array, after growing it if required.
+     *
+     *  @param  id  The message id.
+     *  @param  entry   The entry.
+     */
+    private final void store( final int id, final Entry entry )
+    {
+        m_Lock.lock();
+        try
+        {
+            var dense = m_Dense;
+            if( id >= dense.length )
+            {
+                var length = Math.max( INITIAL_SIZE, dense.length );
+                while( length <= id ) length <<= 1;
+                dense = Arrays.copyOf( dense, Math.min( length, DENSE_LIMIT ) );
+            }
+            dense [id] = entry;
+
+            /*
+             * The volatile write publishes the new entry, too.
+             */
+            m_Dense = dense;
+        }
+        finally
+        {
+            m_Lock.unlock();
+        }
+    }   //  store()
+}
+//  class MessageTable
+
+/*
+ *  End of File
+ */
\ No newline at end of file
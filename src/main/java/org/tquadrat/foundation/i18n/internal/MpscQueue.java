@@ -0,0 +1,220 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A bounded, lock-free queue for multiple producers and a
+ *  single consumer.}</p>
+ *  <p>The producers claim a slot by incrementing the producer index with a
+ *  CAS operation, and publish the element with a release write to that slot;
+ *  the consumer waits for the slot to become non-{@code null}, clears it and
+ *  advances the consumer index. Only one thread at a time may call
+ *  {@link #poll()}
+ *  or
+ *  {@link #drain(Consumer, int)}.</p>
+ *
+ *  @param  <E> The type of the elements.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: MpscQueue.java 1271 2026-10-17 17:09:58Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: MpscQueue.java 1271 2026-10-17 17:09:58Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class MpscQueue<E>
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The capacity of the queue; always a power of 2.
+     */
+    private final int m_Capacity;
+
+    /**
+     *  The index of the next element that will be taken by the consumer.
+     */
+    private volatile long m_ConsumerIndex = 0;
+
+    /**
+     *  The mask for the slot index.
+     */
+    private final int m_Mask;
+
+    /**
+     *  The index of the next slot that will be claimed by a producer.
+     */
+    private final AtomicLong m_ProducerIndex = new AtomicLong();
+
+    /**
+     *  The slots.
+     */
+    private final AtomicReferenceArray<E> m_Slots;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MpscQueue} instance.
+     *
+     *  @param  capacity    The requested capacity; it will be rounded up to
+     *      the next power of 2.
+     */
+    public MpscQueue( final int capacity )
+    {
+        if( (capacity < 1) || (capacity > (1 << 30)) ) throw new IllegalArgumentException( "Invalid capacity: %d".formatted( capacity ) );
+        m_Capacity = capacity == 1 ? 1 : Integer.highestOneBit( capacity - 1 ) << 1;
+        m_Mask = m_Capacity - 1;
+        m_Slots = new AtomicReferenceArray<>( m_Capacity );
+    }   //  MpscQueue()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Takes up to the given number of elements from the queue and hands them
+     *  to the given consumer. May be called by the consumer thread only.
+     *
+     *  @param  consumer    The consumer for the elements.
+     *  @param  limit   The maximum number of elements to take.
+     *  @return The number of elements that were taken.
+     */
+    public final int drain( final Consumer<? super E> consumer, final int limit )
+    {
+        var retValue = 0;
+        E element;
+        while( (retValue < limit) && ((element = poll()) != null) )
+        {
+            consumer.accept( element );
+            ++retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  drain()
+
+    /**
+     *  Returns the capacity of the queue.
+     *
+     *  @return The capacity.
+     */
+    public final int getCapacity() { return m_Capacity; }
+
+    /**
+     *  Checks whether the queue is empty.
+     *
+     *  @return {@code true} if the queue is empty, {@code false} otherwise.
+     */
+    public final boolean isEmpty() { return m_ConsumerIndex == m_ProducerIndex.get(); }
+
+    /**
+     *  Adds the given element to the queue, if there is space left. May be
+     *  called by any thread.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the element was added, {@code false} if the
+     *      queue is full.
+     */
+    public final boolean offer( final E element )
+    {
+        requireNonNullArgument( element, "element" );
+
+        var retValue = true;
+        long index;
+        ClaimLoop: do
+        {
+            index = m_ProducerIndex.get();
+            if( index - m_ConsumerIndex >= m_Capacity )
+            {
+                retValue = false;
+                break ClaimLoop;
+            }
+        }
+        while( !m_ProducerIndex.compareAndSet( index, index + 1 ) );   //  ClaimLoop:
+        if( retValue ) m_Slots.setRelease( (int) (index & m_Mask), element );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  offer()
+
+    /**
+     *  Takes the next element from the queue. May be called by the consumer
+     *  thread only.
+     *
+     *  @return The element, or {@code null} if the queue is empty.
+     */
+    public final E poll()
+    {
+        final var index = m_ConsumerIndex;
+        final var slot = (int) (index & m_Mask);
+        var retValue = m_Slots.getAcquire( slot );
+        if( (retValue == null) && (index != m_ProducerIndex.get()) )
+        {
+            /*
+             * A producer has claimed the slot, but not yet published the
+             * element; this takes only a few instructions.
+             */
+            do
+            {
+                Thread.onSpinWait();
+                retValue = m_Slots.getAcquire( slot );
+            }
+            while( retValue == null );
+        }
+        if( retValue != null )
+        {
+            m_Slots.setRelease( slot, null );
+            m_ConsumerIndex = index + 1;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  poll()
+
+    /**
+     *  Returns the number of elements in the queue. The value is a snapshot
+     *  only.
+     *
+     *  @return The number of elements.
+     */
+    public final int size()
+    {
+        final var retValue = (int) Math.max( 0L, Math.min( m_Capacity, m_ProducerIndex.get() - m_ConsumerIndex ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  size()
+}
+//  class MpscQueue
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,1121 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+import static java.util.Locale.Category.FORMAT;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The compiled form of a text or message pattern as it is
+ *  stored in a resource bundle.}</p>
+ *  <p>The pattern is parsed only once into a sequence of literals and format
+ *  specifiers; the literals are already processed with
+ *  {@link String#translateEscapes()}.
+ *  Rendering the template yields the same result as</p>
+ *  <pre><code>String.format( pattern, args ).translateEscapes()</code></pre>
+ *  <p>but the simple specifiers {@code %s} and {@code %d} are rendered
+ *  directly into the target buffer; all other specifiers are delegated to a
+ *  {@link Formatter},
+ *  one at a time.</p>
+ *  <p>For the rare patterns where the result of the escape translation
+ *  depends on the arguments (a literal ends with an incomplete escape
+ *  sequence, or a formatted argument contains a backslash), the template
+ *  falls back to the original implementation.</p>
+ *  <p>A pattern without any format specifier that consumes an argument is
+ *  classified as <i>static</i>: its text is computed once, when the pattern
+ *  is compiled, and rendering it just returns that text, regardless of the
+ *  arguments. If such a pattern does not even contain a percent sign or a
+ *  backslash, the pattern itself is the text, and compiling it does not
+ *  allocate anything but the template.</p>
+ *  <p>Besides the generic variant that takes the arguments as an array,
+ *  there are overloads of
+ *  {@link #render(Object)}
+ *  for up to four arguments that do not need an array, and overloads for
+ *  single {@code int}, {@code long} and {@code double} arguments that render
+ *  the number without boxing it, as long as the pattern refers to it only
+ *  through a plain {@code %s} or {@code %d}.</p>
+ *  <p>Instances of this class are immutable and therefore thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TextTemplate.java 1272 2026-10-17 17:48:23Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: TextTemplate.java 1272 2026-10-17 17:48:23Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class TextTemplate
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  A single format specifier from the pattern.
+     *
+     *  @param  kind    The kind of the specifier; one of
+     *      {@link #KIND_STRING},
+     *      {@link #KIND_DECIMAL},
+     *      {@link #KIND_GENERIC},
+     *      or
+     *      {@link #KIND_NOARGUMENT}.
+     *  @param  argumentIndex   The index of the argument that is consumed by
+     *      this specifier, or -1 if there is no argument for it.
+     *  @param  format  The specifier with the argument index removed, as it
+     *      will be handed over to the
+     *      {@link Formatter}.
+     *  @param  source  The specifier as it was given in the pattern.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TextTemplate.java 1272 2026-10-17 17:48:23Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TextTemplate.java 1272 2026-10-17 17:48:23Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record Specifier( int kind, int argumentIndex, String format, String source ) {}
+
+    /**
+     *  The zero digit for a locale.
+     *
+     *  @param  locale  The locale.
+     *  @param  isAscii {@code true} if the zero digit for the locale is the
+     *      ASCII character '0', {@code false} otherwise.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TextTemplate.java 1272 2026-10-17 17:48:23Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TextTemplate.java 1272 2026-10-17 17:48:23Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record ZeroDigit( Locale locale, boolean isAscii ) {}
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The flags that are allowed for a format specifier: {@value}.
+     */
+    private static final String FLAGS = "-#+ 0,(<";
+
+    /**
+     *  The conversions that are known to
+     *  {@link Formatter}
+     *  (without the date/time conversions): {@value}.
+     */
+    private static final String CONVERSIONS = "bBhHsScCdoxXeEfgGaA%n";
+
+    /**
+     *  The kind for a specifier that needs a
+     *  {@link Formatter}
+     *  but no argument: {@value}.
+     */
+    private static final int KIND_NOARGUMENT = 0;
+
+    /**
+     *  The kind for a specifier that is a plain {@code %s}: {@value}.
+     */
+    private static final int KIND_STRING = 1;
+
+    /**
+     *  The kind for a specifier that is a plain {@code %d}: {@value}.
+     */
+    private static final int KIND_DECIMAL = 2;
+
+    /**
+     *  The kind for any other specifier: {@value}.
+     */
+    private static final int KIND_GENERIC = 3;
+
+    /**
+     *  An empty array of specifiers.
+     */
+    private static final Specifier [] NO_SPECIFIERS = new Specifier [0];
+
+    /**
+     *  The type for an {@code int} argument: {@value}.
+     */
+    private static final int TYPE_INT = 0;
+
+    /**
+     *  The type for a {@code long} argument: {@value}.
+     */
+    private static final int TYPE_LONG = 1;
+
+    /**
+     *  The type for a {@code double} argument: {@value}.
+     */
+    private static final int TYPE_DOUBLE = 2;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The estimated length of the rendered text.
+     */
+    private final int m_EstimatedLength;
+
+    /**
+     *  {@code true} if the pattern cannot be compiled and the text will be
+     *  rendered the classic way.
+     */
+    private final boolean m_IsLegacy;
+
+    /**
+     *  The literals; there is always one more literal than there are
+     *  specifiers, but literals may be empty.
+     */
+    private final String [] m_Literals;
+
+    /**
+     *  The original pattern.
+     */
+    private final String m_Pattern;
+
+    /**
+     *  The format specifiers.
+     */
+    private final Specifier [] m_Specifiers;
+
+    /**
+     *  The text for a static pattern; {@code null} if the pattern has
+     *  format specifiers.
+     */
+    private final String m_StaticText;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The zero digit for the locale that was used last.
+     */
+    private static volatile ZeroDigit m_LastZeroDigit = new ZeroDigit( Locale.ROOT, true );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TextTemplate} instance.
+     *
+     *  @param  pattern The original pattern.
+     *  @param  literals    The literals, already processed by
+     *      {@link String#translateEscapes()};
+     *      {@code null} if the pattern could not be compiled.
+     *  @param  specifiers  The specifiers; {@code null} if the pattern could
+     *      not be compiled.
+     */
+    private TextTemplate( final String pattern, final String [] literals, final Specifier [] specifiers )
+    {
+        m_Pattern = pattern;
+        m_IsLegacy = literals == null;
+        m_Literals = literals;
+        m_Specifiers = specifiers;
+        m_EstimatedLength = pattern.length() + 16;
+        m_StaticText = (literals != null) && (specifiers.length == 0) ? literals [0] : null;
+    }   //  TextTemplate()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Renders the text with the given arguments and appends it to the given
+     *  target. If the target is a
+     *  {@link StringBuilder},
+     *  the text is rendered directly into it; for other targets, only a
+     *  {@linkplain #isStatic() static}
+     *  text is appended without an intermediate buffer. A
+     *  {@link CharBuffer}
+     *  will receive either the complete text, or nothing at all.
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target.
+     *  @param  args    The arguments.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *  @throws BufferOverflowException The target is a
+     *      {@link CharBuffer}
+     *      with not enough space left for the text.
+     */
+    public final <A extends Appendable> A appendTo( final A target, final Object... args ) throws IOException, BufferOverflowException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( args, "args" );
+
+        if( target instanceof final StringBuilder buffer )
+        {
+            renderTo( buffer, args );
+        }
+        else if( m_StaticText != null )
+        {
+            target.append( m_StaticText );
+        }
+        else if( target instanceof final CharBuffer charBuffer )
+        {
+            copy( renderTo( new StringBuilder( m_EstimatedLength ), args ), charBuffer );
+        }
+        else
+        {
+            target.append( renderTo( new StringBuilder( m_EstimatedLength ), args ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  appendTo()
+
+    /**
+     *  Returns the argument for the given specifier.
+     *
+     *  @param  specifier   The specifier.
+     *  @param  count   The number of arguments.
+     *  @param  args    The arguments; if {@code null}, the arguments are
+     *      taken from {@code arg0} to {@code arg3}.
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @param  arg2    The third argument.
+     *  @param  arg3    The fourth argument.
+     *  @return The argument; can be {@null}.
+     *  @throws MissingFormatArgumentException  There is no argument for the
+     *      specifier.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private static final Object argument( final Specifier specifier, final int count, final Object [] args, final Object arg0, final Object arg1, final Object arg2, final Object arg3 ) throws MissingFormatArgumentException
+    {
+        final var index = specifier.argumentIndex();
+        if( (index < 0) || (index >= count) ) throw new MissingFormatArgumentException( specifier.source() );
+        final var retValue = args != null ? args [index] : switch( index )
+        {
+            case 0 -> arg0;
+            case 1 -> arg1;
+            case 2 -> arg2;
+            default -> arg3;
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  argument()
+
+    /**
+     *  Returns the given number, boxed according to its type.
+     *
+     *  @param  type    The type of the number; one of
+     *      {@link #TYPE_INT},
+     *      {@link #TYPE_LONG},
+     *      or
+     *      {@link #TYPE_DOUBLE}.
+     *  @param  longValue   The value for an integral number.
+     *  @param  doubleValue The value for a floating point number.
+     *  @return The boxed number.
+     */
+    private static final Number box( final int type, final long longValue, final double doubleValue )
+    {
+        final Number retValue = switch( type )
+        {
+            case TYPE_INT -> Integer.valueOf( (int) longValue );
+            case TYPE_LONG -> Long.valueOf( longValue );
+            default -> Double.valueOf( doubleValue );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  box()
+
+    /**
+     *  Compiles the given pattern. This method will not fail; if the pattern
+     *  is invalid, the returned template will throw the same exception on
+     *  rendering as
+     *  {@link String#format(String, Object...)}
+     *  would throw.
+     *
+     *  @param  pattern The pattern.
+     *  @return The template.
+     */
+    public static final TextTemplate compile( final String pattern )
+    {
+        requireNonNullArgument( pattern, "pattern" );
+
+        final var retValue = (pattern.indexOf( '%' ) < 0) && (pattern.indexOf( '\\' ) < 0)
+            ? new TextTemplate( pattern, new String [] {pattern}, NO_SPECIFIERS )
+            : parse( pattern );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compile()
+
+    /**
+     *  Checks whether the given buffer contains a backslash after the given
+     *  position.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  start   The start position.
+     *  @return {@code true} if there is a backslash, {@code false}
+     *      otherwise.
+     */
+    private static final boolean containsBackslash( final CharSequence buffer, final int start )
+    {
+        var retValue = false;
+        final var length = buffer.length();
+        for( var i = start; (i < length) && !retValue; ++i ) retValue = buffer.charAt( i ) == '\\';
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  containsBackslash()
+
+    /**
+     *  Copies the contents of the given buffer to the given character buffer,
+     *  without creating a {@code String} from it.
+     *
+     *  @param  source  The source buffer.
+     *  @param  target  The target buffer.
+     *  @throws BufferOverflowException The target buffer does not have
+     *      enough space left; it remains unchanged in that case.
+     */
+    private static final void copy( final StringBuilder source, final CharBuffer target ) throws BufferOverflowException
+    {
+        final var length = source.length();
+        if( target.remaining() < length ) throw new BufferOverflowException();
+        if( target.hasArray() )
+        {
+            final var position = target.position();
+            source.getChars( 0, length, target.array(), target.arrayOffset() + position );
+            target.position( position + length );
+        }
+        else
+        {
+            for( var i = 0; i < length; ++i ) target.put( source.charAt( i ) );
+        }
+    }   //  copy()
+
+    /**
+     *  Returns the original pattern for this template.
+     *
+     *  @return The pattern.
+     */
+    public final String getPattern() { return m_Pattern; }
+
+    /**
+     *  Returns the text for a static template.
+     *
+     *  @return The text, or {@code null} if this template is not
+     *      {@linkplain #isStatic() static}.
+     */
+    public final String getStaticText() { return m_StaticText; }
+
+    /**
+     *  Checks whether the given literal ends with an escape sequence that may
+     *  be continued by the text that follows it.
+     *
+     *  @param  literal The literal, before the escapes were translated.
+     *  @return {@code true} if the last escape sequence is open,
+     *      {@code false} otherwise.
+     */
+    private static final boolean hasOpenEscape( final String literal )
+    {
+        var retValue = false;
+        final var length = literal.length();
+        var pos = 0;
+        ScanLoop: while( pos < length )
+        {
+            if( literal.charAt( pos++ ) != '\\' ) continue ScanLoop;
+            if( pos >= length )
+            {
+                retValue = true;
+                break ScanLoop;
+            }
+            final var c = literal.charAt( pos++ );
+            if( (c >= '0') && (c <= '7') )
+            {
+                final var limit = pos + (c <= '3' ? 2 : 1);
+                while( (pos < length) && (pos < limit) && (literal.charAt( pos ) >= '0') && (literal.charAt( pos ) <= '7') ) ++pos;
+                retValue = (pos >= length) && (pos < limit);
+            }
+            else
+            {
+                retValue = (c == '\r') && (pos >= length);
+            }
+        }   //  ScanLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hasOpenEscape()
+
+    /**
+     *  Checks whether the zero digit for the given locale is the ASCII
+     *  character '0'.
+     *
+     *  @param  locale  The locale.
+     *  @return {@code true} if the zero digit for the given locale is '0',
+     *      {@code false} otherwise.
+     */
+    private static final boolean isAsciiZero( final Locale locale )
+    {
+        var zeroDigit = m_LastZeroDigit;
+        if( !zeroDigit.locale().equals( locale ) )
+        {
+            zeroDigit = new ZeroDigit( locale, DecimalFormatSymbols.getInstance( locale ).getZeroDigit() == '0' );
+            m_LastZeroDigit = zeroDigit;
+        }
+        final var retValue = zeroDigit.isAscii();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isAsciiZero()
+
+    /**
+     *  Checks whether this template is static, meaning that its text does not
+     *  depend on any argument.
+     *
+     *  @return {@code true} if the template is static, {@code false} if it
+     *      has format specifiers.
+     */
+    public final boolean isStatic() { return m_StaticText != null; }
+
+    /**
+     *  Renders the text the classic way.
+     *
+     *  @param  args    The arguments.
+     *  @return The rendered text.
+     */
+    private final String legacyRender( final Object [] args )
+    {
+        final var retValue = format( m_Pattern, args ).translateEscapes();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  legacyRender()
+
+    /**
+     *  Parses the given pattern into literals and format specifiers.
+     *
+     *  @param  pattern The pattern.
+     *  @return The template.
+     */
+    private static final TextTemplate parse( final String pattern )
+    {
+        final var literals = new ArrayList<String>();
+        final var specifiers = new ArrayList<Specifier>();
+        final var literal = new StringBuilder();
+        var ordinaryIndex = -1;
+        var lastIndex = -1;
+        var isValid = true;
+        final var length = pattern.length();
+        var pos = 0;
+        ParseLoop: while( pos < length )
+        {
+            final var c = pattern.charAt( pos );
+            if( c != '%' )
+            {
+                literal.append( c );
+                ++pos;
+                continue ParseLoop;
+            }
+
+            final var start = pos++;
+
+            //---* The explicit argument index *-------------------------------
+            var explicitIndex = 0;
+            var end = skipDigits( pattern, pos );
+            if( (end > pos) && (end < length) && (pattern.charAt( end ) == '$') )
+            {
+                try
+                {
+                    explicitIndex = Integer.parseInt( pattern, pos, end, 10 );
+                }
+                catch( final NumberFormatException ignored )
+                {
+                    explicitIndex = 0;
+                }
+                if( explicitIndex <= 0 )
+                {
+                    isValid = false;
+                    break ParseLoop;
+                }
+                pos = end + 1;
+            }
+
+            //---* The flags *-------------------------------------------------
+            end = pos;
+            while( (end < length) && (FLAGS.indexOf( pattern.charAt( end ) ) >= 0) ) ++end;
+            final var flags = pattern.substring( pos, end );
+            pos = end;
+
+            //---* The width *-------------------------------------------------
+            end = skipDigits( pattern, pos );
+            final var width = pattern.substring( pos, end );
+            pos = end;
+
+            //---* The precision *---------------------------------------------
+            var precision = "";
+            if( (pos < length) && (pattern.charAt( pos ) == '.') )
+            {
+                end = skipDigits( pattern, pos + 1 );
+                if( end == pos + 1 )
+                {
+                    isValid = false;
+                    break ParseLoop;
+                }
+                precision = pattern.substring( pos, end );
+                pos = end;
+            }
+
+            //---* The conversion *--------------------------------------------
+            if( pos >= length )
+            {
+                isValid = false;
+                break ParseLoop;
+            }
+            final var conversionStart = pos;
+            final var conversion = pattern.charAt( pos++ );
+            if( (conversion == 't') || (conversion == 'T') )
+            {
+                if( pos++ >= length )
+                {
+                    isValid = false;
+                    break ParseLoop;
+                }
+            }
+            else if( CONVERSIONS.indexOf( conversion ) < 0 )
+            {
+                isValid = false;
+                break ParseLoop;
+            }
+            final var source = pattern.substring( start, pos );
+
+            //---* Create the specifier *--------------------------------------
+            if( (conversion == '%') || (conversion == 'n') )
+            {
+                switch( source )
+                {
+                    case "%%" -> literal.append( '%' );
+                    case "%n" -> literal.append( lineSeparator() );
+                    default ->
+                    {
+                        literals.add( literal.toString() );
+                        literal.setLength( 0 );
+                        specifiers.add( new Specifier( KIND_NOARGUMENT, -1, source, source ) );
+                    }
+                }
+                continue ParseLoop;
+            }
+
+            final int argumentIndex;
+            if( flags.indexOf( '<' ) >= 0 )
+            {
+                argumentIndex = lastIndex;
+            }
+            else if( explicitIndex > 0 )
+            {
+                argumentIndex = explicitIndex - 1;
+                lastIndex = argumentIndex;
+            }
+            else
+            {
+                argumentIndex = ++ordinaryIndex;
+                lastIndex = argumentIndex;
+            }
+
+            final var isPlain = flags.isEmpty() && width.isEmpty() && precision.isEmpty();
+            final var kind = isPlain && (conversion == 's')
+                ? KIND_STRING
+                : isPlain && (conversion == 'd')
+                    ? KIND_DECIMAL
+                    : KIND_GENERIC;
+            final var format = "%" + flags.replace( "<", "" ) + width + precision + pattern.substring( conversionStart, pos );
+            literals.add( literal.toString() );
+            literal.setLength( 0 );
+            specifiers.add( new Specifier( kind, argumentIndex, format, source ) );
+        }   //  ParseLoop:
+        literals.add( literal.toString() );
+
+        //---* Process the escapes *-------------------------------------------
+        String [] translatedLiterals = null;
+        if( isValid )
+        {
+            translatedLiterals = new String [literals.size()];
+            TranslateLoop: for( var i = 0; i < translatedLiterals.length; ++i )
+            {
+                final var raw = literals.get( i );
+                if( (i < translatedLiterals.length - 1) && hasOpenEscape( raw ) )
+                {
+                    translatedLiterals = null;
+                    break TranslateLoop;
+                }
+                try
+                {
+                    translatedLiterals [i] = raw.translateEscapes();
+                }
+                catch( final IllegalArgumentException ignored )
+                {
+                    translatedLiterals = null;
+                    break TranslateLoop;
+                }
+            }   //  TranslateLoop:
+        }
+
+        final var retValue = translatedLiterals == null
+            ? new TextTemplate( pattern, null, null )
+            : new TextTemplate( pattern, translatedLiterals, specifiers.toArray( Specifier []::new ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parse()
+
+    /**
+     *  Renders the text with the given arguments. For a
+     *  {@linkplain #isStatic() static}
+     *  template, the arguments are ignored and the pre-computed text is
+     *  returned.
+     *
+     *  @param  args    The arguments.
+     *  @return The rendered text.
+     */
+    public final String render( final Object... args )
+    {
+        requireNonNullArgument( args, "args" );
+
+        final var retValue = render( args.length, args, null, null, null, null );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Renders the text with the given argument, without putting it into an
+     *  array.
+     *
+     *  @param  arg0    The argument.
+     *  @return The rendered text.
+     */
+    public final String render( final Object arg0 ) { return render( 1, null, arg0, null, null, null ); }
+
+    /**
+     *  Renders the text with the given arguments, without putting them into
+     *  an array.
+     *
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @return The rendered text.
+     */
+    public final String render( final Object arg0, final Object arg1 ) { return render( 2, null, arg0, arg1, null, null ); }
+
+    /**
+     *  Renders the text with the given arguments, without putting them into
+     *  an array.
+     *
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @param  arg2    The third argument.
+     *  @return The rendered text.
+     */
+    public final String render( final Object arg0, final Object arg1, final Object arg2 ) { return render( 3, null, arg0, arg1, arg2, null ); }
+
+    /**
+     *  Renders the text with the given arguments, without putting them into
+     *  an array.
+     *
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @param  arg2    The third argument.
+     *  @param  arg3    The fourth argument.
+     *  @return The rendered text.
+     */
+    public final String render( final Object arg0, final Object arg1, final Object arg2, final Object arg3 ) { return render( 4, null, arg0, arg1, arg2, arg3 ); }
+
+    /**
+     *  Renders the text with the given {@code int} argument. As long as the
+     *  pattern refers to the argument only through {@code %s} or
+     *  {@code %d}, the number is not boxed.
+     *
+     *  @param  arg0    The argument.
+     *  @return The rendered text.
+     */
+    public final String render( final int arg0 ) { return renderNumber( TYPE_INT, arg0, 0.0 ); }
+
+    /**
+     *  Renders the text with the given {@code long} argument. As long as the
+     *  pattern refers to the argument only through {@code %s} or
+     *  {@code %d}, the number is not boxed.
+     *
+     *  @param  arg0    The argument.
+     *  @return The rendered text.
+     */
+    public final String render( final long arg0 ) { return renderNumber( TYPE_LONG, arg0, 0.0 ); }
+
+    /**
+     *  Renders the text with the given {@code double} argument. As long as
+     *  the pattern refers to the argument only through {@code %s}, the number
+     *  is not boxed.
+     *
+     *  @param  arg0    The argument.
+     *  @return The rendered text.
+     */
+    public final String render( final double arg0 ) { return renderNumber( TYPE_DOUBLE, 0L, arg0 ); }
+
+    /**
+     *  Renders the text with the given arguments; these are either taken from
+     *  the array, or, if that is {@code null}, from the single arguments.
+     *
+     *  @param  count   The number of arguments.
+     *  @param  args    The arguments; can be {@code null}.
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @param  arg2    The third argument.
+     *  @param  arg3    The fourth argument.
+     *  @return The rendered text.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private final String render( final int count, final Object [] args, final Object arg0, final Object arg1, final Object arg2, final Object arg3 )
+    {
+        String retValue;
+        if( m_StaticText != null )
+        {
+            retValue = m_StaticText;
+        }
+        else if( m_IsLegacy )
+        {
+            retValue = legacyRender( toArray( count, args, arg0, arg1, arg2, arg3 ) );
+        }
+        else
+        {
+            final var buffer = new StringBuilder( m_EstimatedLength );
+            retValue = tryRender( buffer, count, args, arg0, arg1, arg2, arg3 )
+                ? buffer.toString()
+                : legacyRender( toArray( count, args, arg0, arg1, arg2, arg3 ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  render()
+
+    /**
+     *  Renders the text with the given number as the only argument.
+     *
+     *  @param  type    The type of the number; one of
+     *      {@link #TYPE_INT},
+     *      {@link #TYPE_LONG},
+     *      or
+     *      {@link #TYPE_DOUBLE}.
+     *  @param  longValue   The value for an integral number.
+     *  @param  doubleValue The value for a floating point number.
+     *  @return The rendered text.
+     */
+    private final String renderNumber( final int type, final long longValue, final double doubleValue )
+    {
+        String retValue;
+        if( m_StaticText != null )
+        {
+            retValue = m_StaticText;
+        }
+        else if( m_IsLegacy )
+        {
+            retValue = legacyRender( new Object [] {box( type, longValue, doubleValue )} );
+        }
+        else
+        {
+            final var buffer = new StringBuilder( m_EstimatedLength );
+            retValue = tryRenderNumber( buffer, type, longValue, doubleValue )
+                ? buffer.toString()
+                : legacyRender( new Object [] {box( type, longValue, doubleValue )} );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  renderNumber()
+
+    /**
+     *  Renders the text with the given arguments and appends it to the given
+     *  buffer. If rendering fails with an exception, the buffer is reset to
+     *  its previous contents.
+     *
+     *  @param  target  The target buffer.
+     *  @param  args    The arguments.
+     *  @return The target buffer.
+     */
+    public final StringBuilder renderTo( final StringBuilder target, final Object... args )
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( args, "args" );
+
+        if( m_StaticText != null )
+        {
+            target.append( m_StaticText );
+        }
+        else
+        {
+            final var start = target.length();
+            try
+            {
+                if( m_IsLegacy || !tryRender( target, args.length, args, null, null, null, null ) )
+                {
+                    target.setLength( start );
+                    target.append( legacyRender( args ) );
+                }
+            }
+            catch( final RuntimeException e )
+            {
+                target.setLength( start );
+                throw e;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  renderTo()
+
+    /**
+     *  Returns the position of the first character after a sequence of
+     *  digits that starts at the given position.
+     *
+     *  @param  pattern The pattern.
+     *  @param  start   The start position.
+     *  @return The position after the digits.
+     */
+    private static final int skipDigits( final String pattern, final int start )
+    {
+        var retValue = start;
+        while( (retValue < pattern.length()) && (pattern.charAt( retValue ) >= '0') && (pattern.charAt( retValue ) <= '9') ) ++retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  skipDigits()
+
+    /**
+     *  Returns the arguments as an array.
+     *
+     *  @param  count   The number of arguments.
+     *  @param  args    The arguments; if not {@code null}, this array will be
+     *      returned.
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @param  arg2    The third argument.
+     *  @param  arg3    The fourth argument.
+     *  @return The arguments.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private static final Object [] toArray( final int count, final Object [] args, final Object arg0, final Object arg1, final Object arg2, final Object arg3 )
+    {
+        final var retValue = args != null ? args : Arrays.copyOf( new Object [] {arg0, arg1, arg2, arg3}, count );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toArray()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return m_Pattern; }
+
+    /**
+     *  Renders the text with the given arguments to the given buffer. If the
+     *  result would depend on escape sequences spanning an argument, the
+     *  method stops and returns {@code false}; the buffer contents is
+     *  undefined in that case.
+     *
+     *  @param  buffer  The target buffer.
+     *  @param  count   The number of arguments.
+     *  @param  args    The arguments; if {@code null}, the arguments are
+     *      taken from {@code arg0} to {@code arg3}.
+     *  @param  arg0    The first argument.
+     *  @param  arg1    The second argument.
+     *  @param  arg2    The third argument.
+     *  @param  arg3    The fourth argument.
+     *  @return {@code true} if the text was rendered, {@code false} if the
+     *      legacy implementation has to be used instead.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private final boolean tryRender( final StringBuilder buffer, final int count, final Object [] args, final Object arg0, final Object arg1, final Object arg2, final Object arg3 )
+    {
+        var retValue = true;
+        Formatter formatter = null;
+        final var locale = Locale.getDefault( FORMAT );
+
+        buffer.append( m_Literals [0] );
+        RenderLoop: for( var i = 0; i < m_Specifiers.length; ++i )
+        {
+            final var specifier = m_Specifiers [i];
+            final var start = buffer.length();
+            var isDone = false;
+            switch( specifier.kind() )
+            {
+                case KIND_STRING ->
+                {
+                    final var argument = argument( specifier, count, args, arg0, arg1, arg2, arg3 );
+                    if( !(argument instanceof Formattable) )
+                    {
+                        buffer.append( argument );
+                        isDone = true;
+                    }
+                }
+
+                case KIND_DECIMAL ->
+                {
+                    final var argument = argument( specifier, count, args, arg0, arg1, arg2, arg3 );
+                    if( argument == null )
+                    {
+                        buffer.append( argument );
+                        isDone = true;
+                    }
+                    else if( (argument instanceof Integer || argument instanceof Long || argument instanceof Short || argument instanceof Byte) && isAsciiZero( locale ) )
+                    {
+                        buffer.append( ((Number) argument).longValue() );
+                        isDone = true;
+                    }
+                }
+
+                case KIND_NOARGUMENT ->
+                {
+                    if( formatter == null ) formatter = new Formatter( buffer, locale );
+                    formatter.format( specifier.format() );
+                    isDone = true;
+                }
+
+                default -> { /* Handled below */ }
+            }
+
+            if( !isDone )
+            {
+                final var argument = argument( specifier, count, args, arg0, arg1, arg2, arg3 );
+                if( formatter == null ) formatter = new Formatter( buffer, locale );
+                formatter.format( specifier.format(), new Object [] {argument} );
+            }
+
+            if( containsBackslash( buffer, start ) )
+            {
+                retValue = false;
+                break RenderLoop;
+            }
+            buffer.append( m_Literals [i + 1] );
+        }   //  RenderLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryRender()
+
+    /**
+     *  Renders the text with the given number as the only argument to the
+     *  given buffer. The number is boxed only for those specifiers that need
+     *  a
+     *  {@link Formatter}.
+     *  If the result would depend on escape sequences spanning an argument,
+     *  the method stops and returns {@code false}; the buffer contents is
+     *  undefined in that case.
+     *
+     *  @param  buffer  The target buffer.
+     *  @param  type    The type of the number; one of
+     *      {@link #TYPE_INT},
+     *      {@link #TYPE_LONG},
+     *      or
+     *      {@link #TYPE_DOUBLE}.
+     *  @param  longValue   The value for an integral number.
+     *  @param  doubleValue The value for a floating point number.
+     *  @return {@code true} if the text was rendered, {@code false} if the
+     *      legacy implementation has to be used instead.
+     */
+    private final boolean tryRenderNumber( final StringBuilder buffer, final int type, final long longValue, final double doubleValue )
+    {
+        var retValue = true;
+        Formatter formatter = null;
+        final var locale = Locale.getDefault( FORMAT );
+
+        buffer.append( m_Literals [0] );
+        RenderLoop: for( var i = 0; i < m_Specifiers.length; ++i )
+        {
+            final var specifier = m_Specifiers [i];
+            final var start = buffer.length();
+            if( (specifier.kind() != KIND_NOARGUMENT) && (specifier.argumentIndex() != 0) )
+            {
+                throw new MissingFormatArgumentException( specifier.source() );
+            }
+            var isDone = false;
+            switch( specifier.kind() )
+            {
+                case KIND_STRING ->
+                {
+                    if( type == TYPE_DOUBLE )
+                    {
+                        buffer.append( doubleValue );
+                    }
+                    else
+                    {
+                        buffer.append( longValue );
+                    }
+                    isDone = true;
+                }
+
+                case KIND_DECIMAL ->
+                {
+                    if( (type != TYPE_DOUBLE) && isAsciiZero( locale ) )
+                    {
+                        buffer.append( longValue );
+                        isDone = true;
+                    }
+                }
+
+                case KIND_NOARGUMENT ->
+                {
+                    if( formatter == null ) formatter = new Formatter( buffer, locale );
+                    formatter.format( specifier.format() );
+                    isDone = true;
+                }
+
+                default -> { /* Handled below */ }
+            }
+
+            if( !isDone )
+            {
+                if( formatter == null ) formatter = new Formatter( buffer, locale );
+                formatter.format( specifier.format(), box( type, longValue, doubleValue ) );
+            }
+
+            if( containsBackslash( buffer, start ) )
+            {
+                retValue = false;
+                break RenderLoop;
+            }
+            buffer.append( m_Literals [i + 1] );
+        }   //  RenderLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryRenderNumber()
+}
+//  class TextTemplate
+
+/*
+ *  End of File
+ */
\ No newline at end of file
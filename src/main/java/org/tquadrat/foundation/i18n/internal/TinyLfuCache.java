@@ -0,0 +1,907 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A concurrent cache that is bounded by the total weight of
+ *  its entries and that evicts them according to the W-TinyLFU policy.}</p>
+ *  <p>New entries are placed into a small <i>admission window</i> (1% of the
+ *  maximum weight) that is ordered by recency. Entries that overflow the
+ *  window become candidates for the <i>main space</i>, a segmented LRU with a
+ *  <i>probation</i> and a <i>protected</i> segment (80% of the main space).
+ *  When the cache exceeds its maximum weight, a candidate has to compete
+ *  with the least recently used entry of the probation segment; the one
+ *  with the lower estimated access frequency is evicted. An entry from the
+ *  probation segment that is accessed again moves to the protected segment.
+ *  The access frequencies are estimated by a
+ *  {@linkplain FrequencySketch Count-Min sketch}
+ *  with 4-bit counters that are halved periodically, so that the history
+ *  ages.</p>
+ *  <p>Reads are lock-free: they look up the entry in a
+ *  {@link ConcurrentHashMap}
+ *  and record the access in a small
+ *  {@link MpscQueue};
+ *  if that buffer is full, the access is just dropped. The buffered accesses
+ *  are applied to the policy by the thread that holds the eviction lock,
+ *  either on a write, or on a read when the buffer becomes half full and the
+ *  lock is free.</p>
+ *  <p>Values are loaded outside of any lock, so a loader may use the cache
+ *  itself; if two threads load the same key concurrently, the first value
+ *  that is stored wins.</p>
+ *
+ *  @param  <K> The type of the keys.
+ *  @param  <V> The type of the values.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TinyLfuCache.java 1302 2026-10-18 17:08:44Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: TinyLfuCache.java 1302 2026-10-18 17:08:44Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class TinyLfuCache<K,V>
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  <p>{@summary A Count-Min sketch with 4-bit counters that estimates the
+     *  access frequency of the keys.}</p>
+     *  <p>Each {@code long} of the table holds 16 counters; a key is mapped to
+     *  four counters in four different table slots, and its frequency is the
+     *  minimum of these. When the number of increments reaches ten times the
+     *  table size, all counters are halved.</p>
+     *  <p>Instances of this class are not thread-safe; they are guarded by
+     *  the eviction lock of the cache.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TinyLfuCache.java 1302 2026-10-18 17:08:44Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TinyLfuCache.java 1302 2026-10-18 17:08:44Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class FrequencySketch
+    {
+            /*-----------*\
+        ====** Constants **====================================================
+            \*-----------*/
+        /**
+         *  The mask for the lowest bit of each counter.
+         */
+        private static final long ONE_MASK = 0x1111_1111_1111_1111L;
+
+        /**
+         *  The mask that clears the highest bit of each counter after
+         *  shifting.
+         */
+        private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+        /**
+         *  The seeds for the four hash functions.
+         */
+        private static final long [] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of increments that triggers a reset.
+         */
+        private int m_SampleSize = 0;
+
+        /**
+         *  The number of increments since the last reset.
+         */
+        private int m_Size = 0;
+
+        /**
+         *  The table with the counters.
+         */
+        private long [] m_Table = new long [0];
+
+        /**
+         *  The mask for the table index.
+         */
+        private int m_TableMask = 0;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code FrequencySketch} instance.
+         */
+        public FrequencySketch() { ensureCapacity( 16 ); }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Makes sure that the table is large enough for the given number of
+         *  entries. If the table grows, the collected history is lost.
+         *
+         *  @param  capacity    The number of entries.
+         */
+        public final void ensureCapacity( final int capacity )
+        {
+            final var maximum = Math.min( Math.max( capacity, 16 ), 1 << 26 );
+            if( m_Table.length < maximum )
+            {
+                m_Table = new long [Integer.highestOneBit( maximum - 1 ) << 1];
+                m_TableMask = m_Table.length - 1;
+                m_SampleSize = 10 * m_Table.length;
+                m_Size = 0;
+            }
+        }   //  ensureCapacity()
+
+        /**
+         *  Returns the estimated access frequency of the given key.
+         *
+         *  @param  key The key.
+         *  @return The estimated frequency, from 0 to 15.
+         */
+        public final int frequency( final Object key )
+        {
+            final var hash = spread( key.hashCode() );
+            final var start = (hash & 3) << 2;
+            var retValue = Integer.MAX_VALUE;
+            for( var i = 0; i < 4; ++i )
+            {
+                final var index = indexOf( hash, i );
+                final var count = (int) ((m_Table [index] >>> ((start + i) << 2)) & 0xFL);
+                retValue = Math.min( retValue, count );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  frequency()
+
+        /**
+         *  Increments the estimated access frequency of the given key.
+         *
+         *  @param  key The key.
+         */
+        public final void increment( final Object key )
+        {
+            final var hash = spread( key.hashCode() );
+            final var start = (hash & 3) << 2;
+            var isAdded = false;
+            for( var i = 0; i < 4; ++i )
+            {
+                final var index = indexOf( hash, i );
+                final var offset = (start + i) << 2;
+                final var mask = 0xFL << offset;
+                if( (m_Table [index] & mask) != mask )
+                {
+                    m_Table [index] += 1L << offset;
+                    isAdded = true;
+                }
+            }
+            if( isAdded && (++m_Size >= m_SampleSize) ) reset();
+        }   //  increment()
+
+        /**
+         *  Returns the table index for the given hash and hash function.
+         *
+         *  @param  hash    The hash of the key.
+         *  @param  i   The number of the hash function.
+         *  @return The table index.
+         */
+        private final int indexOf( final int hash, final int i )
+        {
+            var h = (hash + SEEDS [i]) * SEEDS [i];
+            h += h >>> 32;
+            final var retValue = (int) h & m_TableMask;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  indexOf()
+
+        /**
+         *  Halves all counters.
+         */
+        private final void reset()
+        {
+            var odd = 0;
+            for( var i = 0; i < m_Table.length; ++i )
+            {
+                odd += Long.bitCount( m_Table [i] & ONE_MASK );
+                m_Table [i] = (m_Table [i] >>> 1) & RESET_MASK;
+            }
+            m_Size = (m_Size >>> 1) - (odd >>> 2);
+        }   //  reset()
+
+        /**
+         *  Spreads the bits of the given hash code.
+         *
+         *  @param  hashCode    The hash code.
+         *  @return The spread hash.
+         */
+        private static final int spread( final int hashCode )
+        {
+            var retValue = ((hashCode >>> 16) ^ hashCode) * 0x45d9f3b;
+            retValue = ((retValue >>> 16) ^ retValue) * 0x45d9f3b;
+            retValue = (retValue >>> 16) ^ retValue;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  spread()
+    }
+    //  class FrequencySketch
+
+    /**
+     *  <p>{@summary An entry of the cache.}</p>
+     *  <p>The links and the segment are guarded by the eviction lock.</p>
+     *
+     *  @param  <K> The type of the key.
+     *  @param  <V> The type of the value.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: TinyLfuCache.java 1302 2026-10-18 17:08:44Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: TinyLfuCache.java 1302 2026-10-18 17:08:44Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class Node<K,V>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The key.
+         */
+        final K m_Key;
+
+        /**
+         *  The next node in the segment.
+         */
+        Node<K,V> m_Next;
+
+        /**
+         *  The previous node in the segment.
+         */
+        Node<K,V> m_Previous;
+
+        /**
+         *  The segment the node belongs to; one of
+         *  {@link TinyLfuCache#WINDOW},
+         *  {@link TinyLfuCache#PROBATION},
+         *  {@link TinyLfuCache#PROTECTED},
+         *  or
+         *  {@link TinyLfuCache#REMOVED}.
+         */
+        int m_Segment = REMOVED;
+
+        /**
+         *  The value.
+         */
+        final V m_Value;
+
+        /**
+         *  The weight.
+         */
+        final int m_Weight;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Node} instance.
+         *
+         *  @param  key The key.
+         *  @param  value   The value.
+         *  @param  weight  The weight.
+         */
+        Node( final K key, final V value, final int weight )
+        {
+            m_Key = key;
+            m_Value = value;
+            m_Weight = weight;
+        }   //  Node()
+    }
+    //  class Node
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of buffered reads that triggers an attempt to apply them to
+     *  the policy: {@value}.
+     */
+    private static final int DRAIN_THRESHOLD = 64;
+
+    /**
+     *  The segment for a node that is no longer in the cache: {@value}.
+     */
+    private static final int REMOVED = 0;
+
+    /**
+     *  The segment for the admission window: {@value}.
+     */
+    private static final int WINDOW = 1;
+
+    /**
+     *  The segment for the probation part of the main space: {@value}.
+     */
+    private static final int PROBATION = 2;
+
+    /**
+     *  The segment for the protected part of the main space: {@value}.
+     */
+    private static final int PROTECTED = 3;
+
+    /**
+     *  The capacity of the read buffer: {@value}.
+     */
+    private static final int READ_BUFFER_SIZE = 128;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The entries.
+     */
+    private final Map<K,Node<K,V>> m_Data = new ConcurrentHashMap<>();
+
+    /**
+     *  The number of evicted entries.
+     */
+    private final LongAdder m_EvictionCount = new LongAdder();
+
+    /**
+     *  The listener that is notified about evicted entries; can be
+     *  {@code null}.
+     */
+    private final BiConsumer<? super K,? super V> m_EvictionListener;
+
+    /**
+     *  The lock that guards the policy.
+     */
+    private final ReentrantLock m_EvictionLock = new ReentrantLock();
+
+    /**
+     *  The heads of the segments, indexed by the segment.
+     */
+    private final Node<K,V> [] m_Heads;
+
+    /**
+     *  The number of cache hits.
+     */
+    private final LongAdder m_HitCount = new LongAdder();
+
+    /**
+     *  The maximum weight.
+     */
+    private final long m_MaximumWeight;
+
+    /**
+     *  The number of cache misses.
+     */
+    private final LongAdder m_MissCount = new LongAdder();
+
+    /**
+     *  The maximum weight of the protected segment.
+     */
+    private final long m_ProtectedMaximum;
+
+    /**
+     *  The current weight of the protected segment.
+     */
+    private long m_ProtectedWeight = 0;
+
+    /**
+     *  The buffer for the reads that are not yet applied to the policy.
+     */
+    private final MpscQueue<Node<K,V>> m_ReadBuffer = new MpscQueue<>( READ_BUFFER_SIZE );
+
+    /**
+     *  The access frequencies.
+     */
+    private final FrequencySketch m_Sketch = new FrequencySketch();
+
+    /**
+     *  The tails of the segments, indexed by the segment.
+     */
+    private final Node<K,V> [] m_Tails;
+
+    /**
+     *  The function that determines the weight of a value.
+     */
+    private final ToIntFunction<? super V> m_Weigher;
+
+    /**
+     *  The current total weight of the entries.
+     */
+    private volatile long m_WeightedSize = 0;
+
+    /**
+     *  The maximum weight of the admission window.
+     */
+    private final long m_WindowMaximum;
+
+    /**
+     *  The current weight of the admission window.
+     */
+    private long m_WindowWeight = 0;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TinyLfuCache} instance.
+     *
+     *  @param  maximumWeight   The maximum weight of all entries.
+     *  @param  weigher The function that determines the weight of a value;
+     *      the weight must not be negative.
+     *  @param  evictionListener    The listener that is notified about
+     *      evicted entries; can be {@code null}. It is called outside of any
+     *      lock.
+     */
+    public TinyLfuCache( final long maximumWeight, final ToIntFunction<? super V> weigher, final BiConsumer<? super K,? super V> evictionListener )
+    {
+        if( maximumWeight < 1 ) throw new IllegalArgumentException( "Invalid maximum weight: %d".formatted( maximumWeight ) );
+        m_MaximumWeight = maximumWeight;
+        m_Weigher = requireNonNullArgument( weigher, "weigher" );
+        m_EvictionListener = evictionListener;
+
+        m_WindowMaximum = Math.max( 1L, maximumWeight / 100 );
+        m_ProtectedMaximum = (maximumWeight - m_WindowMaximum) / 5 * 4;
+        m_Heads = newSegmentArray( PROTECTED + 1 );
+        m_Tails = newSegmentArray( PROTECTED + 1 );
+    }   //  TinyLfuCache()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Applies the buffered reads to the policy, and evicts entries if the
+     *  cache is too heavy; the eviction lock must be held.
+     *
+     *  @return The evicted nodes.
+     */
+    private final List<Node<K,V>> drainAndEvict()
+    {
+        m_ReadBuffer.drain( this::onAccess, READ_BUFFER_SIZE );
+        final var retValue = evict();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  drainAndEvict()
+
+    /**
+     *  Evicts entries until the total weight does not exceed the maximum
+     *  weight; the eviction lock must be held.
+     *
+     *  @return The evicted nodes.
+     */
+    private final List<Node<K,V>> evict()
+    {
+        final List<Node<K,V>> retValue = new ArrayList<>();
+
+        //---* Move the overflow of the window to probation *-----------------
+        Node<K,V> candidate = null;
+        while( (m_WindowWeight > m_WindowMaximum) && (m_Heads [WINDOW] != null) )
+        {
+            final var node = m_Heads [WINDOW];
+            unlink( node );
+            link( node, PROBATION );
+            if( candidate == null ) candidate = node;
+        }
+
+        //---* Let the candidates compete with the victims *-------------------
+        EvictLoop: while( m_WeightedSize > m_MaximumWeight )
+        {
+            final var victim = m_Heads [PROBATION] != candidate ? m_Heads [PROBATION] : m_Heads [PROTECTED];
+            final Node<K,V> evicted;
+            if( candidate == null )
+            {
+                evicted = victim != null ? victim : m_Heads [WINDOW];
+            }
+            else
+            {
+                final var next = candidate.m_Next;
+                evicted = (victim == null) || (frequency( candidate ) <= frequency( victim )) ? candidate : victim;
+                candidate = next;
+            }
+            if( evicted == null ) break EvictLoop;
+
+            unlink( evicted );
+            m_Data.remove( evicted.m_Key, evicted );
+            m_EvictionCount.increment();
+            retValue.add( evicted );
+        }   //  EvictLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  evict()
+
+    /**
+     *  Returns the estimated frequency of the given node; the eviction lock
+     *  must be held.
+     *
+     *  @param  node    The node.
+     *  @return The frequency.
+     */
+    private final int frequency( final Node<K,V> node ) { return m_Sketch.frequency( node.m_Key ); }
+
+    /**
+     *  Returns the value for the given key.
+     *
+     *  @param  key The key.
+     *  @return The value, or {@code null} if the cache does not contain an
+     *      entry for the key.
+     */
+    public final V get( final K key )
+    {
+        final var node = m_Data.get( requireNonNullArgument( key, "key" ) );
+        V retValue = null;
+        if( node == null )
+        {
+            m_MissCount.increment();
+        }
+        else
+        {
+            m_HitCount.increment();
+            retValue = node.m_Value;
+            if( m_ReadBuffer.offer( node ) && (m_ReadBuffer.size() >= DRAIN_THRESHOLD) ) tryDrain();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  get()
+
+    /**
+     *  Returns the value for the given key; if the cache does not contain an
+     *  entry for the key, the value is loaded and stored.
+     *
+     *  @param  key The key.
+     *  @param  loader  The function that loads the value; it is called
+     *      outside of any lock. If it returns {@code null}, nothing will be
+     *      stored.
+     *  @return The value; {@code null} only if the loader returned
+     *      {@code null}.
+     */
+    public final V get( final K key, final Function<? super K,? extends V> loader )
+    {
+        requireNonNullArgument( loader, "loader" );
+
+        var retValue = get( key );
+        if( retValue == null )
+        {
+            final var value = loader.apply( key );
+            if( value != null ) retValue = store( key, value, true );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  get()
+
+    /**
+     *  Returns the number of evicted entries.
+     *
+     *  @return The number of evictions.
+     */
+    public final long getEvictionCount() { return m_EvictionCount.sum(); }
+
+    /**
+     *  Returns the number of cache hits.
+     *
+     *  @return The number of hits.
+     */
+    public final long getHitCount() { return m_HitCount.sum(); }
+
+    /**
+     *  Returns the maximum weight.
+     *
+     *  @return The maximum weight.
+     */
+    public final long getMaximumWeight() { return m_MaximumWeight; }
+
+    /**
+     *  Returns the number of cache misses.
+     *
+     *  @return The number of misses.
+     */
+    public final long getMissCount() { return m_MissCount.sum(); }
+
+    /**
+     *  Returns the current total weight of the entries.
+     *
+     *  @return The weighted size.
+     */
+    public final long getWeightedSize() { return m_WeightedSize; }
+
+    /**
+     *  Removes the entry for the given key.
+     *
+     *  @param  key The key.
+     */
+    public final void invalidate( final K key )
+    {
+        requireNonNullArgument( key, "key" );
+
+        m_EvictionLock.lock();
+        try
+        {
+            final var node = m_Data.remove( key );
+            if( node != null ) unlink( node );
+        }
+        finally
+        {
+            m_EvictionLock.unlock();
+        }
+    }   //  invalidate()
+
+    /**
+     *  Removes all entries.
+     */
+    public final void invalidateAll()
+    {
+        m_EvictionLock.lock();
+        try
+        {
+            m_ReadBuffer.drain( node -> {}, READ_BUFFER_SIZE );
+            for( final var node : m_Data.values() ) unlink( node );
+            m_Data.clear();
+        }
+        finally
+        {
+            m_EvictionLock.unlock();
+        }
+    }   //  invalidateAll()
+
+    /**
+     *  Appends the given node to the given segment; the eviction lock must be
+     *  held.
+     *
+     *  @param  node    The node.
+     *  @param  segment The segment.
+     */
+    private final void link( final Node<K,V> node, final int segment )
+    {
+        node.m_Segment = segment;
+        node.m_Previous = m_Tails [segment];
+        node.m_Next = null;
+        if( m_Tails [segment] == null )
+        {
+            m_Heads [segment] = node;
+        }
+        else
+        {
+            m_Tails [segment].m_Next = node;
+        }
+        m_Tails [segment] = node;
+
+        switch( segment )
+        {
+            case WINDOW -> m_WindowWeight += node.m_Weight;
+            case PROTECTED -> m_ProtectedWeight += node.m_Weight;
+            default -> { /* Not tracked separately */ }
+        }
+        m_WeightedSize += node.m_Weight;
+    }   //  link()
+
+    /**
+     *  Creates an array that holds a node for each segment.
+     *
+     *  @param  <K> The type of the keys.
+     *  @param  <V> The type of the values.
+     *  @param  length  The length of the array.
+     *  @return The new array.
+     */
+    private static final <K,V> Node<K,V> [] newSegmentArray( final int length )
+    {
+        @SuppressWarnings( "unchecked" )
+        final var retValue = (Node<K,V> []) new Node<?,?> [length];
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  newSegmentArray()
+
+    /**
+     *  Notifies the eviction listener about the given nodes.
+     *
+     *  @param  evicted The evicted nodes.
+     */
+    private final void notifyEvicted( final List<Node<K,V>> evicted )
+    {
+        if( m_EvictionListener != null )
+        {
+            for( final var node : evicted ) m_EvictionListener.accept( node.m_Key, node.m_Value );
+        }
+    }   //  notifyEvicted()
+
+    /**
+     *  Applies an access to the given node to the policy; the eviction lock
+     *  must be held.
+     *
+     *  @param  node    The node.
+     */
+    private final void onAccess( final Node<K,V> node )
+    {
+        final var segment = node.m_Segment;
+        if( segment != REMOVED )
+        {
+            m_Sketch.increment( node.m_Key );
+            unlink( node );
+            link( node, segment == WINDOW ? WINDOW : PROTECTED );
+
+            //---* Demote the overflow of the protected segment *--------------
+            while( (m_ProtectedWeight > m_ProtectedMaximum) && (m_Heads [PROTECTED] != node) )
+            {
+                final var demoted = m_Heads [PROTECTED];
+                unlink( demoted );
+                link( demoted, PROBATION );
+            }
+        }
+    }   //  onAccess()
+
+    /**
+     *  Stores the given value for the given key; an existing entry is
+     *  replaced.
+     *
+     *  @param  key The key.
+     *  @param  value   The value.
+     */
+    public final void put( final K key, final V value )
+    {
+        store( requireNonNullArgument( key, "key" ), requireNonNullArgument( value, "value" ), false );
+    }   //  put()
+
+    /**
+     *  Returns the number of entries.
+     *
+     *  @return The number of entries.
+     */
+    public final int size() { return m_Data.size(); }
+
+    /**
+     *  Stores the given value for the given key, and evicts entries if
+     *  necessary.
+     *
+     *  @param  key The key.
+     *  @param  value   The value.
+     *  @param  onlyIfAbsent    {@code true} if an existing entry should be
+     *      kept, {@code false} if it should be replaced.
+     *  @return The value that is now in the cache for the key.
+     */
+    private final V store( final K key, final V value, final boolean onlyIfAbsent )
+    {
+        final var weight = m_Weigher.applyAsInt( value );
+        if( weight < 0 ) throw new IllegalArgumentException( "Invalid weight: %d".formatted( weight ) );
+        final var node = new Node<>( key, value, weight );
+
+        V retValue = value;
+        List<Node<K,V>> evicted;
+        m_EvictionLock.lock();
+        try
+        {
+            final var existing = m_Data.get( key );
+            if( (existing != null) && onlyIfAbsent )
+            {
+                retValue = existing.m_Value;
+                onAccess( existing );
+            }
+            else
+            {
+                if( existing != null ) unlink( existing );
+                m_Data.put( key, node );
+                m_Sketch.ensureCapacity( m_Data.size() );
+                m_Sketch.increment( key );
+                link( node, WINDOW );
+            }
+            evicted = drainAndEvict();
+        }
+        finally
+        {
+            m_EvictionLock.unlock();
+        }
+        notifyEvicted( evicted );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  store()
+
+    /**
+     *  Applies the buffered reads to the policy, if the eviction lock is
+     *  free.
+     */
+    private final void tryDrain()
+    {
+        if( m_EvictionLock.tryLock() )
+        {
+            List<Node<K,V>> evicted;
+            try
+            {
+                evicted = drainAndEvict();
+            }
+            finally
+            {
+                m_EvictionLock.unlock();
+            }
+            notifyEvicted( evicted );
+        }
+    }   //  tryDrain()
+
+    /**
+     *  Removes the given node from its segment; the eviction lock must be
+     *  held.
+     *
+     *  @param  node    The node.
+     */
+    private final void unlink( final Node<K,V> node )
+    {
+        final var segment = node.m_Segment;
+        if( segment != REMOVED )
+        {
+            if( node.m_Previous == null )
+            {
+                m_Heads [segment] = node.m_Next;
+            }
+            else
+            {
+                node.m_Previous.m_Next = node.m_Next;
+            }
+            if( node.m_Next == null )
+            {
+                m_Tails [segment] = node.m_Previous;
+            }
+            else
+            {
+                node.m_Next.m_Previous = node.m_Previous;
+            }
+            node.m_Previous = null;
+            node.m_Next = null;
+            node.m_Segment = REMOVED;
+
+            switch( segment )
+            {
+                case WINDOW -> m_WindowWeight -= node.m_Weight;
+                case PROTECTED -> m_ProtectedWeight -= node.m_Weight;
+                default -> { /* Not tracked separately */ }
+            }
+            m_WeightedSize -= node.m_Weight;
+        }
+    }   //  unlink()
+}
+//  class TinyLfuCache
+
+/*
+ *  End of File
+ */
\ No newline at end of file
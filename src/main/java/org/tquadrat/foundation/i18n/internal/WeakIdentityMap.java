@@ -0,0 +1,270 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ *
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A concurrent map that references its keys only weakly and
+ *  compares them by identity.}</p>
+ *  <p>Other than
+ *  {@link java.util.WeakHashMap},
+ *  this map needs no lock: the lookup is a plain
+ *  {@link ConcurrentHashMap#get(Object)}
+ *  with a short-lived lookup key, so any number of threads can read it
+ *  concurrently. The entries for keys that were garbage collected are
+ *  removed on the next call to one of the methods of this map.</p>
+ *  <p>The values must not reference their keys strongly, as otherwise the
+ *  keys will never be collected.</p>
+ *
+ *  @param  <K> The type of the keys.
+ *  @param  <V> The type of the values.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: WeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: WeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class WeakIdentityMap<K,V>
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  The key that is used for a lookup; it references the key strongly,
+     *  but it lives only for the duration of the lookup.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: WeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: WeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class LookupKey
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The key.
+         */
+        private final Object m_Key;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code LookupKey} instance.
+         *
+         *  @param  key The key.
+         */
+        public LookupKey( final Object key ) { m_Key = key; }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean equals( final Object o )
+        {
+            final var retValue = (o instanceof final WeakKey<?> weakKey) && (weakKey.get() == m_Key);
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  equals()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final int hashCode() { return System.identityHashCode( m_Key ); }
+    }
+    //  class LookupKey
+
+    /**
+     *  The key that is stored in the map; it references the key only
+     *  weakly.
+     *
+     *  @param  <K> The type of the key.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: WeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: WeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class WeakKey<K> extends WeakReference<K>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The identity hash code of the key; it has to be kept, as the key
+         *  may be cleared while the entry is still in the map.
+         */
+        private final int m_HashCode;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code WeakKey} instance.
+         *
+         *  @param  key The key.
+         *  @param  queue   The queue for the cleared keys.
+         */
+        public WeakKey( final K key, final ReferenceQueue<? super K> queue )
+        {
+            super( key, queue );
+            m_HashCode = System.identityHashCode( key );
+        }   //  WeakKey()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean equals( final Object o )
+        {
+            var retValue = o == this;
+            if( !retValue )
+            {
+                final var key = get();
+                retValue = (key != null)
+                    && (((o instanceof final LookupKey lookupKey) && (lookupKey.m_Key == key))
+                        || ((o instanceof final WeakKey<?> weakKey) && (weakKey.get() == key)));
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  equals()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final int hashCode() { return m_HashCode; }
+    }
+    //  class WeakKey
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The entries.
+     */
+    private final Map<Object,V> m_Entries = new ConcurrentHashMap<>();
+
+    /**
+     *  The queue for the keys that were garbage collected.
+     */
+    private final ReferenceQueue<K> m_Queue = new ReferenceQueue<>();
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the value for the given key; if there is none yet, it will
+     *  be created by the given function. The function is called only on a
+     *  miss, and at most once for each key.
+     *
+     *  @param  key The key.
+     *  @param  mappingFunction The function that creates the value.
+     *  @return The value.
+     */
+    public final V computeIfAbsent( final K key, final Function<? super K,? extends V> mappingFunction )
+    {
+        requireNonNullArgument( mappingFunction, "mappingFunction" );
+        var retValue = get( key );
+        if( retValue == null )
+        {
+            retValue = m_Entries.computeIfAbsent( new WeakKey<>( key, m_Queue ), weakKey -> mappingFunction.apply( key ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeIfAbsent()
+
+    /**
+     *  Removes the entries for the keys that were garbage collected.
+     */
+    private final void expungeStaleEntries()
+    {
+        for( var reference = m_Queue.poll(); reference != null; reference = m_Queue.poll() )
+        {
+            m_Entries.remove( reference );
+        }
+    }   //  expungeStaleEntries()
+
+    /**
+     *  Returns the value for the given key.
+     *
+     *  @param  key The key.
+     *  @return The value, or {@code null} if there is no entry for the key.
+     */
+    public final V get( final K key )
+    {
+        requireNonNullArgument( key, "key" );
+        expungeStaleEntries();
+        final var retValue = m_Entries.get( new LookupKey( key ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  get()
+
+    /**
+     *  Returns the number of entries in this map.
+     *
+     *  @return The number of entries.
+     */
+    public final int size()
+    {
+        expungeStaleEntries();
+        final var retValue = m_Entries.size();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  size()
+}
+//  class WeakIdentityMap
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,285 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link AsyncMessageRenderer}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestAsyncMessageRenderer.java 1301 2026-10-18 16:52:31Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestAsyncMessageRenderer" )
+public class TestAsyncMessageRenderer extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests rendering messages from multiple threads.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRender() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var messages = new ConcurrentLinkedQueue<String>();
+        final var candidate = new AsyncMessageRenderer( 256, messages::addAll );
+
+        candidate.submit( bundle, "MSG", 1704, true, 8080 );
+        assertTrue( candidate.flush( 10, SECONDS ) );
+        assertEquals( retrieveMessage( bundle, "MSG", 1704, true, 8080 ), messages.poll() );
+
+        final var producers = 4;
+        final var count = 10_000;
+        try( final var executor = Executors.newFixedThreadPool( producers ) )
+        {
+            for( var p = 0; p < producers; ++p )
+            {
+                final var prefix = "P" + p;
+                executor.submit( () ->
+                {
+                    for( var i = 0; i < count; ++i ) candidate.submit( bundle, prefix, i, true );
+                    return null;
+                } );
+            }
+        }
+        candidate.close();
+        assertEquals( producers * count + 1, candidate.getDeliveredCount() );
+        assertEquals( producers * count, messages.size() );
+        assertEquals( 0, candidate.getQueueDepth() );
+        assertEquals( 0, candidate.getFailedCount() );
+
+        //---* The messages from each producer are in order *------------------
+        final List<List<String>> keys = new ArrayList<>();
+        for( var p = 0; p < producers; ++p ) keys.add( new ArrayList<>() );
+        for( final var message : messages ) keys.get( message.charAt( 2 ) - '0' ).add( message.substring( 0, message.indexOf( ']' ) + 1 ) );
+        for( var p = 0; p < producers; ++p )
+        {
+            for( var i = 0; i < count; ++i ) assertEquals( "[" + I18nUtil.composeMessageKey( "P" + p, i ) + "]", keys.get( p ).get( i ) );
+        }
+
+        assertThrows( IllegalStateException.class, () -> candidate.offer( bundle, "MSG", 1704, true ) );
+    }   //  testRender()
+
+    /**
+     *  Tests the backpressure.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBackpressure() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var latch = new CountDownLatch( 1 );
+        final var candidate = new AsyncMessageRenderer( 4, 1, Thread.ofPlatform().daemon().factory(), batch ->
+        {
+            try
+            {
+                latch.await();
+            }
+            catch( final InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+        } );
+
+        var accepted = 0;
+        for( var i = 0; i < 20; ++i ) if( candidate.offer( bundle, "MSG", i, true ) ) ++accepted;
+        assertTrue( candidate.getRejectedCount() > 0 );
+        assertEquals( 20, accepted + candidate.getRejectedCount() );
+
+        latch.countDown();
+        assertTrue( candidate.flush( 10, SECONDS ) );
+        candidate.close();
+        assertEquals( accepted, candidate.getDeliveredCount() );
+    }   //  testBackpressure()
+
+    /**
+     *  Tests that no accepted request gets lost when the renderer is closed
+     *  while producers are still submitting requests.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCloseWhileProducing() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        for( var round = 0; round < 20; ++round )
+        {
+            final var received = new AtomicLong();
+            final var candidate = new AsyncMessageRenderer( 1024, batch -> received.addAndGet( batch.size() ) );
+            final var producers = 4;
+            final var start = new CountDownLatch( 1 );
+            try( final var executor = Executors.newFixedThreadPool( producers ) )
+            {
+                for( var p = 0; p < producers; ++p )
+                {
+                    executor.submit( () ->
+                    {
+                        start.await();
+                        try
+                        {
+                            while( true ) candidate.offer( bundle, "MSG", 1704, true, 8080 );
+                        }
+                        catch( final IllegalStateException ignored )
+                        {
+                            /*
+                             * The renderer was closed.
+                             */
+                        }
+                        return null;
+                    } );
+                }
+                start.countDown();
+                Thread.sleep( 2 );
+                candidate.close();
+            }
+            assertEquals( candidate.getSubmittedCount(), candidate.getDeliveredCount() );
+            assertEquals( candidate.getSubmittedCount(), received.get() );
+            assertTrue( candidate.flush( 1, SECONDS ) );
+        }
+    }   //  testCloseWhileProducing()
+
+    /**
+     *  Tests that
+     *  {@link AsyncMessageRenderer#close()}
+     *  returns with the interrupt status set when the calling thread was
+     *  interrupted, and that the pending requests are delivered anyway.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCloseInterrupted() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var latch = new CountDownLatch( 1 );
+        final var received = new AtomicLong();
+        final var candidate = new AsyncMessageRenderer( 16, 1, Thread.ofPlatform().daemon().factory(), batch ->
+        {
+            try
+            {
+                latch.await();
+            }
+            catch( final InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+            received.addAndGet( batch.size() );
+        } );
+        for( var i = 0; i < 4; ++i ) candidate.submit( bundle, "MSG", i, true );
+
+        Thread.currentThread().interrupt();
+        candidate.close();
+        assertTrue( Thread.interrupted() );
+        assertTrue( candidate.isClosed() );
+
+        latch.countDown();
+        assertTrue( candidate.flush( 10, SECONDS ) );
+        assertEquals( 4, candidate.getDeliveredCount() );
+        assertEquals( 4, received.get() );
+    }   //  testCloseInterrupted()
+
+    /**
+     *  Tests that failed requests are not counted as delivered.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testFailures() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var candidate = new AsyncMessageRenderer( 16, batch -> { throw new IllegalStateException( "Sink failed" ); } );
+        for( var i = 0; i < 10; ++i ) candidate.submit( bundle, "MSG", i, true );
+        assertTrue( candidate.flush( 10, SECONDS ) );
+        candidate.close();
+        assertEquals( 10, candidate.getSubmittedCount() );
+        assertEquals( 10, candidate.getFailedCount() );
+        assertEquals( 0, candidate.getDeliveredCount() );
+        assertTrue( candidate.isClosed() );
+    }   //  testFailures()
+
+    /**
+     *  Tests that the idle background thread is woken up by each new
+     *  request.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWakeUp() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var received = new AtomicLong();
+        final var candidate = new AsyncMessageRenderer( 16, batch -> received.addAndGet( batch.size() ) );
+        for( var i = 0; i < 100; ++i )
+        {
+            if( i % 10 == 0 ) Thread.sleep( 5 );
+            candidate.submit( bundle, "MSG", i, true );
+            assertTrue( candidate.flush( 10, SECONDS ) );
+            assertEquals( i + 1, received.get() );
+        }
+        candidate.close();
+        assertEquals( 100, candidate.getDeliveredCount() );
+    }   //  testWakeUp()
+}
+//  class TestAsyncMessageRenderer
+
+/*
+ *  End of File
+ */
\ No newline at end of file
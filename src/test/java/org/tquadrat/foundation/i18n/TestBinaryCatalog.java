@@ -0,0 +1,265 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Month;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link BinaryCatalog}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestBinaryCatalog.java 1303 2026-10-18 17:31:05Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestBinaryCatalog" )
+public class TestBinaryCatalog extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The folder for the catalog files.
+     */
+    @TempDir
+    Path m_TempFolder;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Writes the given value to either the key offsets or the text offsets
+     *  of all slots in the key index of the given catalog.
+     *
+     *  @param  buffer  The buffer with the contents of the catalog file.
+     *  @param  column  0 for the key offsets, 1 for the text offsets.
+     *  @param  value   The value.
+     */
+    private static final void corruptSlots( final ByteBuffer buffer, final int column, final int value )
+    {
+        final var slotsPosition = 28 + buffer.getInt( 16 ) * Integer.BYTES;
+        for( var slot = 0; slot < buffer.getInt( 12 ); ++slot ) buffer.putInt( slotsPosition + (slot * 2 + column) * Integer.BYTES, value );
+    }   //  corruptSlots()
+
+    /**
+     *  Tests for
+     *  {@link BinaryCatalog#compile(ResourceBundle, Path)}
+     *  and
+     *  {@link BinaryCatalog#open(Path)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCompileBundle() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var expected = TextCatalog.of( bundle );
+        final var file = m_TempFolder.resolve( "Texts_de" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        BinaryCatalog.compile( bundle, file );
+
+        final var candidate = BinaryCatalog.open( file );
+        assertEquals( expected.getLocale(), candidate.getLocale() );
+        assertEquals( expected.keySet(), candidate.keySet() );
+        assertEquals( expected.size(), candidate.size() );
+        assertTrue( candidate.containsKey( "text" ) );
+        assertFalse( candidate.containsKey( "missing" ) );
+        for( final var key : new String [] {"text", "newline", "greeting", "missing"} )
+        {
+            assertEquals( expected.retrieveText( key, "Welt" ), candidate.retrieveText( key, "Welt" ) );
+        }
+        assertEquals( expected.retrieveText( Month.JUNE ), candidate.retrieveText( Month.JUNE ) );
+        assertEquals( expected.retrieveMessage( "MSG", 1704, true, 8080 ), candidate.retrieveMessage( "MSG", 1704, true, 8080 ) );
+
+        assertThrows( NullArgumentException.class, () -> BinaryCatalog.compile( (ResourceBundle) null, file ) );
+        assertThrows( NullArgumentException.class, () -> BinaryCatalog.compile( bundle, null ) );
+        assertThrows( NullArgumentException.class, () -> BinaryCatalog.open( null ) );
+    }   //  testCompileBundle()
+
+    /**
+     *  Tests for
+     *  {@link BinaryCatalog#compile(Locale, Map, Path)}
+     *  with many keys and texts that are not Latin-1.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCompileMap() throws Exception
+    {
+        skipThreadTest();
+
+        final Map<String,String> texts = new HashMap<>();
+        for( var i = 0; i < 10_000; ++i ) texts.put( "key." + i, "Text Nr. %d – %%s".formatted( i ) );
+        texts.put( "empty", "" );
+        texts.put( "ελληνικά", "Καλημέρα %s" );
+        final var file = m_TempFolder.resolve( "Many" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        BinaryCatalog.compile( Locale.forLanguageTag( "el-GR" ), texts, file );
+
+        final var candidate = BinaryCatalog.open( file );
+        assertEquals( Locale.forLanguageTag( "el-GR" ), candidate.getLocale() );
+        assertEquals( texts.size(), candidate.size() );
+        assertEquals( texts.keySet(), candidate.keySet() );
+        for( var i = 0; i < 10_000; ++i )
+        {
+            assertEquals( "Text Nr. %d – x".formatted( i ), candidate.retrieveText( "key." + i, "x" ) );
+        }
+        assertEquals( "", candidate.retrieveText( "empty" ) );
+        assertEquals( "Καλημέρα κόσμε", candidate.retrieveText( "ελληνικά", "κόσμε" ) );
+        assertFalse( candidate.containsKey( "key.10000" ) );
+
+        final var empty = m_TempFolder.resolve( "Empty" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        BinaryCatalog.compile( Locale.ROOT, Map.of(), empty );
+        assertEquals( 0, BinaryCatalog.open( empty ).size() );
+        assertFalse( BinaryCatalog.open( empty ).containsKey( "key" ) );
+    }   //  testCompileMap()
+
+    /**
+     *  Tests
+     *  {@link BinaryCatalog#open(Path)}
+     *  with truncated and corrupted catalog files.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCorruptFiles() throws Exception
+    {
+        skipThreadTest();
+
+        final var file = m_TempFolder.resolve( "Valid" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        BinaryCatalog.compile( Locale.GERMAN, Map.of( "greeting", "Hallo %s", "farewell", "Tschüss" ), file );
+        final var contents = Files.readAllBytes( file );
+
+        final var truncated = m_TempFolder.resolve( "Truncated" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        Files.write( truncated, Arrays.copyOf( contents, contents.length / 2 ) );
+        assertThrows( IOException.class, () -> BinaryCatalog.open( truncated ) );
+
+        final var header = m_TempFolder.resolve( "Header" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        Files.write( header, Arrays.copyOf( contents, 30 ) );
+        assertThrows( IOException.class, () -> BinaryCatalog.open( header ) );
+
+        final List<Consumer<ByteBuffer>> corruptions = List.of(
+            buffer -> buffer.putShort( 4, (short) 99 ),
+            buffer -> buffer.putInt( 8, Integer.MAX_VALUE ),
+            buffer -> buffer.putInt( 8, -1 ),
+            buffer -> buffer.putInt( 12, Integer.MAX_VALUE ),
+            buffer -> buffer.putInt( 12, -1 ),
+            buffer -> buffer.putInt( 16, Integer.MAX_VALUE ),
+            buffer -> buffer.putInt( 16, 0 ),
+            buffer -> buffer.putInt( 20, Integer.MAX_VALUE ),
+            buffer -> buffer.putInt( 24, Integer.MAX_VALUE ),
+            buffer -> buffer.putInt( 24, 0 ),
+            buffer -> corruptSlots( buffer, 0, Integer.MAX_VALUE ),
+            buffer -> corruptSlots( buffer, 0, -2 ),
+            buffer -> corruptSlots( buffer, 1, buffer.limit() ),
+            buffer -> corruptSlots( buffer, 1, -2 ),
+            buffer -> buffer.putInt( 8, 1 ) );
+        var count = 0;
+        for( final var corruption : corruptions )
+        {
+            final var buffer = ByteBuffer.wrap( contents.clone() );
+            corruption.accept( buffer );
+            final var corrupted = m_TempFolder.resolve( "Corrupted%d%s".formatted( ++count, BinaryCatalog.CATALOG_FILE_EXTENSION ) );
+            Files.write( corrupted, buffer.array() );
+            assertThrows( IOException.class, () -> BinaryCatalog.open( corrupted ) );
+        }
+    }   //  testCorruptFiles()
+
+    /**
+     *  Tests for
+     *  {@link BinaryCatalog#compileAdditionalTexts(Path, Path, String)}
+     *  and
+     *  {@link BinaryCatalog#compileProperties(Path, Locale, Path)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCompileFiles() throws Exception
+    {
+        skipThreadTest();
+
+        final var xml = m_TempFolder.resolve( I18nUtil.ADDITIONAL_TEXT_FILE );
+        Files.writeString( xml, """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE texts SYSTEM "AdditionalText.dtd">
+            <texts>
+              <text key="org.tquadrat.Help.TEXT_Usage">
+                <description>The usage</description>
+                <translation language="en">Usage: %s</translation>
+                <translation language="de">Aufruf: %s</translation>
+              </text>
+            </texts>
+            """, UTF_8 );
+        final var files = BinaryCatalog.compileAdditionalTexts( xml, m_TempFolder, "Help" );
+        assertEquals( 2, files.size() );
+        final var german = BinaryCatalog.open( m_TempFolder.resolve( "Help_de" + BinaryCatalog.CATALOG_FILE_EXTENSION ) );
+        assertEquals( Locale.GERMAN, german.getLocale() );
+        assertEquals( "Aufruf: foo", german.retrieveText( "org.tquadrat.Help.TEXT_Usage", "foo" ) );
+        final var english = BinaryCatalog.open( m_TempFolder.resolve( "Help_en" + BinaryCatalog.CATALOG_FILE_EXTENSION ) );
+        assertEquals( "Usage: foo", english.retrieveText( "org.tquadrat.Help.TEXT_Usage", "foo" ) );
+
+        final var properties = m_TempFolder.resolve( "Texts_de.properties" );
+        Files.writeString( properties, "text=Attrappe\ngreeting=Gr\\u00fc\\u00df %s!\n" );
+        final var file = m_TempFolder.resolve( "Texts_de" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        BinaryCatalog.compileProperties( properties, Locale.GERMAN, file );
+        final var candidate = BinaryCatalog.open( file );
+        assertEquals( "Grüß Gott!", candidate.retrieveText( "greeting", "Gott" ) );
+        assertNotEquals( 0, candidate.size() );
+
+        final var invalid = m_TempFolder.resolve( "Invalid" + BinaryCatalog.CATALOG_FILE_EXTENSION );
+        Files.writeString( invalid, "This is not a catalog" );
+        assertThrows( IOException.class, () -> BinaryCatalog.open( invalid ) );
+    }   //  testCompileFiles()
+}
+//  class TestBinaryCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
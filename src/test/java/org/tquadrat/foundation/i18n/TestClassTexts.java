@@ -0,0 +1,111 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.i18n.TextUse.CAPTION;
+import static org.tquadrat.foundation.i18n.TextUse.TOOLTIP;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link ClassTexts}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestClassTexts.java 1278 2026-10-17 22:02:51Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestClassTexts" )
+public class TestClassTexts extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests
+     *  {@link ClassTexts#composeTextKey(TextUse, String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testComposeTextKey() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = ClassTexts.of( TestClassTexts.class );
+        assertSame( candidate, ClassTexts.of( TestClassTexts.class ) );
+        assertEquals( TestClassTexts.class.getName(), candidate.getClassName() );
+        assertEquals( TestClassTexts.class.getName() + ".TOOLTIP_", candidate.getPrefix( TOOLTIP ) );
+
+        for( final var use : TextUse.values() )
+        {
+            final var expected = "%s.%s_%s".formatted( TestClassTexts.class.getName(), use.name(), "Ok" );
+            final var key = candidate.composeTextKey( use, "Ok" );
+            assertEquals( expected, key );
+            assertSame( key, candidate.composeTextKey( use, "Ok" ) );
+            assertEquals( expected, I18nUtil.composeTextKey( TestClassTexts.class, use, "Ok" ) );
+        }
+
+        //---* The tables are bounded *----------------------------------------
+        for( var i = 0; i < ClassTexts.MAX_KEYS_PER_USE * 3; ++i )
+        {
+            assertEquals( candidate.getPrefix( CAPTION ) + i, candidate.composeTextKey( CAPTION, Integer.toString( i ) ) );
+        }
+
+        assertThrows( NullArgumentException.class, () -> ClassTexts.of( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.composeTextKey( null, "Ok" ) );
+        assertThrows( NullArgumentException.class, () -> candidate.composeTextKey( CAPTION, null ) );
+        assertThrows( EmptyArgumentException.class, () -> candidate.composeTextKey( CAPTION, "" ) );
+    }   //  testComposeTextKey()
+
+    /**
+     *  Tests the retrieval of texts.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRetrieveText() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( "com.foo.bar.Texts", Locale.GERMAN );
+        final var candidate = ClassTexts.of( TestClassTexts.class );
+        final var key = I18nUtil.composeTextKey( TestClassTexts.class, CAPTION, "Ok" );
+
+        assertEquals( I18nUtil.retrieveText( bundle, key, "x" ), candidate.retrieveText( bundle, CAPTION, "Ok", "x" ) );
+        assertEquals( I18nUtil.retrieveText( bundle, key ), candidate.retrieveText( TextCatalog.of( bundle ), CAPTION, "Ok" ) );
+        assertEquals( I18nUtil.retrieveText( bundle, key ), I18nContext.of( bundle ).call( () -> candidate.retrieveText( CAPTION, "Ok" ) ) );
+        assertThrows( IllegalStateException.class, () -> candidate.retrieveText( CAPTION, "Ok" ) );
+    }   //  testRetrieveText()
+}
+//  class TestClassTexts
+
+/*
+ *  End of File
+ */
\ No newline at end of file
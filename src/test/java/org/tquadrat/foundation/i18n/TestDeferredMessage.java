@@ -0,0 +1,175 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.i18n.I18nUtil.deferMessage;
+import static org.tquadrat.foundation.i18n.I18nUtil.deferText;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveMessage;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveText;
+import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+
+import java.lang.ref.WeakReference;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link DeferredMessage}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestDeferredMessage.java 1292 2026-10-18 13:27:14Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestDeferredMessage" )
+public class TestDeferredMessage extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for
+     *  {@link I18nUtil#deferMessage(ResourceBundle, String, int, boolean, Object...)}
+     *  and
+     *  {@link I18nUtil#deferMessage(ResourceBundle, String, String, boolean, Object...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testDeferMessage() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        for( final var addKey : new boolean [] {true, false} )
+        {
+            assertEquals( retrieveMessage( bundle, "MSG", 1704, addKey, 8080 ), deferMessage( bundle, "MSG", 1704, addKey, 8080 ).toString() );
+            assertEquals( retrieveMessage( bundle, "MSG", "1704", addKey, 8080 ), deferMessage( bundle, "MSG", "1704", addKey, 8080 ).toString() );
+        }
+        assertEquals( "MSG-001704", deferMessage( bundle, "MSG", 1704, true ).getKey() );
+
+        assertThrows( NullArgumentException.class, () -> deferMessage( null, "MSG", 1704, true ) );
+        assertThrows( EmptyArgumentException.class, () -> deferMessage( bundle, EMPTY_STRING, 1704, true ) );
+        assertThrows( NullArgumentException.class, () -> deferMessage( bundle, "MSG", 1704, true, (Object []) null ) );
+    }   //  testDeferMessage()
+
+    /**
+     *  Tests for
+     *  {@link I18nUtil#deferText(ResourceBundle, String, Object...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testDeferText() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var counter = new AtomicInteger();
+        final var argument = new Object()
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final String toString()
+            {
+                counter.incrementAndGet();
+
+                //---* Done *--------------------------------------------------
+                return "Welt";
+            }   //  toString()
+        };
+
+        final var candidate = deferText( bundle, "greeting", argument );
+        assertFalse( candidate.isRendered() );
+        assertEquals( 0, counter.get() );
+
+        final var expected = retrieveText( bundle, "greeting", "Welt" );
+        assertEquals( expected, candidate.toString() );
+        assertTrue( candidate.isRendered() );
+        assertEquals( 1, counter.get() );
+        assertSame( candidate.toString(), candidate.get() );
+        assertEquals( expected.length(), candidate.length() );
+        assertEquals( expected.charAt( 0 ), candidate.charAt( 0 ) );
+        assertEquals( expected.subSequence( 1, 3 ), candidate.subSequence( 1, 3 ) );
+        assertEquals( 1, counter.get() );
+
+        assertEquals( retrieveText( bundle, "missing", "Welt" ), deferText( bundle, "missing", "Welt" ).get() );
+
+        assertThrows( NullArgumentException.class, () -> deferText( null, "greeting" ) );
+        assertThrows( NullArgumentException.class, () -> deferText( bundle, null ) );
+        assertThrows( EmptyArgumentException.class, () -> deferText( bundle, EMPTY_STRING ) );
+    }   //  testDeferText()
+
+    /**
+     *  Checks that a
+     *  {@link DeferredMessage}
+     *  no longer references its arguments after it was rendered.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testReleaseArguments() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        var argument = new StringBuilder( "Welt" );
+        final var reference = new WeakReference<>( argument );
+        final var candidate = deferText( bundle, "greeting", argument );
+        final var expected = retrieveText( bundle, "greeting", "Welt" );
+        assertEquals( expected, candidate.toString() );
+
+        //noinspection UnusedAssignment
+        argument = null;
+        for( var i = 0; (i < 50) && (reference.get() != null); ++i )
+        {
+            System.gc();
+            Thread.sleep( 10L );
+        }
+        assertNull( reference.get() );
+        assertEquals( expected, candidate.toString() );
+        assertEquals( expected, candidate.get() );
+    }   //  testReleaseArguments()
+}
+//  class TestDeferredMessage
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,144 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link I18nContext}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestI18nContext.java 1299 2026-10-18 15:58:36Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestI18nContext" )
+public class TestI18nContext extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the binding of a context.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBinding() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var context = I18nContext.of( bundle );
+        assertEquals( Locale.GERMAN, context.getLocale() );
+
+        assertFalse( I18nContext.current().isPresent() );
+        assertThrows( IllegalStateException.class, () -> I18nContext.retrieveText( "text" ) );
+
+        context.run( () ->
+        {
+            assertSame( context, I18nContext.current().orElseThrow() );
+            assertEquals( I18nUtil.retrieveText( bundle, "text" ), I18nContext.retrieveText( "text" ) );
+            assertEquals( I18nUtil.retrieveText( bundle, "greeting", "Welt" ), I18nContext.retrieveText( "greeting", "Welt" ) );
+            assertEquals( I18nUtil.retrieveMessage( bundle, "MSG", 17, true ), I18nContext.retrieveMessage( "MSG", 17, true ) );
+
+            //---* A nested binding hides the outer one *----------------------
+            final var catalog = TextCatalog.of( bundle );
+            final var inner = I18nContext.of( Locale.forLanguageTag( "de-CH" ), catalog );
+            inner.run( () ->
+            {
+                assertEquals( Locale.forLanguageTag( "de-CH" ), I18nContext.current().orElseThrow().getLocale() );
+                assertEquals( catalog.retrieveText( "greeting", "Welt" ), I18nContext.retrieveText( "greeting", "Welt" ) );
+            } );
+            assertSame( context, I18nContext.current().orElseThrow() );
+        } );
+
+        assertFalse( I18nContext.current().isPresent() );
+        assertEquals( "Attrappe", context.call( () -> I18nContext.retrieveText( "text" ) ) );
+
+        //---* The binding ends with the scope, also on an exception *---------
+        assertThrows( IllegalArgumentException.class, () -> context.run( () -> { throw new IllegalArgumentException(); } ) );
+        assertFalse( I18nContext.current().isPresent() );
+        context.run( () ->
+        {
+            assertThrows( IllegalStateException.class, () -> I18nContext.of( Locale.ROOT, TextCatalog.of( bundle ) ).call( () -> { throw new IllegalStateException(); } ) );
+            assertSame( context, I18nContext.current().orElseThrow() );
+        } );
+        assertFalse( I18nContext.current().isPresent() );
+    }   //  testBinding()
+
+    /**
+     *  Tests the contexts on a large number of virtual threads.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testVirtualThreads() throws Exception
+    {
+        skipThreadTest();
+
+        final var german = I18nContext.of( ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN ) );
+        final var root = I18nContext.of( ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.ROOT ) );
+        final var expectedGerman = german.call( () -> I18nContext.retrieveText( "text" ) );
+        final var expectedRoot = root.call( () -> I18nContext.retrieveText( "text" ) );
+
+        final var results = new ArrayList<Future<Boolean>>();
+        try( final var executor = Executors.newVirtualThreadPerTaskExecutor() )
+        {
+            for( var i = 0; i < 10_000; ++i )
+            {
+                final var context = (i % 2) == 0 ? german : root;
+                final var expected = (i % 2) == 0 ? expectedGerman : expectedRoot;
+                results.add( executor.submit( () -> context.call( () ->
+                {
+                    Thread.yield();
+                    return expected.equals( I18nContext.retrieveText( "text" ) );
+                } ) ) );
+            }
+        }
+        for( final var result : results ) assertTrue( result.get() );
+    }   //  testVirtualThreads()
+}
+//  class TestI18nContext
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,112 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link LanguageNegotiator}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestLanguageNegotiator.java 1275 2026-10-17 19:54:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestLanguageNegotiator" )
+public class TestLanguageNegotiator extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests
+     *  {@link LanguageNegotiator#forResourceBundles(String, Locale, java.util.Collection)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testForResourceBundles() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = LanguageNegotiator.forResourceBundles( BASE_BUNDLE_NAME, Locale.ENGLISH, List.of( Locale.GERMAN, Locale.ROOT ) );
+        assertEquals( "Attrappe", candidate.resolve( "de-DE,de;q=0.9" ).orElseThrow().getString( "text" ) );
+        assertEquals( Locale.GERMAN, candidate.resolve( "de-DE,de;q=0.9" ).orElseThrow().getLocale() );
+        assertEquals( Locale.ROOT, candidate.resolve( "fr-FR" ).orElseThrow().getLocale() );
+    }   //  testForResourceBundles()
+
+    /**
+     *  Tests
+     *  {@link LanguageNegotiator#negotiate(String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testNegotiate() throws Exception
+    {
+        skipThreadTest();
+
+        final var resolver = new LocaleResolver<String>( Locale.ENGLISH, Locale::toLanguageTag );
+        final var candidate = new LanguageNegotiator<>( List.of( Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH ), resolver );
+
+        assertEquals( Locale.GERMAN, candidate.negotiate( "de-CH,de;q=0.9,en;q=0.8" ) );
+        assertEquals( Locale.FRENCH, candidate.negotiate( "ja;q=0.9,fr;q=0.5" ) );
+        assertEquals( Locale.GERMAN, candidate.negotiate( "fr;q=0.1,de;q=0.7" ) );
+
+        //---* Fallback to the default locale *--------------------------------
+        assertEquals( Locale.ENGLISH, candidate.negotiate( "ja-JP" ) );
+        assertEquals( Locale.ENGLISH, candidate.negotiate( null ) );
+        assertEquals( Locale.ENGLISH, candidate.negotiate( "" ) );
+        assertEquals( Locale.ENGLISH, candidate.negotiate( "de;q=7" ) );
+        assertEquals( Locale.ENGLISH, candidate.negotiate( "de,".repeat( LanguageNegotiator.MAX_CACHED_HEADER_LENGTH ) + "!" ) );
+        assertEquals( Locale.GERMAN, candidate.negotiate( "de," + "ja,".repeat( LanguageNegotiator.MAX_CACHED_HEADER_LENGTH ) ) );
+
+        //---* Repeated headers give the same result *-------------------------
+        for( var i = 0; i < 10; ++i )
+        {
+            assertEquals( Locale.GERMAN, candidate.negotiate( "de-CH,de;q=0.9,en;q=0.8" ) );
+        }
+        assertEquals( "de", candidate.resolve( "de-AT" ).orElseThrow() );
+
+        assertThrows( NullArgumentException.class, () -> new LanguageNegotiator<>( null, resolver ) );
+        assertThrows( NullArgumentException.class, () -> new LanguageNegotiator<String>( List.of(), null ) );
+        assertThrows( IllegalArgumentException.class, () -> new LanguageNegotiator<>( List.of(), 0, resolver ) );
+    }   //  testNegotiate()
+}
+//  class TestLanguageNegotiator
+
+/*
+ *  End of File
+ */
\ No newline at end of file
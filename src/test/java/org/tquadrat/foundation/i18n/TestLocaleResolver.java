@@ -0,0 +1,207 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link LocaleResolver}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestLocaleResolver.java 1297 2026-10-18 15:02:44Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestLocaleResolver" )
+public class TestLocaleResolver extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The temporary folder for the catalog files.
+     */
+    @TempDir
+    Path m_TempFolder;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the candidate chain and the caching of the resolutions.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCandidates() throws Exception
+    {
+        skipThreadTest();
+
+        final var calls = new AtomicInteger();
+        final var candidate = new LocaleResolver<String>( Locale.ENGLISH, locale ->
+        {
+            calls.incrementAndGet();
+            return Locale.GERMAN.equals( locale ) ? "de" : null;
+        } );
+
+        final var swissGerman = Locale.forLanguageTag( "de-CH" );
+        assertEquals( List.of( swissGerman, Locale.GERMAN, Locale.ENGLISH, Locale.ROOT ), candidate.getCandidateLocales( swissGerman ) );
+        assertEquals( Locale.GERMAN, candidate.getEffectiveLocale( swissGerman ).orElseThrow() );
+        assertEquals( "de", candidate.resolve( swissGerman ).orElseThrow() );
+        assertEquals( 2, calls.get() );
+
+        //---* The chain includes the script *---------------------------------
+        final var chain = candidate.getCandidateLocales( Locale.forLanguageTag( "sr-Latn-RS" ) );
+        assertEquals( Locale.forLanguageTag( "sr-Latn-RS" ), chain.getFirst() );
+        assertTrue( chain.contains( Locale.forLanguageTag( "sr-Latn" ) ) );
+        assertEquals( Locale.ROOT, chain.getLast() );
+
+        //---* Nothing found at all *------------------------------------------
+        assertFalse( candidate.resolve( Locale.JAPANESE ).isPresent() );
+        assertFalse( candidate.getEffectiveLocale( Locale.JAPANESE ).isPresent() );
+
+        final var count = calls.get();
+        candidate.resolve( Locale.JAPANESE );
+        candidate.resolve( Locale.forLanguageTag( "ja-JP" ) );
+        assertEquals( count + 1, calls.get() );
+
+        assertThrows( NullArgumentException.class, () -> candidate.resolve( null ) );
+    }   //  testCandidates()
+
+    /**
+     *  Tests
+     *  {@link LocaleResolver#forCatalogs(Path, String, Locale)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testForCatalogs() throws Exception
+    {
+        skipThreadTest();
+
+        BinaryCatalog.compile( Locale.GERMAN, Map.of( "greeting", "Hallo" ), m_TempFolder.resolve( BinaryCatalog.composeFileName( "Texts", Locale.GERMAN ) ) );
+        BinaryCatalog.compile( Locale.ROOT, Map.of( "greeting", "Hello", "farewell", "Goodbye", "thanks", "Thank you" ), m_TempFolder.resolve( BinaryCatalog.composeFileName( "Texts", Locale.ROOT ) ) );
+        final var swissGerman = Locale.forLanguageTag( "de-CH" );
+        BinaryCatalog.compile( swissGerman, Map.of( "farewell", "Adieu" ), m_TempFolder.resolve( BinaryCatalog.composeFileName( "Texts", swissGerman ) ) );
+
+        final var candidate = LocaleResolver.forCatalogs( m_TempFolder, "Texts", Locale.ENGLISH );
+        final var austrian = candidate.resolve( Locale.forLanguageTag( "de-AT" ) ).orElseThrow();
+        assertEquals( "Hallo", austrian.retrieveText( "greeting" ) );
+        assertEquals( "Goodbye", austrian.retrieveText( "farewell" ) );
+        assertEquals( Locale.GERMAN, austrian.getLocale() );
+        assertSame( austrian, candidate.resolve( Locale.forLanguageTag( "de-LI" ) ).orElseThrow() );
+
+        final var swiss = candidate.resolve( swissGerman ).orElseThrow();
+        assertEquals( swissGerman, swiss.getLocale() );
+        assertEquals( "Adieu", swiss.retrieveText( "farewell" ) );
+        assertEquals( "Hallo", swiss.retrieveText( "greeting" ) );
+        assertEquals( "Thank you", swiss.retrieveText( "thanks" ) );
+        assertEquals( Set.of( "greeting", "farewell", "thanks" ), swiss.keySet() );
+        assertEquals( 3, swiss.size() );
+        assertEquals( "Hello", candidate.resolve( Locale.JAPANESE ).orElseThrow().retrieveText( "greeting" ) );
+        assertEquals( Locale.ROOT, candidate.getEffectiveLocale( Locale.JAPANESE ).orElseThrow() );
+    }   //  testForCatalogs()
+
+    /**
+     *  Tests
+     *  {@link LocaleResolver#invalidateAll()}
+     *  for a resolver that was created by
+     *  {@link LocaleResolver#forCatalogs(Path, String, Locale)},
+     *  after catalog files were deployed or replaced.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testForCatalogsDeploy() throws Exception
+    {
+        skipThreadTest();
+
+        BinaryCatalog.compile( Locale.ROOT, Map.of( "greeting", "Hello", "farewell", "Goodbye" ), m_TempFolder.resolve( BinaryCatalog.composeFileName( "Texts", Locale.ROOT ) ) );
+
+        final var candidate = LocaleResolver.forCatalogs( m_TempFolder, "Texts", Locale.ENGLISH );
+        assertEquals( Locale.ROOT, candidate.getEffectiveLocale( Locale.JAPANESE ).orElseThrow() );
+        assertEquals( "Hello", candidate.resolve( Locale.JAPANESE ).orElseThrow().retrieveText( "greeting" ) );
+
+        //---* Deploy a catalog after the miss *-------------------------------
+        BinaryCatalog.compile( Locale.JAPANESE, Map.of( "greeting", "Konnichiwa" ), m_TempFolder.resolve( BinaryCatalog.composeFileName( "Texts", Locale.JAPANESE ) ) );
+        assertEquals( Locale.ROOT, candidate.getEffectiveLocale( Locale.JAPANESE ).orElseThrow() );
+        candidate.invalidateAll();
+        assertEquals( Locale.JAPANESE, candidate.getEffectiveLocale( Locale.JAPANESE ).orElseThrow() );
+        final var japanese = candidate.resolve( Locale.JAPANESE ).orElseThrow();
+        assertEquals( "Konnichiwa", japanese.retrieveText( "greeting" ) );
+        assertEquals( "Goodbye", japanese.retrieveText( "farewell" ) );
+
+        //---* Replace a catalog that is mapped already *----------------------
+        BinaryCatalog.compile( Locale.ROOT, Map.of( "greeting", "Hi", "farewell", "Bye" ), m_TempFolder.resolve( BinaryCatalog.composeFileName( "Texts", Locale.ROOT ) ) );
+        assertEquals( "Goodbye", candidate.resolve( Locale.JAPANESE ).orElseThrow().retrieveText( "farewell" ) );
+        candidate.invalidateAll();
+        assertEquals( "Bye", candidate.resolve( Locale.JAPANESE ).orElseThrow().retrieveText( "farewell" ) );
+        assertEquals( "Hi", candidate.resolve( Locale.FRENCH ).orElseThrow().retrieveText( "greeting" ) );
+    }   //  testForCatalogsDeploy()
+
+    /**
+     *  Tests
+     *  {@link LocaleResolver#forResourceBundles(String, Locale)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testForResourceBundles() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = LocaleResolver.forResourceBundles( BASE_BUNDLE_NAME, Locale.ENGLISH );
+        final var swiss = candidate.resolve( Locale.forLanguageTag( "de-CH" ) ).orElseThrow();
+        final var liechtenstein = candidate.resolve( Locale.forLanguageTag( "de-LI" ) ).orElseThrow();
+        assertSame( swiss, liechtenstein );
+        assertEquals( Locale.GERMAN, swiss.getLocale() );
+        assertEquals( "Attrappe", swiss.getString( "text" ) );
+
+        assertEquals( Locale.ROOT, candidate.getEffectiveLocale( Locale.FRENCH ).orElseThrow() );
+    }   //  testForResourceBundles()
+}
+//  class TestLocaleResolver
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveMessage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link MessageLog}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestMessageLog.java 1270 2026-10-17 16:21:44Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestMessageLog" )
+public class TestMessageLog extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The folder for the log files.
+     */
+    @TempDir
+    Path m_TempFolder;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for
+     *  {@link MessageLog#write(String, int, boolean, Object...)}
+     *  and
+     *  {@link MessageLog#read(java.util.function.Consumer)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWriteAndRead() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = MessageLog.allocate( MessageLog.MIN_CAPACITY );
+        assertTrue( candidate.isEmpty() );
+
+        final var args = new Object [] {null, true, (byte) 3, (short) 4, 'c', 5, 6L, 7.5F, 8.25, "latin ä", "Καλημέρα", Month.JUNE};
+        candidate.write( "MSG", 1704, true, args );
+        assertFalse( candidate.isEmpty() );
+
+        final List<MessageLog.Entry> entries = new ArrayList<>();
+        assertEquals( 1, candidate.read( entries::add ) );
+        assertTrue( candidate.isEmpty() );
+        final var entry = entries.getFirst();
+        assertEquals( "MSG", entry.messagePrefix() );
+        assertEquals( 1704, entry.id() );
+        assertTrue( entry.addKey() );
+        for( var i = 0; i < args.length - 1; ++i ) assertEquals( args [i], entry.args() [i] );
+        assertEquals( Month.JUNE.toString(), entry.args() [args.length - 1] );
+
+        assertThrows( EmptyArgumentException.class, () -> candidate.write( "", 1, true ) );
+        assertThrows( NullArgumentException.class, () -> candidate.write( "MSG", 1, true, (Object []) null ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.write( "MSG", 1, true, "x".repeat( MessageLog.MIN_CAPACITY ) ) );
+        assertThrows( IllegalArgumentException.class, () -> MessageLog.allocate( MessageLog.MIN_CAPACITY - 1 ) );
+    }   //  testWriteAndRead()
+
+    /**
+     *  Tests the overflow behaviour of
+     *  {@link MessageLog}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOverflow() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = MessageLog.allocate( MessageLog.MIN_CAPACITY );
+        final var count = 1000;
+        for( var i = 0; i < count; ++i ) candidate.write( "MSG", i, false, i, "x".repeat( i % 37 ) );
+
+        final List<Integer> ids = new ArrayList<>();
+        final var read = candidate.read( entry ->
+        {
+            assertEquals( entry.id(), entry.args() [0] );
+            assertEquals( "x".repeat( entry.id() % 37 ), entry.args() [1] );
+            ids.add( entry.id() );
+        } );
+        assertEquals( count, read + candidate.getOverwrittenCount() );
+        assertEquals( count - 1, ids.getLast() );
+        for( var i = 1; i < ids.size(); ++i ) assertEquals( ids.get( i - 1 ) + 1, ids.get( i ) );
+    }   //  testOverflow()
+
+    /**
+     *  Tests for
+     *  {@link MessageLog#create(Path, int)},
+     *  {@link MessageLog#open(Path)}
+     *  and
+     *  {@link MessageLog#render(ResourceBundle, java.util.function.Consumer)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testFile() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var file = m_TempFolder.resolve( "messages.log" );
+        final var writer = MessageLog.create( file, 4096 );
+        writer.write( "MSG", 1704, true, 8080 );
+        writer.write( "MSG", 1705, false );
+        writer.flush();
+
+        final List<String> messages = new ArrayList<>();
+        assertEquals( 2, MessageLog.open( file ).render( bundle, messages::add ) );
+        assertEquals( List.of( retrieveMessage( bundle, "MSG", 1704, true, 8080 ), retrieveMessage( bundle, "MSG", 1705, false ) ), messages );
+        assertTrue( MessageLog.open( file ).isEmpty() );
+
+        Files.writeString( file, "This is not a message log at all" );
+        assertThrows( IOException.class, () -> MessageLog.open( file ) );
+    }   //  testFile()
+}
+//  class TestMessageLog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
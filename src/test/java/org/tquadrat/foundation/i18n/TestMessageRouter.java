@@ -0,0 +1,118 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link MessageRouter}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestMessageRouter.java 1280 2026-10-17 23:26:03Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestMessageRouter" )
+public class TestMessageRouter extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the router for the tests.
+     *
+     *  @return The router.
+     */
+    private static final MessageRouter createRouter()
+    {
+        final var retValue = new MessageRouter( new ResourceBundleCache( 1_000_000L ) );
+        retValue.register( "SFX", "com.foo.bar.LibraryA" );
+        retValue.register( "MY-LIB", "com.foo.bar.LibraryB" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createRouter()
+
+    /**
+     *  Tests the registration of message prefixes.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRegister() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = createRouter();
+        assertEquals( Set.of( "SFX", "MY-LIB" ), candidate.getMessagePrefixes() );
+
+        //---* Registering the same bundle again is allowed *------------------
+        candidate.register( "SFX", "com.foo.bar.LibraryA" );
+        assertThrows( IllegalArgumentException.class, () -> candidate.register( "SFX", "com.foo.bar.LibraryB" ) );
+        assertThrows( EmptyArgumentException.class, () -> candidate.register( "", "com.foo.bar.LibraryB" ) );
+
+        assertTrue( candidate.getBundle( "SFX", Locale.GERMAN ).isPresent() );
+        candidate.unregister( "SFX" );
+        assertFalse( candidate.getBundle( "SFX", Locale.GERMAN ).isPresent() );
+        assertEquals( Set.of( "MY-LIB" ), candidate.getMessagePrefixes() );
+    }   //  testRegister()
+
+    /**
+     *  Tests the retrieval of messages.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRetrieveMessage() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = createRouter();
+        assertEquals( "[SFX-001704] Port 8080 ist belegt", candidate.retrieveMessage( Locale.GERMAN, "SFX", 1704, true, 8080 ) );
+        assertEquals( "Port 8080 is in use", candidate.retrieveMessage( Locale.ROOT, "SFX", 1704, false, 8080 ) );
+        assertEquals( "[SFX-000001] Library A", candidate.retrieveMessage( Locale.GERMAN, "SFX", "000001", true ) );
+        assertEquals( "[MY-LIB-000002] Hello Welt!", candidate.retrieveMessage( Locale.GERMAN, "MY-LIB", 2, true, "Welt" ) );
+
+        //---* Routing by the message key *------------------------------------
+        assertEquals( "[SFX-001704] Port 8080 ist belegt", candidate.retrieveMessage( Locale.GERMAN, "SFX-001704", true, 8080 ) );
+        assertEquals( "Library B", candidate.retrieveMessage( Locale.GERMAN, "MY-LIB-000001", false ) );
+
+        //---* Unknown prefixes and keys *-------------------------------------
+        final var bundle = candidate.getBundle( "SFX", Locale.GERMAN ).orElseThrow();
+        assertEquals( I18nUtil.retrieveMessage( bundle, "ABC", 1, true, 8080 ), candidate.retrieveMessage( Locale.GERMAN, "ABC", 1, true, 8080 ) );
+        assertEquals( I18nUtil.retrieveMessage( bundle, "ABC", 1, true, 8080 ), candidate.retrieveMessage( Locale.GERMAN, "ABC-000001", true, 8080 ) );
+        assertEquals( I18nUtil.retrieveMessage( bundle, "SFX", 17, true ), candidate.retrieveMessage( Locale.GERMAN, "SFX", 17, true ) );
+    }   //  testRetrieveMessage()
+}
+//  class TestMessageRouter
+
+/*
+ *  End of File
+ */
\ No newline at end of file
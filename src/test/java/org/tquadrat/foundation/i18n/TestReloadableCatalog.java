@@ -0,0 +1,308 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link ReloadableCatalog}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestReloadableCatalog.java 1287 2026-10-18 10:58:06Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestReloadableCatalog" )
+public class TestReloadableCatalog extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base name for the tests: {@value}.
+     */
+    public static final String BASE_NAME = "Texts";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The temporary folder for the source files.
+     */
+    @TempDir
+    Path m_TempFolder;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Waits until the given condition is met, but not longer than 30
+     *  seconds.
+     *
+     *  @param  condition   The condition.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    private static final void awaitCondition( final BooleanSupplier condition ) throws Exception
+    {
+        final var deadline = System.currentTimeMillis() + 30_000L;
+        while( !condition.getAsBoolean() && (System.currentTimeMillis() < deadline) ) Thread.sleep( 50L );
+    }   //  awaitCondition()
+
+    /**
+     *  Tests
+     *  {@link TextCatalog#compose(TextCatalog...)}
+     *  with a view from a
+     *  {@link ReloadableCatalog}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCompose() throws Exception
+    {
+        skipThreadTest();
+
+        writeProperties( Locale.GERMAN, "greeting=Hallo %s!\n" );
+        final var library = TextCatalog.of( ResourceBundle.getBundle( "com.foo.bar.LibraryB", Locale.GERMAN ) );
+
+        try( final var reloadable = ReloadableCatalog.open( m_TempFolder, BASE_NAME ) )
+        {
+            final var view = reloadable.getCatalog( Locale.GERMAN );
+            assertEquals( "Hallo %s!", view.getPattern( "greeting" ).orElseThrow() );
+            assertFalse( view.getPattern( "missing" ).isPresent() );
+
+            final var candidate = TextCatalog.compose( view, library );
+            assertEquals( Locale.GERMAN, candidate.getLocale() );
+            assertEquals( view.size() + library.size(), candidate.size() );
+            assertEquals( "Hallo Bob!", candidate.retrieveText( "greeting", "Bob" ) );
+            assertEquals( library.retrieveMessage( "MY-LIB", 1, true ), candidate.retrieveMessage( "MY-LIB", 1, true ) );
+        }
+    }   //  testCompose()
+
+    /**
+     *  Tests that a reload applies just the changed texts.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testIncrementalReload() throws Exception
+    {
+        skipThreadTest();
+
+        writeProperties( Locale.ROOT, "greeting=Hello\nfarewell=Goodbye\nthanks=Thank you\n" );
+        writeProperties( Locale.GERMAN, "greeting=Hallo\nfarewell=Tsch\u00fcss\n" );
+
+        try( final var candidate = ReloadableCatalog.open( m_TempFolder, BASE_NAME ) )
+        {
+            final var german = candidate.getCatalog( Locale.GERMAN );
+            assertEquals( "Tschüss", german.retrieveText( "farewell" ) );
+            assertEquals( 1L, candidate.getReloadCount() );
+
+            //---* Nothing has changed *---------------------------------------
+            writeProperties( Locale.GERMAN, "farewell=Tsch\u00fcss\ngreeting=Hallo\n" );
+            candidate.reload();
+            assertEquals( 1L, candidate.getReloadCount() );
+
+            //---* Modify, add and remove texts *------------------------------
+            writeProperties( Locale.GERMAN, "greeting=Guten Tag\nthanks=Danke\n" );
+            candidate.reload();
+            assertEquals( 2L, candidate.getReloadCount() );
+            assertEquals( "Guten Tag", german.retrieveText( "greeting" ) );
+            assertEquals( "Danke", german.retrieveText( "thanks" ) );
+            assertEquals( "Goodbye", german.retrieveText( "farewell" ) );
+            assertEquals( 3, german.size() );
+
+            //---* A change to the parent is seen by the child *---------------
+            writeProperties( Locale.ROOT, "greeting=Hello\nthanks=Thank you\n" );
+            candidate.reload();
+            assertFalse( german.containsKey( "farewell" ) );
+            assertEquals( "Danke", german.retrieveText( "thanks" ) );
+            assertEquals( "Hello", candidate.getCatalog( Locale.FRENCH ).retrieveText( "greeting" ) );
+            assertEquals( 2, german.size() );
+        }
+    }   //  testIncrementalReload()
+
+    /**
+     *  Tests
+     *  {@link ReloadableCatalog#open(Path, String)}
+     *  and
+     *  {@link ReloadableCatalog#reload()}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOpen() throws Exception
+    {
+        skipThreadTest();
+
+        writeProperties( Locale.ROOT, "greeting=Hello %s!\nfarewell=Goodbye\n" );
+        writeProperties( Locale.GERMAN, "greeting=Hallo %s!\n" );
+        Files.writeString( m_TempFolder.resolve( "Other.properties" ), "greeting=Other\n", ISO_8859_1 );
+
+        try( final var candidate = ReloadableCatalog.open( m_TempFolder, BASE_NAME ) )
+        {
+            assertFalse( candidate.isWatching() );
+            assertEquals( Set.of( Locale.ROOT, Locale.GERMAN ), candidate.getLocales() );
+            assertEquals( 1L, candidate.getReloadCount() );
+
+            final var austrian = candidate.getCatalog( Locale.forLanguageTag( "de-AT" ) );
+            assertSame( austrian, candidate.getCatalog( Locale.forLanguageTag( "de-AT" ) ) );
+            assertEquals( Locale.GERMAN, austrian.getLocale() );
+            assertEquals( "Hallo Bob!", austrian.retrieveText( "greeting", "Bob" ) );
+            assertEquals( "Goodbye", austrian.retrieveText( "farewell" ) );
+            assertEquals( 2, austrian.size() );
+
+            final var japanese = candidate.getCatalog( Locale.JAPANESE );
+            assertEquals( Locale.ROOT, japanese.getLocale() );
+            assertEquals( "Hello Bob!", japanese.retrieveText( "greeting", "Bob" ) );
+
+            //---* The views follow the reload *-------------------------------
+            writeProperties( Locale.ROOT, "greeting=Hi %s!\nfarewell=Bye\n" );
+            writeProperties( Locale.forLanguageTag( "de-AT" ), "farewell=Servus\n" );
+            candidate.reload();
+            assertEquals( 2L, candidate.getReloadCount() );
+            assertEquals( Locale.forLanguageTag( "de-AT" ), austrian.getLocale() );
+            assertEquals( "Hallo Bob!", austrian.retrieveText( "greeting", "Bob" ) );
+            assertEquals( "Servus", austrian.retrieveText( "farewell" ) );
+            assertEquals( "Hi Bob!", japanese.retrieveText( "greeting", "Bob" ) );
+
+            Files.delete( m_TempFolder.resolve( ReloadableCatalog.composeFileName( BASE_NAME, Locale.forLanguageTag( "de-AT" ) ) ) );
+            candidate.reload();
+            assertEquals( Locale.GERMAN, austrian.getLocale() );
+            assertEquals( "Bye", austrian.retrieveText( "farewell" ) );
+
+            assertThrows( NullArgumentException.class, () -> candidate.getCatalog( null ) );
+        }
+
+        assertEquals( "Texts.properties", ReloadableCatalog.composeFileName( BASE_NAME, Locale.ROOT ) );
+        assertEquals( "Texts_zh_Hant_TW.properties", ReloadableCatalog.composeFileName( BASE_NAME, Locale.forLanguageTag( "zh-Hant-TW" ) ) );
+    }   //  testOpen()
+
+    /**
+     *  Tests
+     *  {@link ReloadableCatalog#watch(Path, String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWatch() throws Exception
+    {
+        skipThreadTest();
+
+        writeProperties( Locale.ROOT, "greeting=Hello\n" );
+        writeProperties( Locale.GERMAN, "greeting=Hallo\n" );
+
+        try( final var candidate = ReloadableCatalog.watch( m_TempFolder, BASE_NAME ) )
+        {
+            assertTrue( candidate.isWatching() );
+            final var german = candidate.getCatalog( Locale.GERMAN );
+            assertEquals( "Hallo", german.retrieveText( "greeting" ) );
+
+            writeProperties( Locale.GERMAN, "greeting=Guten Tag\n" );
+            awaitCondition( () -> "Guten Tag".equals( german.retrieveText( "greeting" ) ) );
+            assertEquals( "Guten Tag", german.retrieveText( "greeting" ) );
+            assertTrue( candidate.getReloadCount() > 1L );
+            assertEquals( 0L, candidate.getFailureCount() );
+            assertFalse( candidate.getLastFailure().isPresent() );
+
+            candidate.close();
+            assertFalse( candidate.isWatching() );
+            assertEquals( "Guten Tag", german.retrieveText( "greeting" ) );
+        }
+    }   //  testWatch()
+
+    /**
+     *  Tests how the watcher handles failures.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWatchFailures() throws Exception
+    {
+        skipThreadTest();
+
+        final var folder = Files.createDirectory( m_TempFolder.resolve( "texts" ) );
+        Files.writeString( folder.resolve( "Texts.properties" ), "greeting=Hello\n", ISO_8859_1 );
+        Files.writeString( folder.resolve( "Texts_fr.properties" ), "greeting=Bonjour\n", ISO_8859_1 );
+
+        try( final var candidate = ReloadableCatalog.watch( folder, BASE_NAME ) )
+        {
+            final var english = candidate.getCatalog( Locale.ENGLISH );
+            final var french = candidate.getCatalog( Locale.FRENCH );
+
+            //---* A broken file does not prevent the others from reloading *--
+            Files.writeString( folder.resolve( "Texts_fr.properties" ), "greeting=\\uZZZZ\n", ISO_8859_1 );
+            Files.writeString( folder.resolve( "Texts.properties" ), "greeting=Hi\n", ISO_8859_1 );
+            awaitCondition( () -> "Hi".equals( english.retrieveText( "greeting" ) ) && (candidate.getFailureCount() > 0) );
+            assertEquals( "Hi", english.retrieveText( "greeting" ) );
+            assertEquals( "Bonjour", french.retrieveText( "greeting" ) );
+            assertTrue( candidate.getLastFailure().isPresent() );
+
+            //---* The broken file is retried *--------------------------------
+            Files.writeString( folder.resolve( "Texts_fr.properties" ), "greeting=Salut\n", ISO_8859_1 );
+            awaitCondition( () -> "Salut".equals( french.retrieveText( "greeting" ) ) );
+            assertEquals( "Salut", french.retrieveText( "greeting" ) );
+
+            //---* The folder is gone *----------------------------------------
+            final var failures = candidate.getFailureCount();
+            try( final var files = Files.list( folder ) )
+            {
+                for( final var file : (Iterable<Path>) files::iterator ) Files.delete( file );
+            }
+            Files.delete( folder );
+            awaitCondition( () -> !candidate.isWatching() );
+            assertFalse( candidate.isWatching() );
+            assertTrue( candidate.getFailureCount() > failures );
+        }
+    }   //  testWatchFailures()
+
+    /**
+     *  Writes a properties file to the temporary folder.
+     *
+     *  @param  locale  The locale.
+     *  @param  contents    The contents of the file.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    private final void writeProperties( final Locale locale, final String contents ) throws Exception
+    {
+        Files.writeString( m_TempFolder.resolve( ReloadableCatalog.composeFileName( BASE_NAME, locale ) ), contents, ISO_8859_1 );
+    }   //  writeProperties()
+}
+//  class TestReloadableCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
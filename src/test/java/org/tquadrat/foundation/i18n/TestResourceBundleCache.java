@@ -0,0 +1,136 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link ResourceBundleCache}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestResourceBundleCache.java 1289 2026-10-18 12:14:05Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestResourceBundleCache" )
+public class TestResourceBundleCache extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests that a bundle that is heavier than the maximum weight is not
+     *  kept.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEviction() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ResourceBundleCache( 1 );
+        final var bundle = candidate.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        assertTrue( bundle.isPresent() );
+        assertTrue( ResourceBundleCache.estimateWeight( bundle.get() ) > 1 );
+
+        final var statistics = candidate.getStatistics();
+        assertEquals( 1L, statistics.evictionCount() );
+        assertEquals( 0, statistics.entryCount() );
+        assertEquals( 0L, statistics.weightedSize() );
+        assertEquals( 1L, candidate.getMaximumWeight() );
+
+        assertThrows( IllegalArgumentException.class, () -> new ResourceBundleCache( 0 ) );
+    }   //  testEviction()
+
+    /**
+     *  Tests for
+     *  {@link ResourceBundleCache#getBundle(String, Locale)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testGetBundle() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new ResourceBundleCache( 1_000_000L );
+        final var first = candidate.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var second = candidate.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        assertTrue( first.isPresent() );
+        assertSame( first.get(), second.get() );
+        assertEquals( "Attrappe", first.get().getString( "text" ) );
+
+        assertFalse( candidate.getBundle( "com.foo.bar.NoSuchBundle", Locale.GERMAN ).isPresent() );
+        assertFalse( candidate.getBundle( "com.foo.bar.NoSuchBundle", Locale.GERMAN ).isPresent() );
+
+        var statistics = candidate.getStatistics();
+        assertEquals( 2L, statistics.hitCount() );
+        assertEquals( 2L, statistics.missCount() );
+        assertEquals( 0L, statistics.evictionCount() );
+        assertEquals( 2, statistics.entryCount() );
+        assertEquals( 0.5, statistics.hitRate() );
+        assertTrue( statistics.weightedSize() >= ResourceBundleCache.estimateWeight( first.get() ) );
+
+        candidate.invalidate( BASE_BUNDLE_NAME, Locale.GERMAN );
+        assertTrue( candidate.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN ).isPresent() );
+        statistics = candidate.getStatistics();
+        assertEquals( 3L, statistics.missCount() );
+
+        candidate.invalidateAll();
+        assertEquals( 0, candidate.getStatistics().entryCount() );
+
+        final var module = getClass().getModule();
+        assertTrue( candidate.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN, module ).isPresent() );
+        assertEquals( 1, candidate.getStatistics().entryCount() );
+        candidate.invalidate( BASE_BUNDLE_NAME, Locale.GERMAN );
+        assertEquals( 1, candidate.getStatistics().entryCount() );
+        candidate.invalidate( BASE_BUNDLE_NAME, Locale.GERMAN, module );
+        assertEquals( 0, candidate.getStatistics().entryCount() );
+
+        assertThrows( NullArgumentException.class, () -> candidate.getBundle( null, Locale.GERMAN ) );
+        assertThrows( EmptyArgumentException.class, () -> candidate.getBundle( "", Locale.GERMAN ) );
+        assertThrows( NullArgumentException.class, () -> candidate.getBundle( BASE_BUNDLE_NAME, null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.invalidate( BASE_BUNDLE_NAME, Locale.GERMAN, null ) );
+    }   //  testGetBundle()
+}
+//  class TestResourceBundleCache
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.i18n.TextUse.CAPTION;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link TextBatch}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestTextBatch.java 1277 2026-10-17 21:19:28Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestTextBatch" )
+public class TestTextBatch extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the creation of batches.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOf() throws Exception
+    {
+        skipThreadTest();
+
+        final var batch = TextBatch.of( TestTextBatch.class, CAPTION, "Ok", "Cancel" );
+        assertEquals( List.of( I18nUtil.composeTextKey( TestTextBatch.class, CAPTION, "Ok" ), I18nUtil.composeTextKey( TestTextBatch.class, CAPTION, "Cancel" ) ), batch.getKeys() );
+        assertEquals( 2, batch.size() );
+        assertEquals( 0, TextBatch.of().size() );
+
+        assertThrows( NullArgumentException.class, () -> TextBatch.of( (String []) null ) );
+        assertThrows( EmptyArgumentException.class, () -> TextBatch.of( "text", "" ) );
+        assertThrows( NullArgumentException.class, () -> TextBatch.of( List.of( "text" ) ).render( (ResourceBundle) null ) );
+    }   //  testOf()
+
+    /**
+     *  Tests the rendering of a batch.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRender() throws Exception
+    {
+        skipThreadTest();
+
+        final var german = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var root = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.ROOT );
+        final var batch = TextBatch.of( "text", "newline", "missing" );
+
+        for( final var bundle : List.of( german, root, german ) )
+        {
+            final var expected = new String [] { I18nUtil.retrieveText( bundle, "text" ), I18nUtil.retrieveText( bundle, "newline" ), I18nUtil.retrieveText( bundle, "missing" ) };
+            assertArrayEquals( expected, batch.render( bundle ) );
+            assertArrayEquals( expected, batch.render( TextCatalog.of( bundle ) ) );
+            assertEquals( expected [1], batch.renderToMap( bundle ).get( "newline" ) );
+        }
+
+        final var target = new String [5];
+        assertSame( target, batch.render( german, target ) );
+        assertEquals( "Attrappe", target [0] );
+        assertThrows( IllegalArgumentException.class, () -> batch.render( german, new String [2] ) );
+
+        assertEquals( List.of( "text", "newline", "missing" ), List.copyOf( batch.renderToMap( german ).keySet() ) );
+        assertArrayEquals( batch.render( german ), I18nContext.of( german ).call( () -> I18nContext.retrieveTexts( batch ) ) );
+    }   //  testRender()
+}
+//  class TestTextBatch
+
+/*
+ *  End of File
+ */
\ No newline at end of file
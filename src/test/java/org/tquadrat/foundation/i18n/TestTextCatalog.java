@@ -0,0 +1,157 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveMessage;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveText;
+import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+
+import java.time.Month;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link TextCatalog}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestTextCatalog.java 1281 2026-10-17 23:58:40Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.TestTextCatalog" )
+public class TestTextCatalog extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The base bundle name for the tests: {@value}.
+     */
+    public static final String BASE_BUNDLE_NAME = "com.foo.bar.Texts";
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for
+     *  {@link TextCatalog#compose(ResourceBundle...)}
+     *  and
+     *  {@link TextCatalog#compose(TextCatalog...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCompose() throws Exception
+    {
+        skipThreadTest();
+
+        final var texts = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var libraryA = ResourceBundle.getBundle( "com.foo.bar.LibraryA", Locale.GERMAN );
+        final var libraryB = ResourceBundle.getBundle( "com.foo.bar.LibraryB", Locale.GERMAN );
+
+        final var candidate = TextCatalog.compose( texts, libraryA, libraryB );
+        assertEquals( Locale.GERMAN, candidate.getLocale() );
+        assertEquals( texts.keySet().size() + libraryA.keySet().size() + libraryB.keySet().size(), candidate.size() );
+        assertEquals( "Attrappe", candidate.retrieveText( "text" ) );
+        assertEquals( retrieveMessage( libraryA, "SFX", 1704, true, 8080 ), candidate.retrieveMessage( "SFX", 1704, true, 8080 ) );
+        assertEquals( retrieveMessage( libraryA, "SFX", 1, true ), candidate.retrieveMessage( "SFX", 1, true ) );
+        assertEquals( retrieveMessage( libraryB, "MY-LIB", 2, true, "Welt" ), candidate.retrieveMessage( "MY-LIB", 2, true, "Welt" ) );
+        assertEquals( retrieveText( texts, "missing" ), candidate.retrieveText( "missing" ) );
+
+        //---* The first source wins *-----------------------------------------
+        final var german = TextCatalog.of( texts );
+        final var root = TextCatalog.of( ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.ROOT ) );
+        assertEquals( "Attrappe", TextCatalog.compose( german, root ).retrieveText( "text" ) );
+        assertEquals( "dummy", TextCatalog.compose( root, german ).retrieveText( "text" ) );
+        assertEquals( german.keySet(), TextCatalog.compose( root, german ).keySet() );
+
+        assertThrows( NullArgumentException.class, () -> TextCatalog.compose( (ResourceBundle []) null ) );
+        assertThrows( EmptyArgumentException.class, () -> TextCatalog.compose( new TextCatalog [0] ) );
+        assertThrows( NullArgumentException.class, () -> TextCatalog.compose( german, null ) );
+    }   //  testCompose()
+
+    /**
+     *  Tests for
+     *  {@link TextCatalog#of(ResourceBundle)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOf() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> TextCatalog.of( null ) );
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var candidate = TextCatalog.of( bundle );
+        assertEquals( bundle.getLocale(), candidate.getLocale() );
+        assertEquals( bundle.keySet(), candidate.keySet() );
+        assertEquals( Set.of( "text", "newline", "greeting" ), candidate.keySet() );
+        assertEquals( 3, candidate.size() );
+        assertTrue( candidate.containsKey( "newline" ) );
+        assertFalse( candidate.containsKey( "missing" ) );
+    }   //  testOf()
+
+    /**
+     *  Tests for
+     *  {@link TextCatalog#retrieveText(String, Object...)},
+     *  {@link TextCatalog#retrieveText(Enum)}
+     *  and
+     *  {@link TextCatalog#retrieveMessage(String, int, boolean, Object...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRetrieve() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = ResourceBundle.getBundle( BASE_BUNDLE_NAME, Locale.GERMAN );
+        final var candidate = TextCatalog.of( bundle );
+
+        for( final var key : new String [] {"text", "newline", "greeting", "missing"} )
+        {
+            assertEquals( retrieveText( bundle, key, "Welt" ), candidate.retrieveText( key, "Welt" ) );
+        }
+        assertEquals( "Attrappe", candidate.retrieveText( "text" ) );
+        assertEquals( "Hallo Welt!", candidate.retrieveText( "greeting", "Welt" ) );
+        assertEquals( retrieveText( bundle, Month.JUNE ), candidate.retrieveText( Month.JUNE ) );
+        assertEquals( retrieveMessage( bundle, "MSG", 1704, true, 8080 ), candidate.retrieveMessage( "MSG", 1704, true, 8080 ) );
+
+        assertThrows( NullArgumentException.class, () -> candidate.retrieveText( (String) null ) );
+        assertThrows( EmptyArgumentException.class, () -> candidate.retrieveText( EMPTY_STRING ) );
+        assertThrows( NullArgumentException.class, () -> candidate.retrieveText( "text", (Object []) null ) );
+    }   //  testRetrieve()
+}
+//  class TestTextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
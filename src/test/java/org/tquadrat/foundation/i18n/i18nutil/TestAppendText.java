@@ -0,0 +1,163 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.i18nutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.i18n.I18nUtil.appendMessage;
+import static org.tquadrat.foundation.i18n.I18nUtil.appendText;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveMessage;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveText;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.i18n.I18nUtil;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.testutil.impl.ResourceBundleImpl;
+
+/**
+ *  Some tests for the methods {@code appendText()} and
+ *  {@code appendMessage()} in
+ *  {@link I18nUtil}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@DisplayName( "org.tquadrat.foundation.i18n.i18nutil.TestAppendText" )
+public class TestAppendText extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates an instance of
+     *  {@link ResourceBundle}
+     *  with some texts.
+     *
+     *  @return The bundle instance.
+     */
+    private static final ResourceBundle createResourceBundle()
+    {
+        final ResourceBundle retValue = new ResourceBundleImpl( Map.<String,Object>of( "static", "Static\\ttext", "key", "Key '%s'", "MSG-000042", "Port %d" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createResourceBundle()
+
+    /**
+     *  Tests for
+     *  {@link I18nUtil#appendMessage(StringBuilder, ResourceBundle, String, int, boolean, Object...)},
+     *  {@link I18nUtil#appendMessage(CharBuffer, ResourceBundle, String, int, boolean, Object...)}
+     *  and
+     *  {@link I18nUtil#appendMessage(Appendable, ResourceBundle, String, int, boolean, Object...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testAppendMessage() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = createResourceBundle();
+        for( final var addKey : new boolean [] {true, false} )
+        {
+            for( final var id : new int [] {42, 43} )
+            {
+                final var expected = retrieveMessage( bundle, "MSG", id, addKey, 8080 );
+                assertEquals( expected, appendMessage( new StringBuilder(), bundle, "MSG", id, addKey, 8080 ).toString() );
+                assertEquals( expected, appendMessage( new StringWriter(), bundle, "MSG", id, addKey, 8080 ).toString() );
+                final var buffer = CharBuffer.allocate( 64 );
+                appendMessage( buffer, bundle, "MSG", id, addKey, 8080 );
+                assertEquals( expected, buffer.flip().toString() );
+            }
+            assertEquals( retrieveMessage( bundle, "MSG", "000042", addKey, 8080 ), appendMessage( new StringBuilder(), bundle, "MSG", "000042", addKey, 8080 ).toString() );
+        }
+        assertEquals( "[MSG-000042] Port 8080", appendMessage( new StringBuilder(), bundle, "MSG", 42, true, 8080 ).toString() );
+
+        //---* The buffer remains unchanged on overflow *----------------------
+        for( final var size : new int [] {4, 14, 21} )
+        {
+            final var buffer = CharBuffer.allocate( size );
+            assertThrows( BufferOverflowException.class, () -> appendMessage( buffer, bundle, "MSG", 42, true, 8080 ) );
+            assertEquals( 0, buffer.position() );
+            assertThrows( BufferOverflowException.class, () -> appendMessage( buffer, bundle, "MSG", "000042", true, 8080 ) );
+            assertEquals( 0, buffer.position() );
+            assertThrows( BufferOverflowException.class, () -> appendMessage( (Appendable) buffer, bundle, "MSG", 42, true, 8080 ) );
+            assertEquals( 0, buffer.position() );
+        }
+        final var buffer = CharBuffer.allocate( 22 );
+        appendMessage( buffer, bundle, "MSG", 42, true, 8080 );
+        assertEquals( "[MSG-000042] Port 8080", buffer.flip().toString() );
+    }   //  testAppendMessage()
+
+    /**
+     *  Tests for
+     *  {@link I18nUtil#appendText(StringBuilder, ResourceBundle, String, Object...)},
+     *  {@link I18nUtil#appendText(CharBuffer, ResourceBundle, String, Object...)}
+     *  and
+     *  {@link I18nUtil#appendText(Appendable, ResourceBundle, String, Object...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testAppendText() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = createResourceBundle();
+        for( final var key : new String [] {"static", "key", "missing"} )
+        {
+            final var expected = retrieveText( bundle, key, "arg" );
+
+            final var builder = new StringBuilder( "> " );
+            assertSame( builder, appendText( builder, bundle, key, "arg" ) );
+            assertEquals( "> " + expected, builder.toString() );
+
+            assertEquals( expected, appendText( new StringWriter(), bundle, key, "arg" ).toString() );
+
+            final var buffer = CharBuffer.allocate( 64 );
+            assertSame( buffer, appendText( buffer, bundle, key, "arg" ) );
+            assertEquals( expected, buffer.flip().toString() );
+        }
+
+        //---* The buffer remains unchanged on failure *-----------------------
+        final var builder = new StringBuilder( "> " );
+        assertThrows( MissingFormatArgumentException.class, () -> appendText( builder, bundle, "key" ) );
+        assertEquals( "> ", builder.toString() );
+
+        final var buffer = CharBuffer.allocate( 4 );
+        assertThrows( BufferOverflowException.class, () -> appendText( buffer, bundle, "key", "arg" ) );
+        assertEquals( 0, buffer.position() );
+
+        assertThrows( NullArgumentException.class, () -> appendText( (StringBuilder) null, bundle, "key", "arg" ) );
+        assertThrows( NullArgumentException.class, () -> appendText( new StringBuilder(), null, "key", "arg" ) );
+    }   //  testAppendText()
+}
+//  class TestAppendText
+
+/*
+ *  End of File
+ */
\ No newline at end of file
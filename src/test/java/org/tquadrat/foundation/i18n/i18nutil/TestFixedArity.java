@@ -0,0 +1,151 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.i18nutil;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveMessage;
+import static org.tquadrat.foundation.i18n.I18nUtil.retrieveText;
+
+import java.util.IllegalFormatConversionException;
+import java.util.Map;
+import java.util.MissingFormatArgumentException;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.i18n.I18nUtil;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.testutil.impl.ResourceBundleImpl;
+
+/**
+ *  Some tests for the fixed-arity and the primitive overloads of
+ *  {@code retrieveText()} and {@code retrieveMessage()} in
+ *  {@link I18nUtil}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@DisplayName( "org.tquadrat.foundation.i18n.i18nutil.TestFixedArity" )
+public class TestFixedArity extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates an instance of
+     *  {@link ResourceBundle}
+     *  with some texts.
+     *
+     *  @return The bundle instance.
+     */
+    private static final ResourceBundle createResourceBundle()
+    {
+        final ResourceBundle retValue = new ResourceBundleImpl( Map.<String,Object>of(
+            "string", "Value: %s",
+            "decimal", "Port %d\\t(%1$s)",
+            "hex", "0x%x",
+            "float", "%.2f",
+            "second", "%2$s",
+            "four", "%4$s-%3$s-%2$s-%1$s",
+            "MSG-000042", "Port %d" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createResourceBundle()
+
+    /**
+     *  Tests for the fixed-arity overloads of
+     *  {@link I18nUtil#retrieveText(ResourceBundle, String, Object...)}
+     *  and
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testFixedArity() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = createResourceBundle();
+
+        assertEquals( "Value: arg", retrieveText( bundle, "string", "arg" ) );
+        assertEquals( "b", retrieveText( bundle, "second", "a", "b" ) );
+        assertEquals( "b", retrieveText( bundle, "second", "a", "b", "c" ) );
+        assertEquals( "d-c-b-a", retrieveText( bundle, "four", "a", "b", "c", "d" ) );
+        assertEquals( "d-c-b-a", retrieveText( bundle, "four", new Object [] {"a", "b", "c", "d"} ) );
+        assertEquals( "Value: null", retrieveText( bundle, "string", (Object) null ) );
+
+        assertThrows( MissingFormatArgumentException.class, () -> retrieveText( bundle, "second", "a" ) );
+        assertThrows( MissingFormatArgumentException.class, () -> retrieveText( bundle, "four", "a", "b", "c" ) );
+
+        assertEquals( retrieveText( bundle, "missing", new Object [] {"a"} ), retrieveText( bundle, "missing", "a" ) );
+        assertEquals( retrieveText( bundle, "missing", new Object [] {"a", "b"} ), retrieveText( bundle, "missing", "a", "b" ) );
+
+        assertEquals( "[MSG-000042] Port 8080", retrieveMessage( bundle, "MSG", 42, true, Integer.valueOf( 8080 ) ) );
+        assertEquals( "Port 8080", retrieveMessage( bundle, "MSG", "000042", false, Integer.valueOf( 8080 ) ) );
+        assertEquals( retrieveMessage( bundle, "MSG", 43, true, new Object [] {"a", "b"} ), retrieveMessage( bundle, "MSG", 43, true, "a", "b" ) );
+    }   //  testFixedArity()
+
+    /**
+     *  Tests for the overloads of
+     *  {@link I18nUtil#retrieveText(ResourceBundle, String, Object...)}
+     *  and
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)}
+     *  that take a single argument of a primitive type.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testPrimitives() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = createResourceBundle();
+
+        assertEquals( "Value: 42", retrieveText( bundle, "string", 42 ) );
+        assertEquals( "Value: -42", retrieveText( bundle, "string", -42L ) );
+        assertEquals( format( "Value: %s", 0.1 ), retrieveText( bundle, "string", 0.1 ) );
+        assertEquals( format( "Value: %s", Double.NaN ), retrieveText( bundle, "string", Double.NaN ) );
+        assertEquals( format( "Value: %s", Long.MIN_VALUE ), retrieveText( bundle, "string", Long.MIN_VALUE ) );
+        assertEquals( "Port 8080\t(8080)", retrieveText( bundle, "decimal", 8080 ) );
+        assertEquals( "Port 8080\t(8080)", retrieveText( bundle, "decimal", 8080L ) );
+        assertEquals( format( "%.2f", 3.14159 ), retrieveText( bundle, "float", 3.14159 ) );
+
+        //---* The conversion depends on the type of the argument *-----------
+        assertEquals( "0xffffffff", retrieveText( bundle, "hex", -1 ) );
+        assertEquals( "0xffffffffffffffff", retrieveText( bundle, "hex", -1L ) );
+        assertEquals( "0xff", retrieveText( bundle, "hex", (byte) -1 ) );
+        assertEquals( "0xffff", retrieveText( bundle, "hex", (short) -1 ) );
+        assertEquals( "Value: c", retrieveText( bundle, "string", 'c' ) );
+        assertEquals( format( "Value: %s", 1.1f ), retrieveText( bundle, "string", 1.1f ) );
+
+        assertThrows( IllegalFormatConversionException.class, () -> retrieveText( bundle, "decimal", 1.0 ) );
+        assertThrows( MissingFormatArgumentException.class, () -> retrieveText( bundle, "second", 1 ) );
+
+        assertEquals( retrieveText( bundle, "missing", new Object [] {42} ), retrieveText( bundle, "missing", 42 ) );
+
+        assertEquals( "[MSG-000042] Port 8080", retrieveMessage( bundle, "MSG", 42, true, 8080 ) );
+        assertEquals( "Port 8080", retrieveMessage( bundle, "MSG", "000042", false, 8080L ) );
+    }   //  testPrimitives()
+}
+//  class TestFixedArity
+
+/*
+ *  End of File
+ */
\ No newline at end of file
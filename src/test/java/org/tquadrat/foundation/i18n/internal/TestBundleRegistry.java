@@ -0,0 +1,144 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+import static java.lang.System.nanoTime;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.i18n.internal.BundleRegistry.MAX_MISSING_BUNDLES;
+import static org.tquadrat.foundation.i18n.internal.BundleRegistry.MISSING_BUNDLE_TTL;
+import static org.tquadrat.foundation.i18n.internal.BundleRegistry.loadResourceBundle;
+import static org.tquadrat.foundation.i18n.internal.BundleRegistry.missingBundleCount;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link BundleRegistry}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestBundleRegistry.java 1300 2026-10-18 16:27:09Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestBundleRegistry" )
+public class TestBundleRegistry extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests that the number of remembered missing bundles is bounded.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBound() throws Exception
+    {
+        skipThreadTest();
+
+        final var now = nanoTime();
+        for( var i = 0; i < MAX_MISSING_BUNDLES + 10; ++i )
+        {
+            assertTrue( loadResourceBundle( "com.foo.bar.Missing%d".formatted( i ), Locale.ROOT, null, now ).isEmpty() );
+            assertTrue( missingBundleCount() <= MAX_MISSING_BUNDLES );
+        }
+        assertEquals( MAX_MISSING_BUNDLES, missingBundleCount() );
+    }   //  testBound()
+
+    /**
+     *  Tests that a loaded bundle is returned from the registry.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testHit() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = loadResourceBundle( "com.foo.bar.Texts", Locale.ROOT, null );
+        assertTrue( bundle.isPresent() );
+        assertSame( bundle.get(), loadResourceBundle( "com.foo.bar.Texts", Locale.ROOT, null ).orElseThrow() );
+    }   //  testHit()
+
+    /**
+     *  Tests the request for a bundle that does not exist.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testMiss() throws Exception
+    {
+        skipThreadTest();
+
+        assertTrue( loadResourceBundle( "com.foo.bar.DoesNotExist", Locale.ROOT, null ).isEmpty() );
+        assertTrue( loadResourceBundle( "com.foo.bar.DoesNotExist", Locale.ROOT, null ).isEmpty() );
+    }   //  testMiss()
+
+    /**
+     *  Tests that a bundle that was deployed after a miss is found once the
+     *  miss has expired.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRetry() throws Exception
+    {
+        skipThreadTest();
+
+        final var texts = getClass().getResource( "/com/foo/bar/Texts.properties" );
+        assertNotNull( texts );
+        final var file = Path.of( texts.toURI() ).resolveSibling( "Deployed.properties" );
+        Files.deleteIfExists( file );
+        final var baseBundleName = "com.foo.bar.Deployed";
+        final var classLoader = getClass().getClassLoader();
+        final var now = nanoTime();
+        try
+        {
+            assertTrue( loadResourceBundle( baseBundleName, Locale.ROOT, null, now ).isEmpty() );
+
+            Files.writeString( file, "KEY = Deployed\n", ISO_8859_1 );
+            ResourceBundle.clearCache( classLoader );
+
+            final var ttl = MISSING_BUNDLE_TTL * 1_000_000L;
+            assertTrue( loadResourceBundle( baseBundleName, Locale.ROOT, null, now + ttl - 1 ).isEmpty() );
+            final var bundle = loadResourceBundle( baseBundleName, Locale.ROOT, null, now + ttl );
+            assertTrue( bundle.isPresent() );
+            assertEquals( "Deployed", bundle.get().getString( "KEY" ) );
+            assertSame( bundle.get(), loadResourceBundle( baseBundleName, Locale.ROOT, null, now ).orElseThrow() );
+        }
+        finally
+        {
+            Files.deleteIfExists( file );
+            ResourceBundle.clearCache( classLoader );
+        }
+    }   //  testRetry()
+}
+//  class TestBundleRegistry
+
+/*
+ *  End of File
+ */
\ No newline at end of file
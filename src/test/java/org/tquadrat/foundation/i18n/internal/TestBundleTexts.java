@@ -0,0 +1,265 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.tquadrat.foundation.i18n.TextUse.STRING;
+import static org.tquadrat.foundation.i18n.internal.BundleTexts.MAX_MISSING_KEYS;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.I18nUtil;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link BundleTexts}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestBundleTexts.java 1307 2026-10-18 18:39:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestBundleTexts" )
+public class TestBundleTexts extends TestBaseClass
+{
+        /*------------------------------*\
+    ====** Inner Classes and Interfaces **=====================================
+        \*------------------------------*/
+    /**
+     *  An {@code enum} for the tests.
+     */
+    private enum Colour { RED, GREEN, BLUE }
+
+    /**
+     *  Another {@code enum} for the tests.
+     */
+    private enum Size { SMALL, LARGE }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a resource bundle that counts the calls to
+     *  {@link ResourceBundle#containsKey(String)}.
+     *
+     *  @param  lookups The counter for the calls.
+     *  @param  parentBundle    The parent bundle; can be {@code null}.
+     *  @param  contents    The contents of the bundle.
+     *  @return The resource bundle.
+     */
+    private static final ResourceBundle createBundle( final AtomicInteger lookups, final ResourceBundle parentBundle, final Object [][] contents )
+    {
+        final ResourceBundle retValue = new ListResourceBundle()
+        {
+            {
+                if( parentBundle != null ) setParent( parentBundle );
+            }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean containsKey( final String key )
+            {
+                lookups.incrementAndGet();
+                return super.containsKey( key );
+            }   //  containsKey()
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            protected final Object [][] getContents() { return contents; }
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createBundle()
+
+    /**
+     *  Returns the text key for the given {@code enum} value.
+     *
+     *  @param  value   The {@code enum} value.
+     *  @return The text key.
+     */
+    private static final String enumKey( final Enum<?> value ) { return KeyCache.composeTextKey( value.getDeclaringClass().getName(), STRING, value.name() ); }
+
+    /**
+     *  Tests
+     *  {@link BundleTexts#getEnumText(Enum)}
+     *  with two {@code enum} types in one bundle, including a value without
+     *  a text.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testGetEnumText() throws Exception
+    {
+        skipThreadTest();
+
+        final var lookups = new AtomicInteger();
+        final var bundle = createBundle( lookups, null, new Object [][]
+        {
+            {enumKey( Colour.RED ), "Red"},
+            {enumKey( Colour.BLUE ), "Blue"},
+            {enumKey( Size.SMALL ), "Small"},
+            {enumKey( Size.LARGE ), "Large"}
+        } );
+        final var candidate = BundleTexts.of( bundle );
+
+        assertEquals( "Red", candidate.getEnumText( Colour.RED ) );
+        assertEquals( I18nUtil.createFallback( enumKey( Colour.GREEN ) ), candidate.getEnumText( Colour.GREEN ) );
+        assertEquals( "Blue", candidate.getEnumText( Colour.BLUE ) );
+        assertEquals( "Small", candidate.getEnumText( Size.SMALL ) );
+        assertEquals( "Large", candidate.getEnumText( Size.LARGE ) );
+        assertEquals( 5, lookups.get() );
+
+        //---* Now from the cache *--------------------------------------------
+        for( final var value : Colour.values() ) assertSame( candidate.getEnumText( value ), candidate.getEnumText( value ) );
+        for( final var value : Size.values() ) assertSame( candidate.getEnumText( value ), candidate.getEnumText( value ) );
+        assertEquals( I18nUtil.createFallback( enumKey( Colour.GREEN ) ), candidate.getEnumText( Colour.GREEN ) );
+        assertEquals( 5, lookups.get() );
+    }   //  testGetEnumText()
+
+    /**
+     *  Tests that the texts for the same {@code enum} type are cached per
+     *  bundle.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testGetEnumTextTwoBundles() throws Exception
+    {
+        skipThreadTest();
+
+        final var english = BundleTexts.of( createBundle( new AtomicInteger(), null, new Object [][] { {enumKey( Colour.RED ), "Red"}, {enumKey( Colour.GREEN ), "Green"} } ) );
+        final var german = BundleTexts.of( createBundle( new AtomicInteger(), null, new Object [][] { {enumKey( Colour.RED ), "Rot"} } ) );
+        assertNotSame( english, german );
+
+        assertEquals( "Red", english.getEnumText( Colour.RED ) );
+        assertEquals( "Rot", german.getEnumText( Colour.RED ) );
+        assertEquals( "Green", english.getEnumText( Colour.GREEN ) );
+        assertEquals( I18nUtil.createFallback( enumKey( Colour.GREEN ) ), german.getEnumText( Colour.GREEN ) );
+
+        //---* The first bundle is not affected by the second *----------------
+        assertEquals( "Red", english.getEnumText( Colour.RED ) );
+        assertEquals( "Green", english.getEnumText( Colour.GREEN ) );
+    }   //  testGetEnumTextTwoBundles()
+
+    /**
+     *  Tests that a key that is missing in a bundle and in its parents is
+     *  looked up only once, while the keys from the parent are found.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testMissingKeyInChain() throws Exception
+    {
+        skipThreadTest();
+
+        final var lookups = new AtomicInteger();
+        final var parent = createBundle( new AtomicInteger(), null, new Object [][] { {"inParent", "Parent"}, {"overridden", "Parent"} } );
+        final var bundle = createBundle( lookups, parent, new Object [][] { {"overridden", "Child"} } );
+        final var candidate = BundleTexts.of( bundle );
+
+        assertEquals( "Parent", candidate.getTemplate( "inParent" ).render() );
+        assertEquals( "Child", candidate.getTemplate( "overridden" ).render() );
+        assertNull( candidate.getTemplate( "missing" ) );
+        assertNull( candidate.getTemplate( "missing" ) );
+        assertEquals( 3, lookups.get() );
+        assertEquals( 1, candidate.missingKeyCount() );
+
+        //---* A bundle that was loaded with its parent chain *----------------
+        final var german = ResourceBundle.getBundle( "com.foo.bar.Texts", Locale.GERMAN );
+        final var texts = BundleTexts.of( german );
+        assertNotNull( texts.getTemplate( "newline" ) );
+        assertNull( texts.getTemplate( "missing" ) );
+        assertNull( texts.getTemplate( "missing" ) );
+        assertEquals( 1, texts.missingKeyCount() );
+    }   //  testMissingKeyInChain()
+
+    /**
+     *  Tests that a missing key is looked up in the bundle only once.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRepeatedMiss() throws Exception
+    {
+        skipThreadTest();
+
+        final var lookups = new AtomicInteger();
+        final var bundle = createBundle( lookups, null, new Object [][] { {"key", "Text"} } );
+        final var candidate = BundleTexts.of( bundle );
+
+        for( var i = 0; i < 10; ++i ) assertNull( candidate.getTemplate( "missing" ) );
+        assertEquals( 1, lookups.get() );
+        assertEquals( 1, candidate.missingKeyCount() );
+
+        for( var i = 0; i < 10; ++i ) assertEquals( "Text", candidate.getTemplate( "key" ).render() );
+        assertEquals( 2, lookups.get() );
+        assertEquals( 1, candidate.missingKeyCount() );
+    }   //  testRepeatedMiss()
+
+    /**
+     *  Tests that the cache for the missing keys is reset when its bound is
+     *  reached.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testResetMissingKeys() throws Exception
+    {
+        skipThreadTest();
+
+        final var lookups = new AtomicInteger();
+        final var bundle = createBundle( lookups, null, new Object [][] { {"key", "Text"} } );
+        final var candidate = BundleTexts.of( bundle );
+
+        for( var i = 0; i < MAX_MISSING_KEYS; ++i ) assertNull( candidate.getTemplate( "missing%d".formatted( i ) ) );
+        assertEquals( MAX_MISSING_KEYS, candidate.missingKeyCount() );
+        assertEquals( MAX_MISSING_KEYS, lookups.get() );
+
+        //---* Still cached *--------------------------------------------------
+        assertNull( candidate.getTemplate( "missing0" ) );
+        assertEquals( MAX_MISSING_KEYS, lookups.get() );
+
+        //---* The next miss resets the cache *--------------------------------
+        assertNull( candidate.getTemplate( "missing%d".formatted( MAX_MISSING_KEYS ) ) );
+        assertEquals( 1, candidate.missingKeyCount() );
+        assertNull( candidate.getTemplate( "missing0" ) );
+        assertEquals( MAX_MISSING_KEYS + 2, lookups.get() );
+        assertEquals( 2, candidate.missingKeyCount() );
+
+        //---* Existing keys are not affected *--------------------------------
+        assertEquals( "Text", candidate.getTemplate( "key" ).render() );
+    }   //  testResetMissingKeys()
+}
+//  class TestBundleTexts
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,93 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link FlatTextCatalog}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestFlatTextCatalog.java 1283 2026-10-18 01:24:09Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestFlatTextCatalog" )
+public class TestFlatTextCatalog extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests
+     *  {@link FlatTextCatalog#update(Map, Set)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testUpdate() throws Exception
+    {
+        skipThreadTest();
+
+        final var entries = new HashMap<String,TextTemplate>();
+        for( var i = 0; i < 100; ++i ) entries.put( "key" + i, TextTemplate.compile( "Text %d " + i ) );
+        final var candidate = new FlatTextCatalog( Locale.GERMAN, entries );
+
+        //---* No changes *----------------------------------------------------
+        assertSame( candidate, candidate.update( Map.of(), Set.of() ) );
+        assertSame( candidate, candidate.update( Map.of(), Set.of( "unknown" ) ) );
+
+        //---* Modify an entry *-----------------------------------------------
+        final var modified = candidate.update( Map.of( "key7", TextTemplate.compile( "Changed" ) ), Set.of() );
+        assertEquals( "Changed", modified.retrieveText( "key7" ) );
+        assertEquals( "Text %d 7", candidate.getTemplate( "key7" ).getPattern() );
+        assertEquals( 100, modified.size() );
+        assertSame( candidate.getTemplate( "key8" ), modified.getTemplate( "key8" ) );
+        assertEquals( candidate.keySet(), modified.keySet() );
+
+        //---* Add and remove entries *----------------------------------------
+        final var restructured = modified.update( Map.of( "key100", TextTemplate.compile( "New" ) ), Set.of( "key0", "key1" ) );
+        assertEquals( 99, restructured.size() );
+        assertEquals( "New", restructured.retrieveText( "key100" ) );
+        assertFalse( restructured.containsKey( "key0" ) );
+        assertNull( restructured.getTemplate( "key1" ) );
+        assertTrue( modified.containsKey( "key0" ) );
+        assertSame( modified.getTemplate( "key7" ), restructured.getTemplate( "key7" ) );
+        assertSame( candidate.getTemplate( "key99" ), restructured.getTemplate( "key99" ) );
+        assertEquals( Locale.GERMAN, restructured.getLocale() );
+    }   //  testUpdate()
+}
+//  class TestFlatTextCatalog
+
+/*
+ *  End of File
+ */
\ No newline at end of file
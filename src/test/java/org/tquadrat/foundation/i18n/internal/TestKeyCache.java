@@ -0,0 +1,141 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.tquadrat.foundation.i18n.internal.KeyCache.CACHE_SIZE;
+import static org.tquadrat.foundation.i18n.internal.KeyCache.composeMessageKey;
+import static org.tquadrat.foundation.i18n.internal.KeyCache.composeTextKey;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.TextUse;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link KeyCache}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestKeyCache.java 1306 2026-10-18 18:21:38Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestKeyCache" )
+public class TestKeyCache extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The message ids for the tests.
+     */
+    private static final int [] MESSAGE_IDS =
+    {
+        0, 1, 5, 1704, 99_999, 100_000, 999_999, 1_000_000, 1_234_567, Integer.MAX_VALUE,
+        -1, -3, -9_999, -99_999, -100_000, -999_999, -1_000_000, Integer.MIN_VALUE + 1, Integer.MIN_VALUE
+    };
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests that the results are correct even when the entries in the
+     *  cache are replaced by others for the same slot: there are more keys
+     *  than slots, so some of them have to collide.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCollisions() throws Exception
+    {
+        skipThreadTest();
+
+        final var count = CACHE_SIZE * 4;
+        for( var pass = 0; pass < 2; ++pass )
+        {
+            for( var i = 0; i < count; ++i )
+            {
+                final var id = pass == 0 ? i : count - 1 - i;
+                assertEquals( String.format( Locale.ROOT, "%s-%06d", "COL", id ), composeMessageKey( "COL", id ) );
+                assertEquals( String.format( Locale.ROOT, "%s-%06d", "COL", -id ), composeMessageKey( "COL", -id ) );
+                for( final var use : TextUse.values() )
+                {
+                    final var textId = "ID" + id;
+                    assertEquals( String.format( "%s.%s_%s", "org.foo.Bar", use.name(), textId ), composeTextKey( "org.foo.Bar", use, textId ) );
+                }
+            }
+        }
+    }   //  testCollisions()
+
+    /**
+     *  Tests
+     *  {@link KeyCache#composeMessageKey(String, int)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testComposeMessageKey() throws Exception
+    {
+        skipThreadTest();
+
+        for( final var prefix : new String [] { "MSG", "ERR", "" } )
+        {
+            for( final var id : MESSAGE_IDS )
+            {
+                final var expected = String.format( Locale.ROOT, "%s-%06d", prefix, id );
+                assertEquals( expected, composeMessageKey( prefix, id ) );
+
+                //---* Now from the cache *------------------------------------
+                assertEquals( expected, composeMessageKey( prefix, id ) );
+            }
+        }
+    }   //  testComposeMessageKey()
+
+    /**
+     *  Tests
+     *  {@link KeyCache#composeTextKey(String, TextUse, String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testComposeTextKey() throws Exception
+    {
+        skipThreadTest();
+
+        for( final var sourceClass : new String [] { "org.tquadrat.foundation.i18n.Foo", "Foo", "org.foo.Bar$Inner" } )
+        {
+            for( final var use : TextUse.values() )
+            {
+                for( final var id : new String [] { "ID", "ANOTHER_ID", "", "1704" } )
+                {
+                    final var expected = String.format( "%s.%s_%s", sourceClass, use.name(), id );
+                    assertEquals( expected, composeTextKey( sourceClass, use, id ) );
+
+                    //---* Now from the cache *--------------------------------
+                    assertEquals( expected, composeTextKey( sourceClass, use, id ) );
+                }
+            }
+        }
+    }   //  testComposeTextKey()
+}
+//  class TestKeyCache
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.i18n.I18nUtil;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link MessageTable}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestMessageTable.java 1279 2026-10-17 22:44:16Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestMessageTable" )
+public class TestMessageTable extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the resource bundle for the tests.
+     *
+     *  @return The resource bundle.
+     */
+    private static final ResourceBundle createBundle()
+    {
+        final ResourceBundle retValue = new ListResourceBundle()
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            protected final Object [][] getContents()
+            {
+                return new Object [][]
+                {
+                    {"MSG-000005", "Five"},
+                    {"MSG-001704", "Port %d is in use"},
+                    {"MSG-100000", "Large %s"},
+                    {"MSG--00003", "Negative"}
+                };
+            }   //  getContents()
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createBundle()
+
+    /**
+     *  Tests
+     *  {@link MessageTable#getEntry(int)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testGetEntry() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = createBundle();
+        final var candidate = BundleTexts.of( bundle ).getMessageTable( "MSG" );
+        assertEquals( "MSG", candidate.getMessagePrefix() );
+        assertSame( candidate, BundleTexts.of( bundle ).getMessageTable( "MSG" ) );
+
+        for( final var id : new int [] { 5, 1704, 100_000, -3, 17, MessageTable.DENSE_LIMIT - 1, MessageTable.DENSE_LIMIT, Integer.MIN_VALUE } )
+        {
+            final var entry = candidate.getEntry( id );
+            assertEquals( I18nUtil.composeMessageKey( "MSG", id ), entry.key() );
+            assertSame( entry, candidate.getEntry( id ) );
+        }
+        assertNotNull( candidate.getEntry( 1704 ).template() );
+        assertNotNull( candidate.getEntry( -3 ).template() );
+        assertNull( candidate.getEntry( 17 ).template() );
+    }   //  testGetEntry()
+
+    /**
+     *  Tests that the results of
+     *  {@link I18nUtil#retrieveMessage(ResourceBundle, String, int, boolean, Object...)}
+     *  are the same as for the message key.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRetrieveMessage() throws Exception
+    {
+        skipThreadTest();
+
+        final var bundle = createBundle();
+        for( final var id : new int [] { 5, 1704, 100_000, -3, 17 } )
+        {
+            final var key = I18nUtil.composeMessageKey( "MSG", id );
+            for( final var addKey : new boolean [] { true, false } )
+            {
+                final var expected = (addKey ? "[" + key + "] " : "") + I18nUtil.retrieveText( bundle, key, 8080 );
+                assertEquals( expected, I18nUtil.retrieveMessage( bundle, "MSG", id, addKey, 8080 ) );
+                assertEquals( expected, I18nUtil.retrieveMessage( bundle, "MSG", id, addKey, Integer.valueOf( 8080 ) ) );
+                assertEquals( expected, I18nUtil.retrieveMessage( bundle, "MSG", id, addKey, new Object [] { 8080 } ) );
+            }
+        }
+        assertEquals( "[MSG-001704] Port 8080 is in use", I18nUtil.retrieveMessage( bundle, "MSG", 1704, true, 8080 ) );
+    }   //  testRetrieveMessage()
+}
+//  class TestMessageTable
+
+/*
+ *  End of File
+ */
\ No newline at end of file
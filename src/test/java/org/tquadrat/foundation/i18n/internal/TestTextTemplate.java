@@ -0,0 +1,158 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.IllegalFormatException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link TextTemplate}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestTextTemplate.java 1267 2026-10-17 14:05:31Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestTextTemplate" )
+public class TestTextTemplate extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Provides the patterns and arguments for
+     *  {@link #testRender(String, Object[])}.
+     *
+     *  @return The test data.
+     */
+    static final Stream<Arguments> provideTestData()
+    {
+        final var retValue = Stream.of(
+            Arguments.of( "Plain text", new Object [0] ),
+            Arguments.of( "Plain text", new Object [] {"ignored"} ),
+            Arguments.of( "Key '%s'", new Object [] {"key"} ),
+            Arguments.of( "Key '%s'", new Object [] {null} ),
+            Arguments.of( "%d items", new Object [] {42} ),
+            Arguments.of( "%d items", new Object [] {-42L} ),
+            Arguments.of( "%05d", new Object [] {-7} ),
+            Arguments.of( "%1$s %1$s %2$s", new Object [] {"a", "b"} ),
+            Arguments.of( "%s %<s", new Object [] {"a"} ),
+            Arguments.of( "50%% of %d%n", new Object [] {100} ),
+            Arguments.of( "%-10s|%.2f", new Object [] {"left", 3.14159} ),
+            Arguments.of( "first line\\nsecond line: %s", new Object [] {"arg"} ),
+            Arguments.of( "octal \\12%s", new Object [] {"3"} ),
+            Arguments.of( "argument with escape: %s", new Object [] {"a\\tb"} ),
+            Arguments.of( "array: %s", new Object [] {new Object [] {1, 2}} )
+        );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  provideTestData()
+
+    /**
+     *  Tests for
+     *  {@link TextTemplate#render(Object...)}.
+     *
+     *  @param  pattern The pattern.
+     *  @param  args    The arguments.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @ParameterizedTest
+    @MethodSource( "provideTestData" )
+    final void testRender( final String pattern, final Object [] args ) throws Exception
+    {
+        skipThreadTest();
+
+        final var expected = format( pattern, args ).translateEscapes();
+        final var actual = TextTemplate.compile( pattern ).render( args );
+        assertEquals( expected, actual );
+    }   //  testRender()
+
+    /**
+     *  Tests for
+     *  {@link TextTemplate#render(Object...)}
+     *  with invalid patterns or missing arguments.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRenderWithInvalidPattern() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( IllegalFormatException.class, () -> TextTemplate.compile( "%s %s" ).render( "one" ) );
+        assertThrows( IllegalFormatException.class, () -> TextTemplate.compile( "%q" ).render() );
+        assertThrows( IllegalFormatException.class, () -> TextTemplate.compile( "%<s" ).render( "one" ) );
+        assertThrows( IllegalArgumentException.class, () -> TextTemplate.compile( "\\q" ).render() );
+    }   //  testRenderWithInvalidPattern()
+
+    /**
+     *  Tests for
+     *  {@link TextTemplate#isStatic()}
+     *  and
+     *  {@link TextTemplate#getStaticText()}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testStatic() throws Exception
+    {
+        skipThreadTest();
+
+        final var plain = "Plain text";
+        var candidate = TextTemplate.compile( plain );
+        assertTrue( candidate.isStatic() );
+        assertSame( plain, candidate.getStaticText() );
+        assertSame( plain, candidate.render() );
+        assertSame( plain, candidate.render( "ignored" ) );
+
+        candidate = TextTemplate.compile( "100%%\\tdone%n" );
+        assertTrue( candidate.isStatic() );
+        assertEquals( format( "100%%\\tdone%n" ).translateEscapes(), candidate.getStaticText() );
+        assertSame( candidate.render(), candidate.render() );
+
+        candidate = TextTemplate.compile( "Key '%s'" );
+        assertFalse( candidate.isStatic() );
+        assertNull( candidate.getStaticText() );
+
+        candidate = TextTemplate.compile( "%q" );
+        assertFalse( candidate.isStatic() );
+        assertThrows( NullArgumentException.class, () -> TextTemplate.compile( plain ).render( (Object []) null ) );
+    }   //  testStatic()
+}
+//  class TestTextTemplate
+
+/*
+ *  End of File
+ */
\ No newline at end of file
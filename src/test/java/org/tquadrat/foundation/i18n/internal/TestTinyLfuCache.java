@@ -0,0 +1,148 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link TinyLfuCache}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestTinyLfuCache.java 1273 2026-10-17 18:31:07Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestTinyLfuCache" )
+public class TestTinyLfuCache extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the concurrent access to the cache.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConcurrency() throws Exception
+    {
+        skipThreadTest();
+
+        final var cache = new TinyLfuCache<Integer,Integer>( 500, value -> 1 + (value % 3), null );
+        final var threadCount = 8;
+        final var requestCount = 100_000;
+        try( final ExecutorService executor = Executors.newFixedThreadPool( threadCount ) )
+        {
+            for( var t = 0; t < threadCount; ++t )
+            {
+                executor.submit( () ->
+                {
+                    final var random = ThreadLocalRandom.current();
+                    for( var i = 0; i < requestCount; ++i )
+                    {
+                        final var key = (int) Math.abs( random.nextGaussian() * 400 );
+                        assertEquals( key, cache.get( key, k -> k ) );
+                        if( random.nextInt( 1000 ) == 0 ) cache.invalidate( key );
+                    }
+                    return null;
+                } );
+            }
+            executor.shutdown();
+            assertTrue( executor.awaitTermination( 1, TimeUnit.MINUTES ) );
+        }
+
+        assertTrue( cache.getWeightedSize() <= 500 );
+        assertEquals( (long) threadCount * requestCount, cache.getHitCount() + cache.getMissCount() );
+    }   //  testConcurrency()
+
+    /**
+     *  Tests that the cache does not exceed its maximum weight.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEviction() throws Exception
+    {
+        skipThreadTest();
+
+        final var evicted = new AtomicInteger();
+        final var cache = new TinyLfuCache<Integer,String>( 100, value -> 1, (key,value) -> evicted.incrementAndGet() );
+        for( var i = 0; i < 1000; ++i ) cache.put( i, "value" + i );
+        assertTrue( cache.getWeightedSize() <= 100 );
+        assertEquals( 1000 - cache.size(), evicted.get() );
+        assertEquals( evicted.get(), cache.getEvictionCount() );
+
+        final var weighted = new TinyLfuCache<Integer,String>( 1000, String::length, null );
+        for( var i = 0; i < 500; ++i ) weighted.put( i, "x".repeat( 1 + (i % 50) ) );
+        assertTrue( weighted.getWeightedSize() <= 1000 );
+
+        weighted.put( -1, "abc" );
+        weighted.invalidate( -1 );
+        assertNull( weighted.get( -1 ) );
+        weighted.invalidateAll();
+        assertEquals( 0, weighted.size() );
+        assertEquals( 0L, weighted.getWeightedSize() );
+
+        assertThrows( IllegalArgumentException.class, () -> new TinyLfuCache<Integer,String>( 0, String::length, null ) );
+    }   //  testEviction()
+
+    /**
+     *  Tests that frequently used entries survive a scan over many entries
+     *  that are used only once.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testScanResistance() throws Exception
+    {
+        skipThreadTest();
+
+        final var cache = new TinyLfuCache<Integer,String>( 100, value -> 1, null );
+        for( var round = 0; round < 20; ++round )
+        {
+            for( var i = 0; i < 50; ++i ) cache.get( i, k -> "hot" + k );
+        }
+        for( var i = 1_000; i < 20_000; ++i ) cache.get( i, k -> "cold" + k );
+
+        var retained = 0;
+        for( var i = 0; i < 50; ++i )
+        {
+            if( cache.get( i ) != null ) ++retained;
+        }
+        assertTrue( retained >= 45, "Only %d hot entries retained".formatted( retained ) );
+        assertTrue( cache.getHitCount() > 0 );
+    }   //  testScanResistance()
+}
+//  class TestTinyLfuCache
+
+/*
+ *  End of File
+ */
\ No newline at end of file
@@ -0,0 +1,146 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.i18n.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for
+ *  {@link WeakIdentityMap}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@ClassVersion( sourceVersion = "$Id: TestWeakIdentityMap.java 1298 2026-10-18 15:31:20Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.i18n.internal.TestWeakIdentityMap" )
+public class TestWeakIdentityMap extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the concurrent access to the map.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConcurrency() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new WeakIdentityMap<Object,Object>();
+        final List<Object> keys = new ArrayList<>();
+        for( var i = 0; i < 100; ++i ) keys.add( new Object() );
+        final var calls = new AtomicInteger();
+        final var threadCount = 8;
+        try( final ExecutorService executor = Executors.newFixedThreadPool( threadCount ) )
+        {
+            for( var t = 0; t < threadCount; ++t )
+            {
+                executor.submit( () ->
+                {
+                    for( var i = 0; i < 100_000; ++i )
+                    {
+                        final var key = keys.get( i % keys.size() );
+                        final var value = candidate.computeIfAbsent( key, k ->
+                        {
+                            calls.incrementAndGet();
+                            return new StringBuilder( k.toString() );
+                        } );
+                        assertEquals( key.toString(), value.toString() );
+                    }
+                    return null;
+                } );
+            }
+            executor.shutdown();
+            assertTrue( executor.awaitTermination( 1, TimeUnit.MINUTES ) );
+        }
+        assertEquals( keys.size(), calls.get() );
+        assertEquals( keys.size(), candidate.size() );
+    }   //  testConcurrency()
+
+    /**
+     *  Tests the lookup by identity.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testIdentity() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new WeakIdentityMap<String,Object>();
+        final var first = new String( "key" );
+        final var second = new String( "key" );
+        final var value = new Object();
+        assertNull( candidate.get( first ) );
+        assertSame( value, candidate.computeIfAbsent( first, k -> value ) );
+        assertSame( value, candidate.get( first ) );
+        assertSame( value, candidate.computeIfAbsent( first, k -> new Object() ) );
+        assertNull( candidate.get( second ) );
+        assertEquals( 1, candidate.size() );
+
+        assertThrows( NullArgumentException.class, () -> candidate.get( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.computeIfAbsent( first, null ) );
+    }   //  testIdentity()
+
+    /**
+     *  Tests that the entries for collected keys are removed.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWeakKeys() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new WeakIdentityMap<Object,String>();
+        final var kept = new Object();
+        candidate.computeIfAbsent( kept, k -> "kept" );
+        for( var i = 0; i < 10; ++i ) candidate.computeIfAbsent( new Object(), k -> "dropped" );
+
+        for( var i = 0; (i < 50) && (candidate.size() > 1); ++i )
+        {
+            System.gc();
+            Thread.sleep( 10L );
+        }
+        assertEquals( 1, candidate.size() );
+        assertEquals( "kept", candidate.get( kept ) );
+    }   //  testWeakKeys()
+}
+//  class TestWeakIdentityMap
+
+/*
+ *  End of File
+ */
\ No newline at end of file